@@ -7,7 +7,7 @@ plugins {
 subprojects {
   apply(plugin = "org.sonarqube")
 
-  if (name == "sample") {
+  if (name == "sample" || name == "versioncompare-benchmarks") {
     sonarqube.isSkipProject = true
   } else {
     sonarqube.properties {
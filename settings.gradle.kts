@@ -1,4 +1,4 @@
-include(":sample", ":versioncompare")
+include(":sample", ":versioncompare", ":versioncompare-benchmarks")
 
 pluginManagement {
     repositories {
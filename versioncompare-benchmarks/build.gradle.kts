@@ -0,0 +1,33 @@
+plugins {
+  java
+  id("me.champeau.jmh") version "0.6.6"
+}
+
+java {
+  sourceCompatibility = JavaVersion.VERSION_1_8
+  targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+repositories {
+  mavenCentral()
+}
+
+dependencies {
+  jmh(project(":versioncompare"))
+  jmh("org.apache.maven:maven-artifact:3.9.11")
+  jmhCompileOnly("org.jetbrains:annotations:23.0.0")
+}
+
+// run a subset with e.g. ./gradlew :versioncompare-benchmarks:jmh -Pjmh.includes=VersionParseBenchmark
+jmh {
+  jmhVersion.set("1.35")
+  (findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+  fork.set(2)
+  warmupIterations.set(3)
+  iterations.set(5)
+  // the gc profiler reports allocation rates per operation, which allows tracking allocation regressions
+  profilers.set(listOf("gc"))
+  resultFormat.set("JSON")
+  resultsFile.set(project.file("$buildDir/reports/jmh/results.json"))
+  humanOutputFile.set(project.file("$buildDir/reports/jmh/human.txt"))
+}
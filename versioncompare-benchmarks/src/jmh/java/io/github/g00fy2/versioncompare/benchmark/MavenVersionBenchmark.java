@@ -0,0 +1,97 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.MavenVersion;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MavenVersion} with Maven's {@link ComparableVersion} on versions as found in Maven repositories.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MavenVersionBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024;
+  private static final String[] QUALIFIERS = {"", "", "", "-SNAPSHOT", ".Final", ".RELEASE", "-M1", "-RC2", "-rc-1",
+    "-alpha-3", "-beta2", "-jre", "-android", ".SP1", "-1"};
+
+  private String[] versionStrings;
+  private MavenVersion[] versions;
+  private ComparableVersion[] comparableVersions;
+  private MavenVersion[] sortedVersions;
+  private ComparableVersion[] sortedComparableVersions;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    versionStrings = new String[SAMPLE_COUNT];
+    versions = new MavenVersion[SAMPLE_COUNT];
+    comparableVersions = new ComparableVersion[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      final StringBuilder sb = new StringBuilder().append(random.nextInt(6)).append('.').append(random.nextInt(20));
+      if (random.nextBoolean()) sb.append('.').append(random.nextInt(30));
+      versionStrings[i] = sb.append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]).toString();
+      versions[i] = MavenVersion.parse(versionStrings[i]);
+      comparableVersions[i] = new ComparableVersion(versionStrings[i]);
+    }
+    sortedVersions = new MavenVersion[SAMPLE_COUNT];
+    sortedComparableVersions = new ComparableVersion[SAMPLE_COUNT];
+  }
+
+  @Benchmark
+  public void parseMaven(Blackhole blackhole) {
+    for (String versionString : versionStrings) {
+      blackhole.consume(new ComparableVersion(versionString));
+    }
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) {
+    for (String versionString : versionStrings) {
+      blackhole.consume(MavenVersion.parse(versionString));
+    }
+  }
+
+  @Benchmark
+  public ComparableVersion[] sortMaven() {
+    System.arraycopy(comparableVersions, 0, sortedComparableVersions, 0, SAMPLE_COUNT);
+    Arrays.sort(sortedComparableVersions);
+    return sortedComparableVersions;
+  }
+
+  @Benchmark
+  public MavenVersion[] sort() {
+    System.arraycopy(versions, 0, sortedVersions, 0, SAMPLE_COUNT);
+    Arrays.sort(sortedVersions);
+    return sortedVersions;
+  }
+
+  @Benchmark
+  public int compareStringsMaven() {
+    int result = 0;
+    for (int i = 1; i < SAMPLE_COUNT; i++) {
+      result += new ComparableVersion(versionStrings[i - 1]).compareTo(new ComparableVersion(versionStrings[i]));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public int compareStrings() {
+    int result = 0;
+    for (int i = 1; i < SAMPLE_COUNT; i++) {
+      result += MavenVersion.compare(versionStrings[i - 1], versionStrings[i]);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.ParserEngine;
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserEngineBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024; // power of two, see parse()
+
+  @Param({"FAST", "LEGACY"})
+  public String engine;
+
+  // average number of parses per differential check, 0 disables the check and the metrics it needs
+  @Param({"0", "1000"})
+  public int differentialSampling;
+
+  private String[] versions;
+  private int index;
+
+  @Setup
+  public void setup() {
+    versions = VersionSamples.generate(VersionSamples.Kind.MIXED, SAMPLE_COUNT, 42L);
+    Version.setParserEngine(ParserEngine.valueOf(engine));
+    Version.setDifferentialSampling(differentialSampling);
+    if (differentialSampling > 0) Version.setMetrics(new VersionMetrics() {});
+  }
+
+  @TearDown
+  public void tearDown() {
+    Version.setParserEngine(ParserEngine.FAST);
+    Version.setDifferentialSampling(0);
+    Version.setMetrics(null);
+  }
+
+  @Benchmark
+  public Version parse() {
+    return new Version(versions[index++ & (SAMPLE_COUNT - 1)]);
+  }
+}
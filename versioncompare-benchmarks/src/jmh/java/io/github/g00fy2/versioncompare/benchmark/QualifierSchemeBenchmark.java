@@ -0,0 +1,51 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.QualifierScheme;
+import io.github.g00fy2.versioncompare.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse cost with custom qualifier schemes, which should not grow with the number of registered qualifiers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QualifierSchemeBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024; // power of two, see parse()
+
+  @Param({"0", "8", "256"})
+  public int qualifierCount;
+
+  @Param({"RC", "SNAPSHOT"})
+  public String kind;
+
+  private QualifierScheme scheme;
+  private String[] versions;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    final QualifierScheme.Builder builder = QualifierScheme.builder();
+    for (int i = 0; i < qualifierCount; i++) {
+      builder.add("q" + Integer.toString(i, 36) + (char) ('a' + random.nextInt(26)), -random.nextInt(60));
+    }
+    scheme = builder.build();
+    versions = VersionSamples.generate(VersionSamples.Kind.valueOf(kind), SAMPLE_COUNT, 42L);
+  }
+
+  @Benchmark
+  public Version parse() {
+    return new Version(versions[index++ & (SAMPLE_COUNT - 1)], false, scheme);
+  }
+}
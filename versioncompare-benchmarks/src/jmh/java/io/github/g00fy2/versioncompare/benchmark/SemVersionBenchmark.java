@@ -0,0 +1,73 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.SemVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating, parsing and sorting of npm style SemVer versions with pre-release identifiers and build metadata.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SemVersionBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024;
+  private static final String[] PRE_RELEASES = {"alpha", "beta", "rc", "next", "canary"};
+
+  private String[] versionStrings;
+  private SemVersion[] versions;
+  private SemVersion[] sorted;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42L);
+    versionStrings = new String[SAMPLE_COUNT];
+    versions = new SemVersion[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      final StringBuilder sb = new StringBuilder()
+        .append(random.nextInt(5)).append('.').append(random.nextInt(20)).append('.').append(random.nextInt(30));
+      if (random.nextInt(3) == 0) {
+        sb.append('-').append(PRE_RELEASES[random.nextInt(PRE_RELEASES.length)]).append('.').append(random.nextInt(12));
+      }
+      if (random.nextInt(5) == 0) {
+        sb.append("+build.").append(random.nextInt(1000));
+      }
+      versionStrings[i] = sb.toString();
+      versions[i] = SemVersion.parse(versionStrings[i]);
+    }
+    sorted = new SemVersion[SAMPLE_COUNT];
+  }
+
+  @Benchmark
+  public int isValid() {
+    int valid = 0;
+    for (String versionString : versionStrings) {
+      if (SemVersion.isValid(versionString)) valid++;
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) {
+    for (String versionString : versionStrings) {
+      blackhole.consume(SemVersion.parse(versionString));
+    }
+  }
+
+  @Benchmark
+  public SemVersion[] sort() {
+    System.arraycopy(versions, 0, sorted, 0, SAMPLE_COUNT);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+}
@@ -0,0 +1,99 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading versions from the compact binary encoding with reparsing their strings. The encoded sizes of the
+ * samples are printed once per fork, e.g. for {@code -Pjmh.includes=VersionBinaryBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionBinaryBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024;
+
+  private Version[] versions;
+  private ByteBuffer binary;
+  private ByteBuffer binaryWithOriginalString;
+  private ByteBuffer text;
+
+  @Setup
+  public void setup() {
+    final String[] versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, SAMPLE_COUNT, 42L);
+    versions = new Version[SAMPLE_COUNT];
+    int binaryLength = 0;
+    int binaryWithOriginalStringLength = 0;
+    final StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      versions[i] = new Version(versionStrings[i]);
+      binaryLength += versions[i].getBinaryLength(false);
+      binaryWithOriginalStringLength += versions[i].getBinaryLength(true);
+      lines.append(versions[i]).append('\n');
+    }
+    binary = ByteBuffer.allocate(binaryLength);
+    binaryWithOriginalString = ByteBuffer.allocate(binaryWithOriginalStringLength);
+    for (Version version : versions) {
+      version.writeTo(binary, false);
+      version.writeTo(binaryWithOriginalString, true);
+    }
+    text = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    System.out.printf("%nbytes per version: binary %.1f, binary with original string %.1f, text line %.1f%n",
+      binaryLength / (double) SAMPLE_COUNT, binaryWithOriginalStringLength / (double) SAMPLE_COUNT,
+      text.capacity() / (double) SAMPLE_COUNT);
+  }
+
+  @Benchmark
+  public void writeBinary() {
+    binary.clear();
+    for (Version version : versions) {
+      version.writeTo(binary, false);
+    }
+  }
+
+  @Benchmark
+  public void readBinary(Blackhole blackhole) {
+    binary.rewind();
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      blackhole.consume(Version.readFrom(binary));
+    }
+  }
+
+  @Benchmark
+  public void readBinaryWithOriginalString(Blackhole blackhole) {
+    binaryWithOriginalString.rewind();
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      blackhole.consume(Version.readFrom(binaryWithOriginalString));
+    }
+  }
+
+  @Benchmark
+  public void writeText(Blackhole blackhole) {
+    for (Version version : versions) {
+      blackhole.consume(version.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Benchmark
+  public void readText(Blackhole blackhole) {
+    final byte[] bytes = text.array();
+    int lineStart = 0;
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] == '\n') {
+        blackhole.consume(new Version(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8)));
+        lineStart = i + 1;
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class VersionCacheBenchmark {
+
+  private static final int SAMPLE_COUNT = 256; // power of two, see isAtLeastCached()
+
+  private String[] gates;
+  private Version version;
+
+  @Setup
+  public void setup() {
+    // a few hundred literal feature gates, all fitting into the cache
+    gates = VersionSamples.generate(VersionSamples.Kind.MIXED, SAMPLE_COUNT, 42L);
+    version = new Version("3.2.0");
+    Version.setSharedCache(new VersionCache(1024));
+  }
+
+  @TearDown
+  public void tearDown() {
+    Version.setSharedCache(null);
+  }
+
+  @State(Scope.Thread)
+  public static class Counter {
+    int index;
+  }
+
+  @Benchmark
+  public boolean isAtLeastCached(Counter counter) {
+    return version.isAtLeast(gates[counter.index++ & (SAMPLE_COUNT - 1)]);
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionColumn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares batch queries of {@link VersionColumn} with the same queries as loops over Version objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionColumnBenchmark {
+
+  @Param({"100000"})
+  public int size;
+
+  private Version[] versions;
+  private VersionColumn column;
+  private Version bound;
+
+  @Setup
+  public void setup() {
+    final String[] versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, size, 42L);
+    versions = new Version[size];
+    column = new VersionColumn(size);
+    for (int i = 0; i < size; i++) {
+      versions[i] = new Version(versionStrings[i]);
+      column.add(versions[i]);
+    }
+    bound = versions[size / 2];
+  }
+
+  @Benchmark
+  public BitSet objectsFilterAtLeast() {
+    final BitSet result = new BitSet(versions.length);
+    for (int i = 0; i < versions.length; i++) {
+      if (versions[i].isAtLeast(bound)) result.set(i);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public BitSet columnFilterAtLeast() {
+    return column.filterAtLeast(bound);
+  }
+
+  @Benchmark
+  public int objectsCountBelow() {
+    int count = 0;
+    for (Version version : versions) {
+      if (version.isLowerThan(bound)) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int columnCountBelow() {
+    return column.countBelow(bound);
+  }
+}
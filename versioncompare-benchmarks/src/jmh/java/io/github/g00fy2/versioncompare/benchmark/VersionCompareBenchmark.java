@@ -0,0 +1,94 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VersionCompareBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024; // power of two, see compareTo()
+
+  private String[] versionStrings;
+  private String[] equalVersionStrings;
+  private Version[] versions;
+  private Version[] equalVersions;
+  private int index;
+
+  @Setup
+  public void setup() {
+    versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, SAMPLE_COUNT, 42L);
+    equalVersionStrings = new String[SAMPLE_COUNT];
+    versions = new Version[SAMPLE_COUNT];
+    equalVersions = new Version[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      // equal but not identical strings, like versions read from different sources
+      equalVersionStrings[i] = new String(versionStrings[i].toCharArray());
+      versions[i] = new Version(versionStrings[i]);
+      // logically equal but not identical, so equals has to do the full comparison
+      equalVersions[i] = new Version(versionStrings[i] + ".0");
+    }
+  }
+
+  @Benchmark
+  public int compareTo() {
+    final int i = index++;
+    return versions[i & (SAMPLE_COUNT - 1)].compareTo(versions[(i + 1) & (SAMPLE_COUNT - 1)]);
+  }
+
+  @Benchmark
+  public boolean isAtLeastString() {
+    final int i = index++;
+    return versions[i & (SAMPLE_COUNT - 1)].isAtLeast(versionStrings[(i + 1) & (SAMPLE_COUNT - 1)]);
+  }
+
+  @Benchmark
+  public int hashCodeOf() {
+    return versions[index++ & (SAMPLE_COUNT - 1)].hashCode();
+  }
+
+  @Benchmark
+  public boolean equalsEqual() {
+    final int i = index++ & (SAMPLE_COUNT - 1);
+    return versions[i].equals(equalVersions[i]);
+  }
+
+  @Benchmark
+  public boolean equalsDifferent() {
+    final int i = index++;
+    return versions[i & (SAMPLE_COUNT - 1)].equals(versions[(i + 1) & (SAMPLE_COUNT - 1)]);
+  }
+
+  @Benchmark
+  public boolean parseAndEqualsEager() {
+    final int i = index++ & (SAMPLE_COUNT - 1);
+    return new Version(versionStrings[i]).equals(new Version(equalVersionStrings[i]));
+  }
+
+  @Benchmark
+  public boolean parseAndEqualsLazy() {
+    final int i = index++ & (SAMPLE_COUNT - 1);
+    return Version.lazy(versionStrings[i]).equals(Version.lazy(equalVersionStrings[i]));
+  }
+
+  @Benchmark
+  public int parseAndCompareTo() {
+    final int i = index++;
+    return new Version(versionStrings[i & (SAMPLE_COUNT - 1)])
+      .compareTo(new Version(versionStrings[(i + 1) & (SAMPLE_COUNT - 1)]));
+  }
+
+  @Benchmark
+  public int compareStrings() {
+    final int i = index++;
+    return Version.compare(versionStrings[i & (SAMPLE_COUNT - 1)], versionStrings[(i + 1) & (SAMPLE_COUNT - 1)]);
+  }
+}
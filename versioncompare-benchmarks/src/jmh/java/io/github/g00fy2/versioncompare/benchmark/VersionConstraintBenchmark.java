@@ -0,0 +1,49 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionConstraint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VersionConstraintBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024; // power of two, see next()
+
+  private Version[] versions;
+  private VersionConstraint constraint;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final String[] versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, SAMPLE_COUNT, 42L);
+    versions = new Version[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      versions[i] = new Version(versionStrings[i]);
+    }
+    constraint = VersionConstraint.compile(">=1.2 <2.0 || ~3.4 || ^5 || [10.0,12.0),[15.0,)");
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return constraint.matches(next());
+  }
+
+  @Benchmark
+  public boolean isAtLeastAndIsLowerThan() {
+    final Version version = next();
+    return version.isAtLeast("1.2") && version.isLowerThan("2.0");
+  }
+
+  private Version next() {
+    return versions[index++ & (SAMPLE_COUNT - 1)];
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionInterner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interning of versions which mostly exist already, like the edges of a dependency graph referencing few distinct
+ * versions. The estimated heap saved by interning the samples is printed once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionInternerBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024;
+  private static final int DISTINCT_COUNT = 128;
+
+  private Version[] versions;
+  private VersionInterner interner;
+  // keeps the canonical versions reachable
+  private Version[] canonicalVersions;
+
+  @Setup
+  public void setup() {
+    final String[] versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, DISTINCT_COUNT, 42L);
+    versions = new Version[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      versions[i] = new Version(new String(versionStrings[i % DISTINCT_COUNT]));
+    }
+    interner = new VersionInterner();
+    canonicalVersions = new Version[SAMPLE_COUNT];
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      canonicalVersions[i] = interner.intern(versions[i]);
+    }
+    System.out.printf("%nestimated bytes saved per version: %.1f%n",
+      interner.getEstimatedBytesSaved() / (double) SAMPLE_COUNT);
+  }
+
+  @Benchmark
+  public void intern(Blackhole blackhole) {
+    for (Version version : versions) {
+      blackhole.consume(interner.intern(version));
+    }
+  }
+
+  @Benchmark
+  public void parseAndIntern(Blackhole blackhole) {
+    for (Version version : versions) {
+      blackhole.consume(interner.intern(version.getOriginalString()));
+    }
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) {
+    for (Version version : versions) {
+      blackhole.consume(new Version(version.getOriginalString()));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link VersionMap} with a {@link HashMap} keyed by versions. Lookups use logically equal but not identical
+ * keys, like versions parsed from different sources.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VersionMapBenchmark {
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  private Version[] keys;
+  private Version[] lookupKeys;
+  private Map<Version, Integer> hashMap;
+  private VersionMap<Integer> versionMap;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final String[] versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, size, 42L);
+    keys = new Version[size];
+    lookupKeys = new Version[size];
+    hashMap = new HashMap<>();
+    versionMap = new VersionMap<>();
+    for (int i = 0; i < size; i++) {
+      keys[i] = new Version(versionStrings[i]);
+      lookupKeys[i] = new Version(versionStrings[i]);
+      hashMap.put(keys[i], i);
+      versionMap.put(keys[i], i);
+    }
+  }
+
+  @Benchmark
+  public Integer hashMapGet() {
+    return hashMap.get(lookupKeys[nextIndex()]);
+  }
+
+  @Benchmark
+  public Integer versionMapGet() {
+    return versionMap.get(lookupKeys[nextIndex()]);
+  }
+
+  @Benchmark
+  public Map<Version, Integer> hashMapPut() {
+    final Map<Version, Integer> map = new HashMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      map.put(keys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public Map<Version, Integer> versionMapPut() {
+    final Map<Version, Integer> map = new VersionMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      map.put(keys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public void hashMapIterate(Blackhole blackhole) {
+    hashMap.forEach((version, value) -> blackhole.consume(value));
+  }
+
+  @Benchmark
+  public void versionMapIterate(Blackhole blackhole) {
+    versionMap.forEach((version, value) -> blackhole.consume(value));
+  }
+
+  private int nextIndex() {
+    final int i = index++;
+    if (index == keys.length) index = 0;
+    return i;
+  }
+}
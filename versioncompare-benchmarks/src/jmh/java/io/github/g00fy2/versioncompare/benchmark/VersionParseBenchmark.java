@@ -0,0 +1,63 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VersionParseBenchmark {
+
+  private static final int SAMPLE_COUNT = 1024; // power of two, see next()
+
+  @Param({"PLAIN", "LONG", "RC", "SNAPSHOT", "GARBAGE"})
+  public String kind;
+
+  private String[] versions;
+  // all versions concatenated as ASCII bytes, like fields of a network buffer
+  private byte[] buffer;
+  private int[] offsets;
+  private int index;
+
+  @Setup
+  public void setup() {
+    versions = VersionSamples.generate(VersionSamples.Kind.valueOf(kind), SAMPLE_COUNT, 42L);
+    offsets = new int[SAMPLE_COUNT + 1];
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < SAMPLE_COUNT; i++) {
+      text.append(versions[i]);
+      offsets[i + 1] = text.length();
+    }
+    buffer = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  @Benchmark
+  public Version parse() {
+    return new Version(next());
+  }
+
+  @Benchmark
+  public Version parseAsciiViaString() {
+    final int i = index++ & (SAMPLE_COUNT - 1);
+    return new Version(new String(buffer, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.ISO_8859_1));
+  }
+
+  @Benchmark
+  public Version parseAscii() {
+    final int i = index++ & (SAMPLE_COUNT - 1);
+    return Version.parseAscii(buffer, offsets[i], offsets[i + 1] - offsets[i]);
+  }
+
+  private String next() {
+    return versions[index++ & (SAMPLE_COUNT - 1)];
+  }
+}
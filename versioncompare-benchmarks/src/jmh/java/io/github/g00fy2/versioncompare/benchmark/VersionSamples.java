@@ -0,0 +1,68 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Random;
+
+/**
+ * Generates reproducible version strings of the shapes that are commonly fed into the library.
+ */
+final class VersionSamples {
+
+  private VersionSamples() {
+    // utility class should not be instantiated
+  }
+
+  private static final String[] QUALIFIERS = {"-rc", "-beta", "-alpha", "-pre-alpha", "-SNAPSHOT", "-RC", ".Final"};
+
+  enum Kind {
+    PLAIN, // 1.2.3
+    LONG, // 12.4.567.3.1024
+    RC, // 1.2.3-rc1
+    SNAPSHOT, // 1.2.3-SNAPSHOT
+    GARBAGE, // x1.2, empty and whitespace
+    MIXED // all of the above
+  }
+
+  @NotNull
+  static String[] generate(@NotNull Kind kind, int count, long seed) {
+    final Random random = new Random(seed);
+    final String[] versions = new String[count];
+    for (int i = 0; i < count; i++) {
+      versions[i] = generate(kind, random);
+    }
+    return versions;
+  }
+
+  @NotNull
+  private static String generate(@NotNull Kind kind, @NotNull Random random) {
+    switch (kind) {
+      case PLAIN:
+        return random.nextInt(20) + "." + random.nextInt(50) + "." + random.nextInt(100);
+      case LONG:
+        return random.nextInt(100) + "." + random.nextInt(1000) + "." + random.nextInt(10000) + "." +
+          random.nextInt(100) + "." + (1000 + random.nextInt(100000));
+      case RC:
+        return generate(Kind.PLAIN, random) + "-rc" + (1 + random.nextInt(5));
+      case SNAPSHOT:
+        return generate(Kind.PLAIN, random) + "-SNAPSHOT";
+      case GARBAGE:
+        switch (random.nextInt(4)) {
+          case 0:
+            return "x" + generate(Kind.PLAIN, random);
+          case 1:
+            return "";
+          case 2:
+            return "  ";
+          default:
+            return "release-" + random.nextInt(100);
+        }
+      default:
+        final int shape = random.nextInt(10);
+        if (shape < 5) return generate(Kind.PLAIN, random);
+        if (shape < 7) return generate(Kind.PLAIN, random) + QUALIFIERS[random.nextInt(QUALIFIERS.length)] +
+          (random.nextBoolean() ? random.nextInt(10) : "");
+        if (shape < 9) return generate(Kind.LONG, random);
+        return generate(Kind.GARBAGE, random);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.Versions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class VersionSortBenchmark {
+
+  @Param("1000000")
+  public int size;
+
+  private String[] versionStrings;
+  private List<Version> versions;
+
+  @Setup
+  public void setup() {
+    versionStrings = VersionSamples.generate(VersionSamples.Kind.MIXED, size, 42L);
+    versions = new ArrayList<>(size);
+    for (String versionString : versionStrings) {
+      versions.add(new Version(versionString));
+    }
+  }
+
+  @Benchmark
+  public List<Version> sortParsed() {
+    final List<Version> copy = new ArrayList<>(versions);
+    Collections.sort(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public List<Version> parseAndSort() {
+    final List<Version> parsed = new ArrayList<>(versionStrings.length);
+    for (String versionString : versionStrings) {
+      parsed.add(new Version(versionString));
+    }
+    Collections.sort(parsed);
+    return parsed;
+  }
+
+  @Benchmark
+  public String[] sortStrings() {
+    final String[] copy = versionStrings.clone();
+    Arrays.sort(copy, (a, b) -> new Version(a).compareTo(new Version(b)));
+    return copy;
+  }
+
+  @Benchmark
+  public String[] versionsSort() {
+    return Versions.sort(versionStrings);
+  }
+
+  @Benchmark
+  public String[] versionsSortDistinct() {
+    return Versions.sortDistinct(versionStrings);
+  }
+
+  @Benchmark
+  public Version parseAndMax() {
+    Version max = null;
+    for (String versionString : versionStrings) {
+      final Version version = new Version(versionString);
+      if (max == null || version.compareTo(max) > 0) max = version;
+    }
+    return max;
+  }
+
+  @Benchmark
+  public String versionsMax() {
+    return Versions.max(Arrays.asList(versionStrings));
+  }
+
+  @Benchmark
+  public List<String> versionsTopK() {
+    return Versions.topK(Arrays.asList(versionStrings), 10);
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.g00fy2.versioncompare.benchmark;
+
+import io.github.g00fy2.versioncompare.Version;
+import io.github.g00fy2.versioncompare.VersionTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class VersionTrieBenchmark {
+
+  @Param("100000")
+  public int size;
+
+  private List<Version> versions;
+  private VersionTrie trie;
+
+  @Setup
+  public void setup() {
+    versions = new ArrayList<>(size);
+    for (String versionString : VersionSamples.generate(VersionSamples.Kind.MIXED, size, 42L)) {
+      versions.add(new Version(versionString));
+    }
+    trie = new VersionTrie(versions);
+  }
+
+  @Benchmark
+  public int trieCount() {
+    return trie.count(5, 10);
+  }
+
+  @Benchmark
+  public int scanCount() {
+    int count = 0;
+    for (Version version : versions) {
+      final List<Long> numbers = version.getSubversionNumbers();
+      if (numbers.size() >= 2 && numbers.get(0) == 5 && numbers.get(1) == 10) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public List<Version> trieLatestPerLine() {
+    return trie.latestPerLine(2, 5);
+  }
+
+  @Benchmark
+  public List<Version> trieWithPrefix() {
+    return trie.withPrefix(5, 10);
+  }
+
+  @Benchmark
+  public VersionTrie build() {
+    return new VersionTrie(versions);
+  }
+}
@@ -10,6 +10,24 @@ java {
   targetCompatibility = JavaVersion.VERSION_1_8
 }
 
+// classes in src/main/java17 replace their Java 8 baseline on Java 17 and later (multi-release JAR)
+val java17: SourceSet by sourceSets.creating {
+  compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+  options.release.set(17)
+}
+
+tasks.jar {
+  into("META-INF/versions/17") {
+    from(java17.output)
+  }
+  manifest {
+    attributes("Multi-Release" to "true")
+  }
+}
+
 jacoco {
   toolVersion = "0.8.8"
 }
@@ -19,6 +37,18 @@ tasks.test {
   finalizedBy(tasks.jacocoTestReport)
 }
 
+// runs all tests again with the Java 17 classes taking precedence, like the multi-release JAR on Java 17
+val java17Test by tasks.registering(Test::class) {
+  testClassesDirs = sourceSets.test.get().output.classesDirs
+  classpath = java17.output + sourceSets.test.get().runtimeClasspath
+  systemProperty("versioncompare.featureVersion", "17")
+  testLogging.events("failed", "skipped")
+}
+
+tasks.check {
+  dependsOn(java17Test)
+}
+
 tasks.jacocoTestReport {
   reports {
     xml.required.set(true)
@@ -35,6 +65,8 @@ dependencies {
 
   testImplementation("junit:junit:4.13.2")
   testImplementation("nl.jqno.equalsverifier:equalsverifier:3.10")
+  // reference implementation for the differential tests of MavenVersion
+  testImplementation("org.apache.maven:maven-artifact:3.9.11")
 }
 
 group = "io.github.g00fy2"
@@ -50,6 +82,10 @@ tasks.register<Jar>("javadocJar") {
 tasks.register<Jar>("sourcesJar") {
   archiveClassifier.set("sources")
   from(sourceSets.getByName("main").java.srcDirs)
+  // same layout as the multi-release JAR, so IDEs attach the Java 17 sources to the Java 17 classes
+  from(java17.java.srcDirs) {
+    into("META-INF/versions/17")
+  }
 }
 
 artifacts {
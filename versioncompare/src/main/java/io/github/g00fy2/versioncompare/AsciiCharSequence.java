@@ -0,0 +1,86 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only view on single byte characters of a byte array or byte buffer. Bytes are mapped to chars like
+ * ISO-8859-1 does, which is exact for ASCII. No bytes are copied until {@link #toString()} is called.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+  @Nullable
+  private final byte[] bytes;
+  @Nullable
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int length;
+
+  AsciiCharSequence(@NotNull byte[] bytes, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > bytes.length - length) {
+      throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+        ") out of bounds for length " + bytes.length);
+    }
+    this.bytes = bytes;
+    this.buffer = null;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  // absolute range of the buffer, which must not be modified by anyone else
+  AsciiCharSequence(@NotNull ByteBuffer buffer, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+      throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+        ") out of bounds for limit " + buffer.limit());
+    }
+    if (buffer.hasArray()) {
+      this.bytes = buffer.array();
+      this.buffer = null;
+      this.offset = buffer.arrayOffset() + offset;
+    } else {
+      this.bytes = null;
+      this.buffer = buffer;
+      this.offset = offset;
+    }
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return (char) ((bytes != null ? bytes[offset + index] : buffer.get(offset + index)) & 0xFF);
+  }
+
+  @NotNull
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+    }
+    return bytes != null
+      ? new AsciiCharSequence(bytes, offset + start, end - start)
+      : new AsciiCharSequence(buffer, offset + start, end - start);
+  }
+
+  @NotNull
+  @Override
+  public String toString() {
+    if (bytes != null) {
+      return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+    final byte[] copy = new byte[length];
+    for (int i = 0; i < length; i++) {
+      copy[i] = buffer.get(offset + i);
+    }
+    return new String(copy, StandardCharsets.ISO_8859_1);
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A read-only view on a range of a char array or another CharSequence. Unlike {@link String#subSequence(int, int)}
+ * no chars are copied until {@link #toString()} is called.
+ */
+final class CharSequenceSlice implements CharSequence {
+
+  @Nullable
+  private final char[] chars;
+  @Nullable
+  private final CharSequence text;
+  private final int offset;
+  private final int length;
+
+  CharSequenceSlice(@NotNull char[] chars, int offset, int length) {
+    checkRange(offset, length, chars.length);
+    this.chars = chars;
+    this.text = null;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  CharSequenceSlice(@NotNull CharSequence text, int offset, int length) {
+    checkRange(offset, length, text.length());
+    if (text instanceof CharSequenceSlice) {
+      final CharSequenceSlice slice = (CharSequenceSlice) text;
+      this.chars = slice.chars;
+      this.text = slice.text;
+      this.offset = slice.offset + offset;
+    } else {
+      this.chars = null;
+      this.text = text;
+      this.offset = offset;
+    }
+    this.length = length;
+  }
+
+  private static void checkRange(int offset, int length, int sourceLength) {
+    if (offset < 0 || length < 0 || offset > sourceLength - length) {
+      throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+        ") out of bounds for length " + sourceLength);
+    }
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    return chars != null ? chars[offset + index] : text.charAt(offset + index);
+  }
+
+  @NotNull
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+    }
+    return new CharSequenceSlice(this, start, end - start);
+  }
+
+  @NotNull
+  @Override
+  public String toString() {
+    if (chars != null) {
+      return new String(chars, offset, length);
+    }
+    if (text instanceof String) {
+      return ((String) text).substring(offset, offset + length);
+    }
+    return new StringBuilder(length).append(text, offset, offset + length).toString();
+  }
+}
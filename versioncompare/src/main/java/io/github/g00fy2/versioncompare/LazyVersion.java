@@ -0,0 +1,57 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Version object that only keeps the version string and parses it on first use. All values are read from the
+ * parsed Version object returned by {@link #parsed()}.
+ */
+final class LazyVersion extends Version {
+
+  @Nullable
+  private final String versionString;
+  @NotNull
+  private final QualifierScheme qualifierScheme;
+  @Nullable
+  private Version parsed;
+
+  LazyVersion(@Nullable String versionString, @NotNull QualifierScheme qualifierScheme) {
+    this.versionString = versionString;
+    this.qualifierScheme = qualifierScheme;
+  }
+
+  // equal strings parsed with the same scheme are equal versions, so neither needs to be parsed
+  static boolean haveEqualSource(@NotNull Version a, @NotNull Version b) {
+    if (a instanceof LazyVersion && b instanceof LazyVersion) {
+      final LazyVersion lazyA = (LazyVersion) a;
+      final LazyVersion lazyB = (LazyVersion) b;
+      return lazyA.qualifierScheme == lazyB.qualifierScheme && lazyA.versionString != null
+        && lazyA.versionString.equals(lazyB.versionString);
+    }
+    return false;
+  }
+
+  @NotNull
+  @Override
+  Version parsed() {
+    Version result = parsed;
+    if (result == null) {
+      // racy single-check without locking, the parsed Version object only has final values and is safe to publish
+      parsed = result = new Version(versionString, false, qualifierScheme);
+    }
+    return result;
+  }
+
+  @Nullable
+  @Override
+  public String getOriginalString() {
+    return versionString;
+  }
+
+  @NotNull
+  @Override
+  public QualifierScheme getQualifierScheme() {
+    return qualifierScheme;
+  }
+}
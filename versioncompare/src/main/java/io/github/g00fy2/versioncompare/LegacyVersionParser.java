@@ -0,0 +1,183 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The original parser of {@link ParserEngine#LEGACY}, which splits the version string with regular expressions and
+ * classifies the suffix with string searches. It is kept unchanged apart from returning a Version object, so it must
+ * not be optimized.
+ */
+final class LegacyVersionParser {
+
+  private LegacyVersionParser() {
+    // utility class should not be instantiated
+  }
+
+  // supported PreRelease suffixes
+  private static final String SNAPSHOT_STRING = "snapshot";
+  private static final String PRE_STRING = "pre";
+  private static final String ALPHA_STRING = "alpha";
+  private static final String BETA_STRING = "beta";
+  private static final String RC_STRING = "rc";
+
+  /**
+   * Parses {@code versionText}, invalid versions get default values. The qualifier of the default scheme is
+   * classified by the original rules, other schemes classify the suffix found by the original rules.
+   */
+  @NotNull
+  static Version parse(@Nullable CharSequence versionText, @NotNull QualifierScheme qualifierScheme) {
+    final String originalString = versionText != null ? versionText.toString() : null;
+    final List<Long> subversionNumbers = new ArrayList<>();
+    final String suffix;
+    if (originalString != null && startsNumeric(originalString)) {
+      String[] versionTokens = originalString.replaceAll("\\s", "").split("\\.");
+      boolean suffixFound = false;
+      StringBuilder suffixSb = null;
+
+      for (String versionToken : versionTokens) {
+        if (suffixFound) {
+          suffixSb.append(".");
+          suffixSb.append(versionToken);
+        } else if (isNumeric(versionToken)) {
+          subversionNumbers.add(safeParseLong(versionToken));
+        } else {
+          for (int i = 0; i < versionToken.length(); i++) {
+            if (!Character.isDigit(versionToken.charAt(i))) {
+              suffixSb = new StringBuilder();
+              if (i > 0) {
+                subversionNumbers.add(safeParseLong(versionToken.substring(0, i)));
+                suffixSb.append(versionToken.substring(i));
+              } else {
+                suffixSb.append(versionToken);
+              }
+              suffixFound = true;
+              break;
+            }
+          }
+        }
+      }
+      suffix = (suffixSb != null) ? suffixSb.toString() : "";
+    } else {
+      suffix = "";
+    }
+    final List<Long> trimmedSubversionNumbers = new ArrayList<>(subversionNumbers);
+    while (!trimmedSubversionNumbers.isEmpty() &&
+      trimmedSubversionNumbers.lastIndexOf(0L) == trimmedSubversionNumbers.size() - 1) {
+      trimmedSubversionNumbers.remove(trimmedSubversionNumbers.lastIndexOf(0L));
+    }
+    final long[] trimmed = trimmedSubversionNumbers.isEmpty() ? VersionComparator.EMPTY_NUMBERS
+      : new long[trimmedSubversionNumbers.size()];
+    for (int i = 0; i < trimmed.length; i++) {
+      trimmed[i] = trimmedSubversionNumbers.get(i);
+    }
+
+    final int qualifierRank;
+    final long preReleaseVersion;
+    if (qualifierScheme == QualifierScheme.DEFAULT) {
+      final ReleaseType releaseType = qualifierToReleaseType(suffix);
+      qualifierRank = releaseType.getRank();
+      preReleaseVersion = preReleaseVersion(suffix, releaseType);
+    } else {
+      final long qualifier = qualifierScheme.classify(suffix);
+      qualifierRank = QualifierScheme.rank(qualifier);
+      preReleaseVersion = QualifierScheme.preReleaseVersion(suffix, qualifier);
+    }
+    return new Version(versionText, trimmed, subversionNumbers.size(), suffix, qualifierRank, preReleaseVersion,
+      qualifierScheme);
+  }
+
+  @NotNull
+  private static ReleaseType qualifierToReleaseType(@NotNull String suffix) {
+    if (suffix.length() > 0) {
+      suffix = suffix.toLowerCase();
+      if (suffix.contains(RC_STRING)) return ReleaseType.RC;
+      if (suffix.contains(BETA_STRING)) return ReleaseType.BETA;
+      if (suffix.contains(ALPHA_STRING)) {
+        if (suffix.substring(0, suffix.indexOf(ALPHA_STRING)).contains(PRE_STRING)) {
+          return ReleaseType.PRE_ALPHA;
+        } else {
+          return ReleaseType.ALPHA;
+        }
+      }
+      if (suffix.contains(SNAPSHOT_STRING)) return ReleaseType.SNAPSHOT;
+    }
+    return ReleaseType.STABLE;
+  }
+
+  private static long preReleaseVersion(@NotNull final String suffix, final ReleaseType releaseType) {
+    if (releaseType == ReleaseType.STABLE || releaseType == ReleaseType.SNAPSHOT) return 0;
+
+    final int startIndex = indexOfQualifier(suffix, releaseType);
+    if (startIndex < suffix.length()) {
+      final int maxStartIndex = Math.min(startIndex + 2, suffix.length());
+      if (containsNumeric(suffix.substring(startIndex, maxStartIndex))) {
+        final StringBuilder versionNumber = new StringBuilder();
+        for (int i = startIndex; i < suffix.length(); i++) {
+          final char c = suffix.charAt(i);
+          if (Character.isDigit(c)) {
+            versionNumber.append(c);
+          } else if (i != startIndex) {
+            break;
+          }
+        }
+        return safeParseLong(versionNumber.toString());
+      }
+    }
+    return 0;
+  }
+
+  private static int indexOfQualifier(@NotNull String suffix, final ReleaseType releaseType) {
+    suffix = suffix.toLowerCase();
+    switch (releaseType) {
+      case RC:
+        return suffix.indexOf(RC_STRING) + RC_STRING.length();
+      case BETA:
+        return suffix.indexOf(BETA_STRING) + BETA_STRING.length();
+      case ALPHA:
+      case PRE_ALPHA:
+        return suffix.indexOf(ALPHA_STRING) + ALPHA_STRING.length();
+      default:
+        return 0;
+    }
+  }
+
+  private static boolean startsNumeric(@NotNull String str) {
+    str = str.trim();
+    return str.length() > 0 && Character.isDigit(str.charAt(0));
+  }
+
+  private static long safeParseLong(@NotNull String numbers) {
+    if (numbers.length() > 19) {
+      numbers = numbers.substring(0, 19);
+    }
+    return Long.parseLong(numbers);
+  }
+
+  private static boolean isNumeric(@NotNull final CharSequence cs) {
+    final int sz = cs.length();
+    if (sz > 0) {
+      for (int i = 0; i < sz; i++) {
+        if (!Character.isDigit(cs.charAt(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean containsNumeric(@NotNull final CharSequence cs) {
+    final int sz = cs.length();
+    if (sz > 0) {
+      for (int i = 0; i < sz; i++) {
+        if (Character.isDigit(cs.charAt(i))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
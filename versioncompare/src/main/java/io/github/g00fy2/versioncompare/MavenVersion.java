@@ -0,0 +1,465 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * A version ordered like Maven's {@code org.apache.maven.artifact.versioning.ComparableVersion} (Maven 3.9), e.g. to
+ * sort artifact versions the same way Maven resolves them.
+ * <p>
+ * Maven splits the lower case version string at dots, hyphens and transitions between digits and letters into numbers
+ * and qualifiers, where a hyphen or a transition starts a nested list. Trailing zeros and release qualifiers of every
+ * list are ignored. Qualifiers are ordered {@code alpha < beta < milestone < rc < snapshot < "" < sp}, where
+ * {@code ga}, {@code final} and {@code release} equal the empty qualifier, {@code cr} equals {@code rc} and {@code a},
+ * {@code b} and {@code m} directly followed by a number are short for alpha, beta and milestone. Unknown qualifiers
+ * are higher than {@code sp} and ordered alphabetically. Numbers are higher than nested lists, which are higher than
+ * qualifiers.
+ * <p>
+ * Unlike Maven, which builds a tree of item objects, the items are stored as one flat array of tokens. A nested list
+ * is always the last item of its enclosing list, so it is marked by a token and ends with the array. Comparing walks
+ * both arrays side by side and neither allocates nor recurses.
+ */
+public final class MavenVersion implements Comparable<MavenVersion> {
+
+  /**
+   * Orders version strings like their MavenVersion objects without keeping them.
+   *
+   * @see #compare(CharSequence versionA, CharSequence versionB)
+   */
+  @NotNull
+  public static final Comparator<CharSequence> STRING_ORDER = MavenVersion::compare;
+
+  // the tokens after this one up to the end of the array form a list, which is the last item of the enclosing list
+  private static final long LIST = -1L;
+  // numbers are non-negative: the item class like Maven's (by digit count) in bits 60-61, then the value or the range
+  // of the digits of a big integer within the text
+  private static final int CLASS_SHIFT = 60;
+  private static final long VALUE_MASK = (1L << CLASS_SHIFT) - 1;
+  private static final long LONG_ITEM = 1L << CLASS_SHIFT;
+  private static final long BIG_INTEGER_ITEM = 2L << CLASS_SHIFT;
+  private static final int MAX_INT_DIGITS = 9;
+  private static final int MAX_LONG_DIGITS = 18;
+  // qualifiers are negative: the rank in bits 60-62, unknown qualifiers also store their range within the text
+  private static final long QUALIFIER = Long.MIN_VALUE;
+  private static final String[] QUALIFIERS = {"alpha", "beta", "milestone", "rc", "snapshot", "", "sp"};
+  private static final int RELEASE_RANK = 5;
+  private static final int UNKNOWN_RANK = 7;
+  private static final int OFFSET_BITS = 30;
+  private static final int MAX_LENGTH = (1 << OFFSET_BITS) - 1;
+
+  @NotNull
+  private final String originalString;
+  // the lower case string, which the ranges of big integers and unknown qualifiers refer to
+  @NotNull
+  private final String text;
+  @NotNull
+  private final long[] tokens;
+  private final int hashCode;
+
+  private MavenVersion(@NotNull String originalString, @NotNull String text) {
+    this.originalString = originalString;
+    this.text = text;
+    final Tokens tokens = tokenize(text);
+    this.tokens = Arrays.copyOf(tokens.tokens, tokens.size);
+    this.hashCode = calculateHashCode();
+  }
+
+  /**
+   * Parses a version string like Maven's {@code new ComparableVersion(versionString)}. Every string is a valid version.
+   *
+   * @param versionString the string representing the version.
+   * @return the MavenVersion object representing {@code versionString}.
+   * @throws IllegalArgumentException if {@code versionString} is longer than 2^30 - 1 chars.
+   */
+  @NotNull
+  public static MavenVersion parse(@NotNull CharSequence versionString) {
+    final String str = versionString.toString();
+    return new MavenVersion(str, lowerCase(str));
+  }
+
+  /**
+   * Compares two version strings like {@code MavenVersion.parse(versionA).compareTo(MavenVersion.parse(versionB))},
+   * which agrees with Maven's {@code ComparableVersion}. Null strings are handled like empty strings.
+   *
+   * @param versionA the first version string.
+   * @param versionB the second version string.
+   * @return -1, 0 or 1 if {@code versionA} is lower than, equal to or higher than {@code versionB}.
+   * @throws IllegalArgumentException if a version string is longer than 2^30 - 1 chars.
+   * @see #STRING_ORDER
+   */
+  public static int compare(@Nullable CharSequence versionA, @Nullable CharSequence versionB) {
+    final String textA = lowerCase(versionA != null ? versionA.toString() : "");
+    final String textB = lowerCase(versionB != null ? versionB.toString() : "");
+    final Tokens tokensA = tokenize(textA);
+    final Tokens tokensB = tokenize(textB);
+    return compareTokens(textA, tokensA.tokens, tokensA.size, textB, tokensB.tokens, tokensB.size);
+  }
+
+  /**
+   * Returns the initial string.
+   *
+   * @return the unmodified initial string.
+   */
+  @NotNull
+  public String getOriginalString() {
+    return originalString;
+  }
+
+  /**
+   * Returns the canonical form like Maven's {@code ComparableVersion.getCanonical()}, e.g. {@code 1-rc-1} for
+   * {@code 1.0.0-CR1}. Versions with equal canonical form are equal.
+   *
+   * @return the normalized items, separated by dots and hyphens for nested lists.
+   */
+  @NotNull
+  public String getCanonical() {
+    // lists are only ever nested as last item, so the innermost list is built first
+    String nested = null;
+    int end = tokens.length;
+    for (int listStart = end - 1; listStart >= -1; listStart--) {
+      if (listStart >= 0 && tokens[listStart] != LIST) continue;
+      final StringBuilder sb = new StringBuilder();
+      for (int i = listStart + 1; i < end; i++) {
+        if (sb.length() > 0) sb.append('.');
+        sb.append(canonicalItem(tokens[i]));
+      }
+      if (nested != null) {
+        if (sb.length() > 0) sb.append('-');
+        sb.append(nested);
+      }
+      nested = sb.toString();
+      end = listStart;
+    }
+    return nested;
+  }
+
+  /**
+   * Compares two versions like Maven's {@code ComparableVersion} does.
+   *
+   * @param other the version to compare with.
+   * @return -1, 0 or 1 if this version is lower than, equal to or higher than {@code other}.
+   */
+  @Override
+  public int compareTo(@NotNull MavenVersion other) {
+    return compareTokens(text, tokens, tokens.length, other.text, other.tokens, other.tokens.length);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (!(o instanceof MavenVersion)) return false;
+    final MavenVersion other = (MavenVersion) o;
+    return hashCode == other.hashCode && compareTo(other) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @NotNull
+  @Override
+  public String toString() {
+    return originalString;
+  }
+
+  private int calculateHashCode() {
+    int result = 1;
+    for (long token : tokens) {
+      if (token >= 0 && token >>> CLASS_SHIFT == BIG_INTEGER_ITEM >>> CLASS_SHIFT) {
+        // equal big integers may be written with different zeros
+        result = 31 * result + 2;
+        for (int i = firstNonZeroDigit(text, token); i < rangeEnd(token); i++) {
+          result = 31 * result + Character.digit(text.charAt(i), 10);
+        }
+      } else if (token < 0 && token != LIST && rank(token) == UNKNOWN_RANK) {
+        result = 31 * result + UNKNOWN_RANK;
+        for (int i = rangeStart(token); i < rangeEnd(token); i++) {
+          result = 31 * result + text.charAt(i);
+        }
+      } else {
+        result = 31 * result + Long.hashCode(token);
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private String canonicalItem(long token) {
+    if (token >= 0) {
+      return token >>> CLASS_SHIFT == BIG_INTEGER_ITEM >>> CLASS_SHIFT
+        ? new BigInteger(text.substring(rangeStart(token), rangeEnd(token))).toString()
+        : String.valueOf(token & VALUE_MASK);
+    }
+    final int rank = rank(token);
+    return rank == UNKNOWN_RANK ? text.substring(rangeStart(token), rangeEnd(token)) : QUALIFIERS[rank];
+  }
+
+  @NotNull
+  private static String lowerCase(@NotNull String str) {
+    if (str.length() > MAX_LENGTH) {
+      throw new IllegalArgumentException("Argument versionString is too long: " + str.length());
+    }
+    // like Maven, which may change the length for some non ASCII chars
+    return str.toLowerCase(Locale.ENGLISH);
+  }
+
+  // mirrors ComparableVersion.parseVersion, but appends tokens instead of building a tree
+  @NotNull
+  private static Tokens tokenize(@NotNull String text) {
+    final Tokens tokens = new Tokens();
+    final int length = text.length();
+    boolean isDigit = false;
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      final char c = text.charAt(i);
+      if (c == '.' || c == '-') {
+        // an empty item is zero
+        tokens.add(i == start ? 0L : item(text, start, i, isDigit));
+        start = i + 1;
+        if (c == '-') tokens.addList();
+      } else if (Character.isDigit(c)) {
+        if (!isDigit && i > start) {
+          // a qualifier followed by a number, like rc1, starts a list of its own and the number another nested one
+          if (!tokens.isListEmpty()) tokens.addList();
+          tokens.add(qualifier(text, start, i, true));
+          start = i;
+          tokens.addList();
+        }
+        isDigit = true;
+      } else {
+        if (isDigit && i > start) {
+          tokens.add(number(text, start, i));
+          start = i;
+          tokens.addList();
+        }
+        isDigit = false;
+      }
+    }
+    if (length > start) {
+      // a trailing qualifier after a dot is handled like after a hyphen
+      if (!isDigit && !tokens.isListEmpty()) tokens.addList();
+      tokens.add(item(text, start, length, isDigit));
+    }
+    tokens.normalize(text);
+    return tokens;
+  }
+
+  private static long item(@NotNull String text, int start, int end, boolean isDigit) {
+    return isDigit ? number(text, start, end) : qualifier(text, start, end, false);
+  }
+
+  private static long number(@NotNull String text, int start, int end) {
+    // only ASCII zeros are stripped, a number of zeros only keeps its digit count
+    int digitsStart = start;
+    while (digitsStart < end && text.charAt(digitsStart) == '0') digitsStart++;
+    if (digitsStart == end) digitsStart = start;
+    final int digits = end - digitsStart;
+    if (digits > MAX_LONG_DIGITS) {
+      return BIG_INTEGER_ITEM | (long) digitsStart << OFFSET_BITS | end;
+    }
+    long value = 0;
+    for (int i = digitsStart; i < end; i++) {
+      value = value * 10 + Character.digit(text.charAt(i), 10);
+    }
+    return digits > MAX_INT_DIGITS ? LONG_ITEM | value : value;
+  }
+
+  private static long qualifier(@NotNull String text, int start, int end, boolean followedByDigit) {
+    final int length = end - start;
+    if (followedByDigit && length == 1) {
+      switch (text.charAt(start)) {
+        case 'a':
+          return qualifierToken(0);
+        case 'b':
+          return qualifierToken(1);
+        case 'm':
+          return qualifierToken(2);
+        default:
+          break;
+      }
+    }
+    for (int rank = 0; rank < QUALIFIERS.length; rank++) {
+      if (matches(text, start, length, QUALIFIERS[rank])) return qualifierToken(rank);
+    }
+    if (matches(text, start, length, "ga") || matches(text, start, length, "final") ||
+      matches(text, start, length, "release")) {
+      return qualifierToken(RELEASE_RANK);
+    }
+    if (matches(text, start, length, "cr")) {
+      return qualifierToken(3);
+    }
+    return qualifierToken(UNKNOWN_RANK) | (long) start << OFFSET_BITS | end;
+  }
+
+  private static boolean matches(@NotNull String text, int start, int length, @NotNull String qualifier) {
+    return length == qualifier.length() && text.startsWith(qualifier, start);
+  }
+
+  private static long qualifierToken(int rank) {
+    return QUALIFIER | (long) rank << CLASS_SHIFT;
+  }
+
+  private static int rank(long qualifierToken) {
+    return (int) (qualifierToken >>> CLASS_SHIFT) & 7;
+  }
+
+  private static int rangeStart(long token) {
+    return (int) (token >>> OFFSET_BITS) & MAX_LENGTH;
+  }
+
+  private static int rangeEnd(long token) {
+    return (int) token & MAX_LENGTH;
+  }
+
+  private static int compareTokens(@NotNull String textA, @NotNull long[] a, int lengthA, @NotNull String textB,
+                                   @NotNull long[] b, int lengthB) {
+    // a nested list is always the last item, so both arrays are walked side by side even through nested lists
+    final int length = Math.min(lengthA, lengthB);
+    for (int i = 0; i < length; i++) {
+      final long tokenA = a[i];
+      final long tokenB = b[i];
+      if (tokenA == LIST || tokenB == LIST) {
+        if (tokenA != tokenB) {
+          // a list is higher than a qualifier, but lower than a number
+          final long item = tokenA == LIST ? tokenB : tokenA;
+          return (tokenA == LIST) == (item < 0) ? 1 : -1;
+        }
+      } else {
+        final int result = compareItems(textA, tokenA, textB, tokenB);
+        if (result != 0) return result;
+      }
+    }
+    // the missing items of the shorter version are compared as null
+    if (lengthA > length) return compareToNull(textA, a, length, lengthA);
+    if (lengthB > length) return -compareToNull(textB, b, length, lengthB);
+    return 0;
+  }
+
+  private static int compareItems(@NotNull String textA, long tokenA, @NotNull String textB, long tokenB) {
+    if (tokenA >= 0 && tokenB >= 0) {
+      if (tokenA >>> CLASS_SHIFT == BIG_INTEGER_ITEM >>> CLASS_SHIFT &&
+        tokenB >>> CLASS_SHIFT == BIG_INTEGER_ITEM >>> CLASS_SHIFT) {
+        return compareBigIntegers(textA, tokenA, textB, tokenB);
+      }
+      // the item class is compared first, a long item is higher than any int item
+      return tokenA == tokenB ? 0 : tokenA > tokenB ? 1 : -1;
+    }
+    if (tokenA < 0 && tokenB < 0) {
+      final int rankA = rank(tokenA);
+      final int rankB = rank(tokenB);
+      if (rankA != rankB) return rankA > rankB ? 1 : -1;
+      return rankA == UNKNOWN_RANK ? compareRanges(textA, tokenA, textB, tokenB) : 0;
+    }
+    // a number is higher than a qualifier
+    return tokenA >= 0 ? 1 : -1;
+  }
+
+  private static int compareBigIntegers(@NotNull String textA, long tokenA, @NotNull String textB, long tokenB) {
+    final int startA = firstNonZeroDigit(textA, tokenA);
+    final int startB = firstNonZeroDigit(textB, tokenB);
+    final int lengthA = rangeEnd(tokenA) - startA;
+    final int lengthB = rangeEnd(tokenB) - startB;
+    if (lengthA != lengthB) return lengthA > lengthB ? 1 : -1;
+    for (int i = 0; i < lengthA; i++) {
+      final int digitA = Character.digit(textA.charAt(startA + i), 10);
+      final int digitB = Character.digit(textB.charAt(startB + i), 10);
+      if (digitA != digitB) return digitA > digitB ? 1 : -1;
+    }
+    return 0;
+  }
+
+  private static int compareRanges(@NotNull String textA, long tokenA, @NotNull String textB, long tokenB) {
+    final int startA = rangeStart(tokenA);
+    final int startB = rangeStart(tokenB);
+    final int lengthA = rangeEnd(tokenA) - startA;
+    final int lengthB = rangeEnd(tokenB) - startB;
+    final int minLength = Math.min(lengthA, lengthB);
+    for (int i = 0; i < minLength; i++) {
+      final char charA = textA.charAt(startA + i);
+      final char charB = textB.charAt(startB + i);
+      if (charA != charB) return charA > charB ? 1 : -1;
+    }
+    return Integer.compare(lengthA, lengthB);
+  }
+
+  // the first non null item decides, nested lists included
+  private static int compareToNull(@NotNull String text, @NotNull long[] tokens, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (tokens[i] == LIST) continue;
+      final int result = compareToNull(text, tokens[i]);
+      if (result != 0) return result;
+    }
+    return 0;
+  }
+
+  private static int compareToNull(@NotNull String text, long token) {
+    if (token >= 0) {
+      final boolean zero = token >>> CLASS_SHIFT == BIG_INTEGER_ITEM >>> CLASS_SHIFT
+        ? firstNonZeroDigit(text, token) == rangeEnd(token)
+        : (token & VALUE_MASK) == 0;
+      return zero ? 0 : 1;
+    }
+    return Integer.signum(rank(token) - RELEASE_RANK);
+  }
+
+  private static int firstNonZeroDigit(@NotNull String text, long bigIntegerToken) {
+    final int end = rangeEnd(bigIntegerToken);
+    int i = rangeStart(bigIntegerToken);
+    while (i < end && Character.digit(text.charAt(i), 10) == 0) i++;
+    return i;
+  }
+
+  // growable token array, which remembers where its nested lists start
+  private static final class Tokens {
+
+    @NotNull
+    private long[] tokens = new long[8];
+    private int size;
+    @NotNull
+    private int[] lists = new int[4];
+    private int listCount;
+
+    void add(long token) {
+      if (size == tokens.length) tokens = Arrays.copyOf(tokens, size * 2);
+      tokens[size++] = token;
+    }
+
+    void addList() {
+      if (listCount == lists.length) lists = Arrays.copyOf(lists, listCount * 2);
+      lists[listCount++] = size;
+      add(LIST);
+    }
+
+    boolean isListEmpty() {
+      return size == (listCount > 0 ? lists[listCount - 1] + 1 : 0);
+    }
+
+    // removes the null items at the end of every list, before a nested list which is not empty as well, starting
+    // with the innermost list like Maven does
+    void normalize(@NotNull String text) {
+      int end = size;
+      // start of the remaining nested list of the current list, end if there is none
+      int nestedStart = end;
+      for (int list = listCount - 1; list >= -1; list--) {
+        final int listStart = list >= 0 ? lists[list] + 1 : 0;
+        int keep = nestedStart;
+        while (keep > listStart && compareToNull(text, tokens[keep - 1]) == 0) keep--;
+        if (keep < nestedStart) {
+          System.arraycopy(tokens, nestedStart, tokens, keep, end - nestedStart);
+          end -= nestedStart - keep;
+        }
+        if (list >= 0) {
+          // an empty list is null and removed from its enclosing list
+          if (end == listStart) end = listStart - 1;
+          nestedStart = end >= listStart ? listStart - 1 : end;
+        }
+      }
+      size = end;
+    }
+  }
+}
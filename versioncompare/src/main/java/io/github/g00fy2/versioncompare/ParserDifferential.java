@@ -0,0 +1,97 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the results of both parser engines for sampled version strings, see
+ * {@link Version#setDifferentialSampling(int)}. Mismatches are reported to the metrics, so versions are only sampled
+ * while metrics are installed.
+ */
+final class ParserDifferential {
+
+  private ParserDifferential() {
+    // utility class should not be instantiated
+  }
+
+  // shared instead of ThreadLocalRandom, which requires Android API level 21
+  @NotNull
+  private static final Random RANDOM = new Random();
+
+  // the results of both engines for the previously checked version string, to compare their order across inputs
+  @Nullable
+  private static volatile Version[] previousSample;
+
+  // true for a random sample of one in interval parses
+  static boolean isSampled(int interval) {
+    return interval == 1 || RANDOM.nextInt(interval) == 0;
+  }
+
+  /**
+   * Parses {@code versionText} with {@code otherEngine} and reports every difference to {@code version} to
+   * {@code metrics}.
+   */
+  static void check(@NotNull Version version, @Nullable CharSequence versionText,
+                    @NotNull QualifierScheme qualifierScheme, @NotNull ParserEngine otherEngine,
+                    @NotNull VersionMetrics metrics) {
+    final Version other;
+    try {
+      other = new Version(versionText, false, qualifierScheme, otherEngine);
+    } catch (RuntimeException e) {
+      report(metrics, versionText, "exception: " + otherEngine + "=" + e);
+      return;
+    }
+    final String mismatch = findMismatch(version, other, otherEngine);
+    if (mismatch != null) report(metrics, versionText, mismatch);
+
+    final Version[] previous = previousSample;
+    previousSample = new Version[]{version, other};
+    if (previous != null) {
+      final int result = Integer.signum(version.compareTo(previous[0]));
+      final int otherResult = Integer.signum(other.compareTo(previous[1]));
+      if (result != otherResult) {
+        report(metrics, versionText, "compareTo " + previous[0] + ": " + otherEngine.other() + "=" + result + " "
+          + otherEngine + "=" + otherResult);
+      }
+    }
+  }
+
+  // describes the first difference of the parsed values, null if there is none
+  @Nullable
+  static String findMismatch(@NotNull Version version, @NotNull Version other, @NotNull ParserEngine otherEngine) {
+    final ParserEngine engine = otherEngine.other();
+    if (version.subversionNumbersSize() != other.subversionNumbersSize()
+      || !Arrays.equals(version.trimmedSubversionNumbers(), other.trimmedSubversionNumbers())) {
+      return describe("subversionNumbers", engine, version.getSubversionNumbers(), otherEngine,
+        other.getSubversionNumbers());
+    }
+    if (!version.getSuffix().equals(other.getSuffix())) {
+      return describe("suffix", engine, version.getSuffix(), otherEngine, other.getSuffix());
+    }
+    if (version.getReleaseType() != other.getReleaseType() || version.getQualifierRank() != other.getQualifierRank()) {
+      return describe("releaseType", engine, version.getReleaseType(), otherEngine, other.getReleaseType());
+    }
+    if (version.getPreReleaseVersion() != other.getPreReleaseVersion()) {
+      return describe("preReleaseVersion", engine, version.getPreReleaseVersion(), otherEngine,
+        other.getPreReleaseVersion());
+    }
+    final int result = version.compareTo(other);
+    if (result != 0) {
+      return describe("compareTo", engine, result, otherEngine, -result);
+    }
+    return null;
+  }
+
+  @NotNull
+  private static String describe(@NotNull String property, @NotNull ParserEngine engine, @NotNull Object value,
+                                  @NotNull ParserEngine otherEngine, @NotNull Object otherValue) {
+    return property + ": " + engine + "=" + value + " " + otherEngine + "=" + otherValue;
+  }
+
+  private static void report(@NotNull VersionMetrics metrics, @Nullable CharSequence versionText,
+                             @NotNull String mismatch) {
+    metrics.onParserMismatch(versionText != null ? versionText.toString() : null, mismatch);
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The algorithms available to parse version strings, see {@link Version#setParserEngine(ParserEngine)}.
+ * <p>
+ * The default engine can also be selected with the system property {@value #PROPERTY}, e.g.
+ * {@code -Dio.github.g00fy2.versioncompare.parserEngine=legacy}.
+ */
+public enum ParserEngine {
+  /**
+   * The single pass parser without regular expressions and intermediate strings, which is the default.
+   */
+  FAST,
+  /**
+   * The original parser splitting the version string with regular expressions, kept as reference for the results of
+   * {@link #FAST}.
+   */
+  LEGACY;
+
+  /**
+   * The system property selecting the default engine by its case-insensitive name.
+   */
+  public static final String PROPERTY = "io.github.g00fy2.versioncompare.parserEngine";
+
+  // the engine named by the system property, FAST if it is missing or unknown
+  @NotNull
+  static ParserEngine fromSystemProperty() {
+    final String name = System.getProperty(PROPERTY);
+    return LEGACY.name().equalsIgnoreCase(name) ? LEGACY : FAST;
+  }
+
+  @NotNull
+  ParserEngine other() {
+    return this == FAST ? LEGACY : FAST;
+  }
+}
@@ -0,0 +1,341 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+
+/**
+ * Defines which qualifiers of a version suffix are recognized and how they are ranked, e.g. to rank {@code 1.0-M1}
+ * or {@code 1.0-dev} as pre-releases instead of stable versions.
+ * <p>
+ * Qualifiers are matched case-insensitively anywhere within the suffix. If the suffix contains several qualifiers,
+ * the one with the highest rank is used and the number following it becomes the pre-release version. Stable versions
+ * have rank 0, the built-in qualifiers are ranked by {@link ReleaseType#getRank()}:
+ * <pre>{@code
+ * QualifierScheme scheme = QualifierScheme.builder()
+ *   .add("dev", ReleaseType.SNAPSHOT.getRank() + 5)
+ *   .add("milestone", ReleaseType.BETA.getRank() - 5)
+ *   .add("M", ReleaseType.BETA.getRank() - 5, true)
+ *   .add("cr", ReleaseType.RC.getRank())
+ *   .build();
+ * new Version("1.0-M2", false, scheme).isLowerThan(new Version("1.0-beta1", false, scheme)); // true
+ * }</pre>
+ * All registered qualifiers are compiled into a single automaton, so a suffix is classified in one pass regardless of
+ * the number of qualifiers. Versions parsed with different schemes are compared by their qualifier ranks.
+ */
+public final class QualifierScheme {
+
+  /**
+   * The built-in scheme recognizing {@code snapshot}, {@code pre-alpha}, {@code alpha}, {@code beta} and {@code rc}.
+   * It is used by all methods that do not take a scheme argument.
+   * <p>
+   * Beware of mixing schemes: static methods like {@link Version#compare(CharSequence, CharSequence)},
+   * {@link Version#parseCached(String)} and {@link VersionConstraint#compile(String)} parse version strings with this
+   * scheme, so e.g. {@code 1.0-M1} is a stable version there even if a custom scheme ranks it as pre-release. Use their
+   * overloads taking a scheme instead. Instance methods like {@link Version#isHigherThan(String)} parse their argument
+   * with the scheme of the Version object.
+   */
+  @NotNull
+  public static final QualifierScheme DEFAULT = new Builder().build();
+
+  private static final int NO_NUMBER = -1;
+
+  private final boolean includeDefaults;
+  @NotNull
+  private final String[] qualifiers;
+  @NotNull
+  private final int[] ranks;
+  @NotNull
+  private final boolean[] wholeWords;
+
+  // Aho-Corasick automaton over the ASCII folded qualifier chars, chars not used by any qualifier share class 0
+  @NotNull
+  private final byte[] charClasses = new byte[128];
+  private final int classCount;
+  @NotNull
+  private final int[] transitions;
+  // qualifier ending in a state and the next state along the failure links where another qualifier ends
+  @NotNull
+  private final int[] outputs;
+  @NotNull
+  private final int[] outputLinks;
+
+  private QualifierScheme(@NotNull Builder builder) {
+    includeDefaults = builder.includeDefaults;
+    qualifiers = builder.qualifiers.toArray(new String[0]);
+    ranks = new int[qualifiers.length];
+    wholeWords = new boolean[qualifiers.length];
+    for (int i = 0; i < qualifiers.length; i++) {
+      ranks[i] = builder.ranks.get(i);
+      wholeWords[i] = builder.wholeWords.get(i);
+    }
+
+    int classes = 1;
+    int maxStates = 1;
+    for (String qualifier : qualifiers) {
+      for (int i = 0; i < qualifier.length(); i++) {
+        final char c = qualifier.charAt(i);
+        if (charClasses[c] == 0) charClasses[c] = (byte) classes++;
+      }
+      maxStates += qualifier.length();
+    }
+    classCount = classes;
+
+    // trie of all qualifiers, missing transitions are -1 until the automaton is completed
+    final int[] trie = new int[maxStates * classCount];
+    Arrays.fill(trie, -1);
+    final int[] stateOutputs = new int[maxStates];
+    Arrays.fill(stateOutputs, -1);
+    int stateCount = 1;
+    for (int q = 0; q < qualifiers.length; q++) {
+      int state = 0;
+      for (int i = 0; i < qualifiers[q].length(); i++) {
+        final int index = state * classCount + charClasses[qualifiers[q].charAt(i)];
+        if (trie[index] < 0) trie[index] = stateCount++;
+        state = trie[index];
+      }
+      stateOutputs[state] = q;
+    }
+
+    transitions = Arrays.copyOf(trie, stateCount * classCount);
+    outputs = Arrays.copyOf(stateOutputs, stateCount);
+    outputLinks = new int[stateCount];
+    final int[] failures = new int[stateCount];
+    outputLinks[0] = -1;
+    final Queue<Integer> queue = new ArrayDeque<>();
+    for (int c = 0; c < classCount; c++) {
+      final int child = transitions[c];
+      if (child > 0) {
+        failures[child] = 0;
+        outputLinks[child] = -1;
+        queue.add(child);
+      } else {
+        transitions[c] = 0;
+      }
+    }
+    while (!queue.isEmpty()) {
+      final int state = queue.remove();
+      for (int c = 0; c < classCount; c++) {
+        final int index = state * classCount + c;
+        final int child = transitions[index];
+        final int fallback = transitions[failures[state] * classCount + c];
+        if (child > 0) {
+          failures[child] = fallback;
+          outputLinks[child] = outputs[fallback] >= 0 ? fallback : outputLinks[fallback];
+          queue.add(child);
+        } else {
+          transitions[index] = fallback;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a builder for a new scheme, which includes the built-in qualifiers unless disabled by
+   * {@link Builder#includeDefaults(boolean)}.
+   *
+   * @return a new builder.
+   */
+  @NotNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a Version object for {@code versionString} parsed with this scheme.
+   *
+   * @param versionString the string representing the version.
+   * @return the Version object, with default values if {@code versionString} could not get parsed.
+   * @see Version#Version(String versionString, boolean throwExceptions, QualifierScheme qualifierScheme)
+   */
+  @NotNull
+  public Version parse(@Nullable String versionString) {
+    return new Version(versionString, false, this);
+  }
+
+  /**
+   * Classifies the qualifier of {@code suffix}.
+   *
+   * @return the qualifier rank in the upper 32 bits and the index the pre-release version starts at in the lower
+   * 32 bits, which is -1 if there is none.
+   */
+  long classify(@NotNull CharSequence suffix) {
+    int bestRank = 0;
+    int numberStart = NO_NUMBER;
+    boolean found = false;
+
+    if (qualifiers.length > 0) {
+      final int length = suffix.length();
+      int state = 0;
+      for (int i = 0; i < length; i++) {
+        final char c = toLowerAscii(suffix.charAt(i));
+        state = transitions[state * classCount + (c < 128 ? charClasses[c] : 0)];
+        for (int s = outputs[state] >= 0 ? state : outputLinks[state]; s >= 0; s = outputLinks[s]) {
+          final int q = outputs[s];
+          final int start = i + 1 - qualifiers[q].length();
+          if (wholeWords[q] && !isWord(suffix, start, i + 1)) continue;
+          if (!found || ranks[q] > bestRank) {
+            found = true;
+            bestRank = ranks[q];
+            numberStart = i + 1;
+          }
+        }
+      }
+    }
+    if (includeDefaults) {
+      final int qualifier = VersionComparator.classifyQualifier(suffix);
+      final ReleaseType releaseType = VersionComparator.releaseType(qualifier);
+      if (releaseType != ReleaseType.STABLE && (!found || releaseType.getRank() >= bestRank)) {
+        bestRank = releaseType.getRank();
+        numberStart = releaseType != ReleaseType.SNAPSHOT ? qualifier >>> 3 : NO_NUMBER;
+      }
+    }
+    return (long) bestRank << 32 | (numberStart & 0xFFFFFFFFL);
+  }
+
+  static int rank(long classification) {
+    return (int) (classification >> 32);
+  }
+
+  static long preReleaseVersion(@NotNull CharSequence suffix, long classification) {
+    final int numberStart = (int) classification;
+    return numberStart != NO_NUMBER ? VersionComparator.preReleaseVersion(suffix, numberStart) : 0;
+  }
+
+  /**
+   * Returns a qualifier that is classified with {@code rank}, followed by {@code preReleaseVersion} if it is not 0.
+   *
+   * @throws IllegalArgumentException if no qualifier of this scheme has that rank.
+   */
+  @NotNull
+  String canonicalQualifier(int rank, long preReleaseVersion) {
+    if (rank == 0 && preReleaseVersion == 0) return "";
+    if (includeDefaults) {
+      for (ReleaseType releaseType : ReleaseType.values()) {
+        if (releaseType.getRank() == rank && releaseType != ReleaseType.STABLE) {
+          final String candidate = withNumber(VersionComparator.releaseTypeToQualifier(releaseType), preReleaseVersion);
+          if (isClassifiedAs(candidate, rank, preReleaseVersion)) return candidate;
+        }
+      }
+    }
+    for (int q = 0; q < qualifiers.length; q++) {
+      if (ranks[q] == rank) {
+        final String candidate = withNumber(qualifiers[q], preReleaseVersion);
+        if (isClassifiedAs(candidate, rank, preReleaseVersion)) return candidate;
+      }
+    }
+    throw new IllegalArgumentException("No qualifier with rank " + rank + " and pre-release version " +
+      preReleaseVersion);
+  }
+
+  @NotNull
+  private static String withNumber(@NotNull String qualifier, long preReleaseVersion) {
+    return preReleaseVersion > 0 ? qualifier + preReleaseVersion : qualifier;
+  }
+
+  private boolean isClassifiedAs(@NotNull String suffix, int rank, long preReleaseVersion) {
+    final long classification = classify(suffix);
+    return rank(classification) == rank && preReleaseVersion(suffix, classification) == preReleaseVersion;
+  }
+
+  // whether the range is not directly preceded or followed by a letter
+  private static boolean isWord(@NotNull CharSequence str, int start, int end) {
+    return (start == 0 || !Character.isLetter(str.charAt(start - 1)))
+      && (end == str.length() || !Character.isLetter(str.charAt(end)));
+  }
+
+  private static char toLowerAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  /**
+   * Collects qualifiers and compiles them into an immutable {@link QualifierScheme}.
+   */
+  public static final class Builder {
+
+    @NotNull
+    private final List<String> qualifiers = new ArrayList<>();
+    @NotNull
+    private final List<Integer> ranks = new ArrayList<>();
+    @NotNull
+    private final List<Boolean> wholeWords = new ArrayList<>();
+    private boolean includeDefaults = true;
+
+    private Builder() {
+    }
+
+    /**
+     * Registers {@code qualifier}, which is matched anywhere within the suffix like the built-in qualifiers.
+     *
+     * @param qualifier the ASCII qualifier, matched case-insensitively.
+     * @param rank      the rank of versions with this qualifier, stable versions have rank 0.
+     * @return this builder.
+     * @throws IllegalArgumentException if {@code qualifier} is empty, contains whitespace or non ASCII characters or
+     *                                  was already registered.
+     */
+    @NotNull
+    public Builder add(@NotNull String qualifier, int rank) {
+      return add(qualifier, rank, false);
+    }
+
+    /**
+     * Registers {@code qualifier}. Short qualifiers like {@code M} should be matched as whole word only, so they are
+     * not found within other words like {@code macos}.
+     *
+     * @param qualifier the ASCII qualifier, matched case-insensitively.
+     * @param rank      the rank of versions with this qualifier, stable versions have rank 0.
+     * @param wholeWord controls whether the qualifier must not be directly preceded or followed by a letter.
+     * @return this builder.
+     * @throws IllegalArgumentException if {@code qualifier} is empty, contains whitespace or non ASCII characters or
+     *                                  was already registered.
+     */
+    @NotNull
+    public Builder add(@NotNull String qualifier, int rank, boolean wholeWord) {
+      if (qualifier.isEmpty()) {
+        throw new IllegalArgumentException("Qualifier is empty");
+      }
+      for (int i = 0; i < qualifier.length(); i++) {
+        final char c = qualifier.charAt(i);
+        if (c >= 128 || VersionComparator.isWhitespace(c)) {
+          throw new IllegalArgumentException("Qualifier " + qualifier + " contains whitespace or non ASCII characters");
+        }
+      }
+      final String foldedQualifier = qualifier.toLowerCase(Locale.ROOT);
+      if (qualifiers.contains(foldedQualifier)) {
+        throw new IllegalArgumentException("Qualifier " + qualifier + " is already registered");
+      }
+      qualifiers.add(foldedQualifier);
+      ranks.add(rank);
+      wholeWords.add(wholeWord);
+      return this;
+    }
+
+    /**
+     * Controls whether the built-in qualifiers of {@link QualifierScheme#DEFAULT} are recognized, which is the
+     * default. Registered qualifiers with a higher rank take precedence over the built-in ones.
+     *
+     * @param includeDefaults {@code false} to only recognize the registered qualifiers.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder includeDefaults(boolean includeDefaults) {
+      this.includeDefaults = includeDefaults;
+      return this;
+    }
+
+    /**
+     * Compiles the registered qualifiers.
+     *
+     * @return a new immutable scheme.
+     */
+    @NotNull
+    public QualifierScheme build() {
+      return new QualifierScheme(this);
+    }
+  }
+}
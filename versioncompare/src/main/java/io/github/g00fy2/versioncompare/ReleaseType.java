@@ -0,0 +1,44 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The release types detected from the version suffix, in ascending order of their weighting.
+ * <p>
+ * Every release type has a qualifier rank, with stable releases at rank 0 and pre-releases below. Custom qualifiers
+ * of a {@link QualifierScheme} can be ranked between them.
+ */
+public enum ReleaseType {
+  SNAPSHOT(-50),
+  PRE_ALPHA(-40),
+  ALPHA(-30),
+  BETA(-20),
+  RC(-10),
+  STABLE(0);
+
+  private static final ReleaseType[] VALUES = values();
+
+  private final int rank;
+
+  ReleaseType(int rank) {
+    this.rank = rank;
+  }
+
+  /**
+   * Returns the qualifier rank of the release type.
+   *
+   * @return the rank used to compare the qualifiers of versions.
+   */
+  public int getRank() {
+    return rank;
+  }
+
+  // the highest release type whose rank is not higher than rank, SNAPSHOT for anything ranked below
+  @NotNull
+  static ReleaseType ofRank(int rank) {
+    for (int i = VALUES.length - 1; i > 0; i--) {
+      if (VALUES[i].rank <= rank) return VALUES[i];
+    }
+    return SNAPSHOT;
+  }
+}
@@ -0,0 +1,320 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A version strictly following <a href="https://semver.org/spec/v2.0.0.html">Semantic Versioning 2.0.0</a>, e.g.
+ * {@code 1.0.0-alpha.1+build.5}.
+ * <p>
+ * Unlike {@link Version}, which is lenient and treats everything after the numbers as suffix, invalid version strings
+ * are rejected and the pre-release identifiers are ordered by SemVer precedence: numeric identifiers are compared
+ * numerically, alphanumeric identifiers in ASCII order, numeric identifiers are lower than alphanumeric ones and a
+ * larger set of identifiers is higher if all preceding ones are equal. Build metadata is ignored for precedence and
+ * equality. The identifiers are not split into substrings but compared in place within the version string, so
+ * comparing does not allocate.
+ */
+public final class SemVersion implements Comparable<SemVersion> {
+
+  private static final String LONG_MAX_DIGITS = String.valueOf(Long.MAX_VALUE);
+
+  @NotNull
+  private final String versionString;
+  private final long major;
+  private final long minor;
+  private final long patch;
+  // the pre-release identifiers are versionString[preReleaseStart, preReleaseEnd), empty without pre-release
+  private final int preReleaseStart;
+  private final int preReleaseEnd;
+  private final int hashCode;
+
+  private SemVersion(@NotNull String versionString, long major, long minor, long patch, int preReleaseStart,
+                     int preReleaseEnd) {
+    this.versionString = versionString;
+    this.major = major;
+    this.minor = minor;
+    this.patch = patch;
+    this.preReleaseStart = preReleaseStart;
+    this.preReleaseEnd = preReleaseEnd;
+    this.hashCode = calculateHashCode();
+  }
+
+  /**
+   * Parses a SemVer 2.0.0 version string.
+   *
+   * @param versionString the string representing the version, without prefix like {@code v} or surrounding whitespace.
+   * @return the SemVersion object representing {@code versionString}.
+   * @throws IllegalArgumentException if {@code versionString} is no valid SemVer 2.0.0 version or one of its major,
+   *                                  minor and patch version exceeds {@link Long#MAX_VALUE}.
+   */
+  @NotNull
+  public static SemVersion parse(@NotNull CharSequence versionString) {
+    final String str = versionString.toString();
+    final int invalidIndex = invalidIndex(str);
+    if (invalidIndex >= 0) {
+      throw new IllegalArgumentException("Argument versionString is no valid semantic version at index " +
+        invalidIndex + ": " + str);
+    }
+    // the string is valid, so the numbers are separated by the first two dots
+    final int minorStart = str.indexOf('.') + 1;
+    final int patchStart = str.indexOf('.', minorStart) + 1;
+    int patchEnd = patchStart;
+    while (patchEnd < str.length() && isDigit(str.charAt(patchEnd))) patchEnd++;
+    int buildStart = str.indexOf('+', patchEnd);
+    if (buildStart < 0) buildStart = str.length();
+    final boolean hasPreRelease = patchEnd < str.length() && str.charAt(patchEnd) == '-';
+    return new SemVersion(str,
+      parseNumber(str, 0, minorStart - 1),
+      parseNumber(str, minorStart, patchStart - 1),
+      parseNumber(str, patchStart, patchEnd),
+      hasPreRelease ? patchEnd + 1 : patchEnd,
+      hasPreRelease ? buildStart : patchEnd
+    );
+  }
+
+  /**
+   * Checks whether {@code versionString} is a valid SemVer 2.0.0 version without allocating.
+   *
+   * @param versionString the string to validate.
+   * @return {@code true} if {@link #parse(CharSequence)} would accept {@code versionString}.
+   */
+  public static boolean isValid(@Nullable CharSequence versionString) {
+    return versionString != null && invalidIndex(versionString) < 0;
+  }
+
+  /**
+   * Returns the major version.
+   *
+   * @return the major version.
+   */
+  public long getMajor() {
+    return major;
+  }
+
+  /**
+   * Returns the minor version.
+   *
+   * @return the minor version.
+   */
+  public long getMinor() {
+    return minor;
+  }
+
+  /**
+   * Returns the patch version.
+   *
+   * @return the patch version.
+   */
+  public long getPatch() {
+    return patch;
+  }
+
+  /**
+   * Returns whether this is a pre-release version.
+   *
+   * @return {@code true} if the version has pre-release identifiers.
+   */
+  public boolean isPreRelease() {
+    return preReleaseEnd > preReleaseStart;
+  }
+
+  /**
+   * Returns the pre-release identifiers, e.g. {@code alpha.1} for {@code 1.0.0-alpha.1+build.5}.
+   *
+   * @return the dot separated pre-release identifiers, empty if there are none.
+   */
+  @NotNull
+  public String getPreRelease() {
+    return versionString.substring(preReleaseStart, preReleaseEnd);
+  }
+
+  /**
+   * Returns the build metadata, e.g. {@code build.5} for {@code 1.0.0-alpha.1+build.5}.
+   *
+   * @return the dot separated build identifiers, empty if there are none.
+   */
+  @NotNull
+  public String getBuildMetadata() {
+    final int buildStart = versionString.indexOf('+', preReleaseEnd);
+    return buildStart >= 0 ? versionString.substring(buildStart + 1) : "";
+  }
+
+  /**
+   * Returns the initial string.
+   *
+   * @return the unmodified initial string.
+   */
+  @NotNull
+  public String getOriginalString() {
+    return versionString;
+  }
+
+  /**
+   * Compares the precedence of two versions as defined by SemVer 2.0.0, build metadata is ignored.
+   *
+   * @param other the version to compare with.
+   * @return -1, 0 or 1 if this version has a lower, equal or higher precedence than {@code other}.
+   */
+  @Override
+  public int compareTo(@NotNull SemVersion other) {
+    if (major != other.major) return major > other.major ? 1 : -1;
+    if (minor != other.minor) return minor > other.minor ? 1 : -1;
+    if (patch != other.patch) return patch > other.patch ? 1 : -1;
+    // a pre-release version is lower than the normal version
+    if (!isPreRelease() || !other.isPreRelease()) {
+      return Boolean.compare(!isPreRelease(), !other.isPreRelease());
+    }
+
+    final String a = versionString;
+    final String b = other.versionString;
+    int startA = preReleaseStart;
+    int startB = other.preReleaseStart;
+    while (true) {
+      final int endA = identifierEnd(a, startA, preReleaseEnd);
+      final int endB = identifierEnd(b, startB, other.preReleaseEnd);
+      final int result = compareIdentifiers(a, startA, endA, b, startB, endB);
+      if (result != 0) {
+        return result;
+      }
+      startA = endA + 1;
+      startB = endB + 1;
+      // a larger set of identifiers is higher
+      final boolean hasNextA = startA < preReleaseEnd;
+      final boolean hasNextB = startB < other.preReleaseEnd;
+      if (!hasNextA || !hasNextB) {
+        return Boolean.compare(hasNextA, hasNextB);
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (!(o instanceof SemVersion)) return false;
+    final SemVersion other = (SemVersion) o;
+    return hashCode == other.hashCode && compareTo(other) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @NotNull
+  @Override
+  public String toString() {
+    return versionString;
+  }
+
+  private int calculateHashCode() {
+    int result = Long.hashCode(major);
+    result = 31 * result + Long.hashCode(minor);
+    result = 31 * result + Long.hashCode(patch);
+    for (int i = preReleaseStart; i < preReleaseEnd; i++) {
+      result = 31 * result + versionString.charAt(i);
+    }
+    return result;
+  }
+
+  // index of the first char which makes the string invalid, -1 if the string is valid
+  private static int invalidIndex(@NotNull CharSequence str) {
+    final int length = str.length();
+    int index = 0;
+    // major, minor and patch version
+    for (int part = 0; part < 3; part++) {
+      if (part > 0) {
+        if (index >= length || str.charAt(index) != '.') return index;
+        index++;
+      }
+      final int numberStart = index;
+      while (index < length && isDigit(str.charAt(index))) index++;
+      if (index == numberStart) return index;
+      if (str.charAt(numberStart) == '0' && index - numberStart > 1) return numberStart;
+      if (exceedsLong(str, numberStart, index)) return numberStart;
+    }
+    // pre-release identifiers must not have leading zeros if numeric
+    if (index < length && str.charAt(index) == '-') {
+      do {
+        final int identifierStart = ++index;
+        boolean numeric = true;
+        while (index < length && isIdentifierChar(str.charAt(index))) {
+          numeric &= isDigit(str.charAt(index));
+          index++;
+        }
+        if (index == identifierStart) return index;
+        if (numeric && str.charAt(identifierStart) == '0' && index - identifierStart > 1) return identifierStart;
+      } while (index < length && str.charAt(index) == '.');
+    }
+    // build identifiers may have leading zeros
+    if (index < length && str.charAt(index) == '+') {
+      do {
+        final int identifierStart = ++index;
+        while (index < length && isIdentifierChar(str.charAt(index))) index++;
+        if (index == identifierStart) return index;
+      } while (index < length && str.charAt(index) == '.');
+    }
+    return index < length ? index : -1;
+  }
+
+  private static boolean exceedsLong(@NotNull CharSequence str, int start, int end) {
+    final int digits = end - start;
+    if (digits != 19) return digits > 19;
+    for (int i = 0; i < 19; i++) {
+      final char c = str.charAt(start + i);
+      final char max = LONG_MAX_DIGITS.charAt(i);
+      if (c != max) return c > max;
+    }
+    return false;
+  }
+
+  private static long parseNumber(@NotNull String str, int start, int end) {
+    long number = 0;
+    for (int i = start; i < end; i++) {
+      number = number * 10 + (str.charAt(i) - '0');
+    }
+    return number;
+  }
+
+  private static int identifierEnd(@NotNull String str, int start, int end) {
+    final int dot = str.indexOf('.', start);
+    return dot >= 0 && dot < end ? dot : end;
+  }
+
+  private static int compareIdentifiers(@NotNull String a, int startA, int endA, @NotNull String b, int startB,
+                                        int endB) {
+    final boolean numericA = isNumeric(a, startA, endA);
+    final boolean numericB = isNumeric(b, startB, endB);
+    if (numericA != numericB) {
+      // numeric identifiers are lower than alphanumeric ones
+      return numericA ? -1 : 1;
+    }
+    final int lengthA = endA - startA;
+    final int lengthB = endB - startB;
+    if (numericA && lengthA != lengthB) {
+      // without leading zeros the longer number is higher
+      return lengthA > lengthB ? 1 : -1;
+    }
+    final int minLength = Math.min(lengthA, lengthB);
+    for (int i = 0; i < minLength; i++) {
+      final char charA = a.charAt(startA + i);
+      final char charB = b.charAt(startB + i);
+      if (charA != charB) return charA > charB ? 1 : -1;
+    }
+    return Integer.compare(lengthA, lengthB);
+  }
+
+  private static boolean isNumeric(@NotNull String str, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!isDigit(str.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isIdentifierChar(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-';
+  }
+}
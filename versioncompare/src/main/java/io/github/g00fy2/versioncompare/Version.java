@@ -2,22 +2,81 @@ package io.github.g00fy2.versioncompare;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import java.util.ArrayList;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.RandomAccess;
 
 public class Version implements Comparable<Version> {
 
+  /**
+   * Orders version strings like their Version objects without creating them. The qualifiers are ranked by
+   * {@link QualifierScheme#DEFAULT}, other schemes can be used with
+   * {@link #compare(CharSequence versionA, CharSequence versionB, QualifierScheme qualifierScheme)}.
+   *
+   * @see #compare(CharSequence versionA, CharSequence versionB)
+   */
+  @NotNull
+  public static final Comparator<CharSequence> STRING_ORDER = Version::compare;
+
+  /**
+   * Orders versions by their original strings like Maven's {@code ComparableVersion} does, which differs from
+   * {@link #compareTo(Version)} e.g. for the qualifiers {@code sp}, {@code ga} and {@code final}. Versions without
+   * original string are lower than all others.
+   * <p>
+   * Every comparison tokenizes both original strings again, so sorting n versions tokenizes about n log n strings. To
+   * sort many versions, parse their original strings once with {@link MavenVersion#parse(CharSequence)} and sort the
+   * MavenVersion objects instead.
+   *
+   * @see MavenVersion#compare(CharSequence versionA, CharSequence versionB)
+   */
+  @NotNull
+  public static final Comparator<Version> MAVEN_ORDER = (versionA, versionB) -> {
+    final String originalStringA = versionA.getOriginalString();
+    final String originalStringB = versionB.getOriginalString();
+    if (originalStringA == null || originalStringB == null) {
+      if (originalStringA == originalStringB) return 0;
+      return originalStringA == null ? -1 : 1;
+    }
+    return MavenVersion.compare(originalStringA, originalStringB);
+  };
+
+  /**
+   * The system property setting the initial {@link #setDifferentialSampling(int) differential sampling interval}, e.g.
+   * {@code -Dio.github.g00fy2.versioncompare.differentialSampling=1000}.
+   */
+  @NotNull
+  public static final String DIFFERENTIAL_SAMPLING_PROPERTY = "io.github.g00fy2.versioncompare.differentialSampling";
+
+  @Nullable
+  private static volatile VersionCache sharedCache;
   @Nullable
-  private final String originalString;
+  private static volatile VersionMetrics metrics;
   @NotNull
-  private final List<@NotNull Long> subversionNumbers = new ArrayList<>();
+  private static volatile ParserEngine parserEngine = ParserEngine.fromSystemProperty();
+  private static volatile int differentialSampling = Math.max(0, Integer.getInteger(DIFFERENTIAL_SAMPLING_PROPERTY, 0));
+
+  // source of the original string, which is only materialized when requested
+  @Nullable
+  private final CharSequence originalText;
+  @Nullable
+  private String originalString;
   @NotNull
-  private final List<@NotNull Long> trimmedSubversionNumbers = new ArrayList<>();
+  private final long[] trimmedSubversionNumbers;
+  private final int subversionNumbersSize;
   @NotNull
   private final String suffix;
-  @NotNull
-  private final VersionComparator.ReleaseType releaseType;
+  private final int qualifierRank;
   private final long preReleaseVersion;
+  private final int hashCode;
+  // parses the version strings this version is compared to
+  @NotNull
+  private final QualifierScheme qualifierScheme;
 
   /**
    * Initializes a newly created Version object that represents the parsed version information.
@@ -41,54 +100,381 @@ public class Version implements Comparable<Version> {
    * @see #Version(String versionString)
    */
   public Version(@Nullable String versionString, boolean throwExceptions) {
-    if (throwExceptions) {
-      if (versionString == null) {
+    this(versionString, throwExceptions, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Initializes a newly created Version object that represents the parsed version information, recognizing the
+   * qualifiers of {@code qualifierScheme}.
+   * Throws exceptions if {@code throwExceptions} is {@code true} and {@code versionString} could not get parsed.
+   *
+   * @param versionString   the string representing the version.
+   * @param throwExceptions controls whether invalid {@code versionString} should cause exceptions.
+   * @param qualifierScheme the scheme used to rank the qualifier of the suffix.
+   * @throws NullPointerException     if {@code versionString} is null.
+   * @throws IllegalArgumentException if {@code versionString} does not start with a numeric character.
+   * @see QualifierScheme#parse(String versionString)
+   */
+  public Version(@Nullable String versionString, boolean throwExceptions, @NotNull QualifierScheme qualifierScheme) {
+    this((CharSequence) versionString, throwExceptions, qualifierScheme);
+  }
+
+  Version(@Nullable CharSequence versionText, boolean throwExceptions) {
+    this(versionText, throwExceptions, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Initializes a newly created Version object from any text, e.g. a view on a byte buffer. The text is kept as
+   * source of the original string, so it must not change afterwards.
+   */
+  Version(@Nullable CharSequence versionText, boolean throwExceptions, @NotNull QualifierScheme qualifierScheme) {
+    this(versionText, throwExceptions, qualifierScheme, parserEngine, true);
+  }
+
+  // parses with engine, without differential sampling
+  Version(@Nullable CharSequence versionText, boolean throwExceptions, @NotNull QualifierScheme qualifierScheme,
+          @NotNull ParserEngine engine) {
+    this(versionText, throwExceptions, qualifierScheme, engine, false);
+  }
+
+  // the selected engine is passed in, so it is read once even if the parse is sampled
+  private Version(@Nullable CharSequence versionText, boolean throwExceptions, @NotNull QualifierScheme qualifierScheme,
+                  @NotNull ParserEngine engine, boolean sample) {
+    final VersionMetrics metrics = Version.metrics;
+    final long startNanos = metrics != null ? System.nanoTime() : 0L;
+    final Object parseEvent = metrics != null ? VersionEvents.beginParse() : null;
+    final boolean validVersion = versionText != null && VersionComparator.startsNumeric(versionText);
+    if (metrics != null && !validVersion) {
+      metrics.onInvalidVersion();
+    }
+    if (throwExceptions && !validVersion) {
+      if (versionText == null) {
         throw new IllegalArgumentException("Argument versionString is null");
       }
-      if (!VersionComparator.startsNumeric(versionString)) {
-        throw new IllegalArgumentException("Argument versionString is no valid version");
-      }
+      throw new IllegalArgumentException("Argument versionString is no valid version");
     }
 
-    originalString = versionString;
-    if (originalString != null && VersionComparator.startsNumeric(originalString)) {
-      String[] versionTokens = originalString.replaceAll("\\s", "").split("\\.");
-      boolean suffixFound = false;
-      StringBuilder suffixSb = null;
-
-      for (String versionToken : versionTokens) {
-        if (suffixFound) {
-          suffixSb.append(".");
-          suffixSb.append(versionToken);
-        } else if (VersionComparator.isNumeric(versionToken)) {
-          subversionNumbers.add(VersionComparator.safeParseLong(versionToken));
+    originalText = versionText;
+    this.qualifierScheme = qualifierScheme;
+    final Version legacyVersion = engine == ParserEngine.LEGACY
+      ? LegacyVersionParser.parse(versionText, qualifierScheme) : null;
+    if (legacyVersion != null) {
+      subversionNumbersSize = legacyVersion.subversionNumbersSize;
+      trimmedSubversionNumbers = legacyVersion.trimmedSubversionNumbers;
+      suffix = legacyVersion.suffix;
+    } else if (validVersion) {
+      // first pass: whitespace is skipped, '.' separates numbers and the first non-digit starts the suffix
+      final int length = versionText.length();
+      int suffixStart = length;
+      int numberCount = 0;
+      int trimmedNumberCount = 0;
+      int digitCount = 0;
+      boolean nonZero = false;
+
+      for (int i = 0; i < length; i++) {
+        final char c = versionText.charAt(i);
+        if (VersionComparator.isWhitespace(c)) continue;
+        if (c == '.') {
+          if (digitCount > 0) {
+            numberCount++;
+            if (nonZero) trimmedNumberCount = numberCount;
+          }
+          digitCount = 0;
+          nonZero = false;
+        } else if (Character.isDigit(c)) {
+          // only the first 19 digits are taken into account
+          if (digitCount++ < 19 && Character.digit(c, 10) != 0) nonZero = true;
         } else {
-          for (int i = 0; i < versionToken.length(); i++) {
-            if (!Character.isDigit(versionToken.charAt(i))) {
-              suffixSb = new StringBuilder();
-              if (i > 0) {
-                subversionNumbers.add(VersionComparator.safeParseLong(versionToken.substring(0, i)));
-                suffixSb.append(versionToken.substring(i));
-              } else {
-                suffixSb.append(versionToken);
-              }
-              suffixFound = true;
-              break;
-            }
+          suffixStart = i;
+          break;
+        }
+      }
+      if (digitCount > 0) {
+        numberCount++;
+        if (nonZero) trimmedNumberCount = numberCount;
+      }
+
+      // second pass: parse the numbers up to the last one that is not zero
+      subversionNumbersSize = numberCount;
+      trimmedSubversionNumbers =
+        trimmedNumberCount > 0 ? new long[trimmedNumberCount] : VersionComparator.EMPTY_NUMBERS;
+      int index = 0;
+      long number = 0;
+      digitCount = 0;
+      for (int i = 0; i < suffixStart && index < trimmedNumberCount; i++) {
+        final char c = versionText.charAt(i);
+        if (c == '.') {
+          if (digitCount > 0) {
+            trimmedSubversionNumbers[index++] = number;
+            number = 0;
+            digitCount = 0;
           }
+        } else if (Character.isDigit(c)) {
+          number = VersionComparator.appendDigit(number, digitCount++, c);
         }
       }
-      suffix = (suffixSb != null) ? suffixSb.toString() : "";
-      trimmedSubversionNumbers.addAll(subversionNumbers);
-      while (!trimmedSubversionNumbers.isEmpty() &&
-        trimmedSubversionNumbers.lastIndexOf(0L) == trimmedSubversionNumbers.size() - 1) {
-        trimmedSubversionNumbers.remove(trimmedSubversionNumbers.lastIndexOf(0L));
+      if (index < trimmedNumberCount) {
+        trimmedSubversionNumbers[index] = number;
       }
+      suffix = VersionComparator.extractSuffix(versionText, suffixStart);
     } else {
+      subversionNumbersSize = 0;
+      trimmedSubversionNumbers = VersionComparator.EMPTY_NUMBERS;
       suffix = "";
     }
-    releaseType = VersionComparator.qualifierToReleaseType(suffix);
-    preReleaseVersion = VersionComparator.preReleaseVersion(suffix, releaseType);
+    if (legacyVersion != null) {
+      qualifierRank = legacyVersion.qualifierRank;
+      preReleaseVersion = legacyVersion.preReleaseVersion;
+    } else {
+      final long qualifier = qualifierScheme.classify(suffix);
+      qualifierRank = QualifierScheme.rank(qualifier);
+      preReleaseVersion = QualifierScheme.preReleaseVersion(suffix, qualifier);
+    }
+    hashCode = calculateHashCode();
+    if (metrics != null) {
+      if (parseEvent != null) VersionEvents.endParse(parseEvent, versionText, validVersion);
+      metrics.onParse(System.nanoTime() - startNanos);
+      // mismatches are only reported to metrics, so the sampling interval is not even read without them
+      if (sample) {
+        final int sampling = differentialSampling;
+        if (sampling > 0 && ParserDifferential.isSampled(sampling)) {
+          ParserDifferential.check(this, versionText, qualifierScheme, engine.other(), metrics);
+        }
+      }
+    }
+  }
+
+  // for decoded versions, the values have to be consistent with each other
+  Version(@Nullable CharSequence originalText, @NotNull long[] trimmedSubversionNumbers, int subversionNumbersSize,
+          @NotNull String suffix, int qualifierRank, long preReleaseVersion, @NotNull QualifierScheme qualifierScheme) {
+    this.originalText = originalText;
+    this.qualifierScheme = qualifierScheme;
+    this.trimmedSubversionNumbers = trimmedSubversionNumbers;
+    this.subversionNumbersSize = subversionNumbersSize;
+    this.suffix = suffix;
+    this.qualifierRank = qualifierRank;
+    this.preReleaseVersion = preReleaseVersion;
+    hashCode = calculateHashCode();
+  }
+
+  // for LazyVersion, which keeps default values and delegates to the version parsed on first use
+  Version() {
+    originalText = null;
+    trimmedSubversionNumbers = VersionComparator.EMPTY_NUMBERS;
+    subversionNumbersSize = 0;
+    suffix = "";
+    qualifierRank = 0;
+    preReleaseVersion = 0;
+    hashCode = 0;
+    qualifierScheme = QualifierScheme.DEFAULT;
+  }
+
+  /**
+   * Returns a Version object that keeps {@code versionString} only and parses it on first use, e.g. by
+   * {@link #getMajor()}, {@link #compareTo(Version)} or {@link #hashCode()}. Comparing two lazy versions with equal
+   * original strings does not parse them at all. Invalid versions get default values like
+   * {@link #Version(String versionString)} does.
+   *
+   * @param versionString the string representing the version.
+   * @return the lazy Version object representing {@code versionString}.
+   * @see #lazy(String versionString, QualifierScheme qualifierScheme)
+   */
+  @NotNull
+  public static Version lazy(@Nullable String versionString) {
+    return new LazyVersion(versionString, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Returns a Version object that keeps {@code versionString} only and parses it with {@code qualifierScheme} on
+   * first use.
+   *
+   * @param versionString   the string representing the version.
+   * @param qualifierScheme the scheme used to rank the qualifier of the suffix.
+   * @return the lazy Version object representing {@code versionString}.
+   * @see #lazy(String versionString)
+   */
+  @NotNull
+  public static Version lazy(@Nullable String versionString, @NotNull QualifierScheme qualifierScheme) {
+    return new LazyVersion(versionString, qualifierScheme);
+  }
+
+  // the Version object holding the parsed values, which is only another object for lazy versions
+  @NotNull
+  Version parsed() {
+    return this;
+  }
+
+  /**
+   * Returns a Version object for the chars {@code start} until {@code end} of {@code text} without creating a
+   * substring. Invalid versions get default values like {@link #Version(String versionString)} does.
+   * <p>
+   * The Version object keeps a view on {@code text} and only creates its {@link #getOriginalString() original string}
+   * when requested, so the range of {@code text} must not be modified afterwards.
+   *
+   * @param text  the text containing the version, e.g. a JSON document or an HTTP header.
+   * @param start the index of the first char of the version.
+   * @param end   the index after the last char of the version.
+   * @return the Version object representing the range of {@code text}.
+   * @throws IndexOutOfBoundsException if the range is not within {@code text}.
+   */
+  @NotNull
+  public static Version parse(@NotNull CharSequence text, int start, int end) {
+    if (start == 0 && end == text.length() && text instanceof String) {
+      return new Version(text, false);
+    }
+    return new Version(new CharSequenceSlice(text, start, end - start), false);
+  }
+
+  /**
+   * Returns a Version object for {@code length} chars of {@code chars} starting at {@code offset} without creating a
+   * String. The array range must not be modified afterwards, see {@link #parse(CharSequence, int, int)}.
+   *
+   * @param chars  the array containing the version.
+   * @param offset the index of the first char of the version.
+   * @param length the number of chars of the version.
+   * @return the Version object representing the range of {@code chars}.
+   * @throws IndexOutOfBoundsException if the range is not within {@code chars}.
+   */
+  @NotNull
+  public static Version parse(@NotNull char[] chars, int offset, int length) {
+    return new Version(new CharSequenceSlice(chars, offset, length), false);
+  }
+
+  /**
+   * Returns a Version object for {@code length} ASCII encoded bytes of {@code bytes} starting at {@code offset}
+   * without decoding them to a String. Bytes are mapped to chars like ISO-8859-1 does. The array range must not be
+   * modified afterwards, see {@link #parse(CharSequence, int, int)}.
+   *
+   * @param bytes  the array containing the version, e.g. a network buffer.
+   * @param offset the index of the first byte of the version.
+   * @param length the number of bytes of the version.
+   * @return the Version object representing the range of {@code bytes}.
+   * @throws IndexOutOfBoundsException if the range is not within {@code bytes}.
+   */
+  @NotNull
+  public static Version parseAscii(@NotNull byte[] bytes, int offset, int length) {
+    return new Version(new AsciiCharSequence(bytes, offset, length), false);
+  }
+
+  /**
+   * Returns a Version object for {@code versionString}, reusing a previously parsed one from the shared cache if
+   * caching is enabled. Without a shared cache this is the same as {@link #Version(String versionString)}.
+   *
+   * @param versionString the string representing the version.
+   * @return the Version object representing {@code versionString}.
+   * @see #setSharedCache(VersionCache cache)
+   */
+  @NotNull
+  public static Version parseCached(@Nullable String versionString) {
+    return parseCached(versionString, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Returns a Version object for {@code versionString} parsed with {@code qualifierScheme}, reusing a previously
+   * parsed one from the shared cache if caching is enabled and the cache uses the same scheme.
+   *
+   * @param versionString   the string representing the version.
+   * @param qualifierScheme the scheme used to rank the qualifier of the suffix.
+   * @return the Version object representing {@code versionString}.
+   * @see VersionCache#VersionCache(int maximumSize, QualifierScheme qualifierScheme)
+   */
+  @NotNull
+  public static Version parseCached(@Nullable String versionString, @NotNull QualifierScheme qualifierScheme) {
+    final VersionCache cache = sharedCache;
+    return cache != null && cache.getQualifierScheme() == qualifierScheme
+      ? cache.get(versionString) : new Version(versionString, false, qualifierScheme);
+  }
+
+  /**
+   * Sets the cache used by {@link #parseCached(String)} and all methods taking a version string argument. Only
+   * version strings parsed with the scheme of the cache are cached.
+   * Caching is disabled by default.
+   *
+   * @param cache the cache to use, {@code null} disables caching.
+   */
+  public static void setSharedCache(@Nullable VersionCache cache) {
+    sharedCache = cache;
+  }
+
+  /**
+   * Returns the cache used by {@link #parseCached(String)} and all methods taking a version string argument.
+   *
+   * @return the shared cache or {@code null} if caching is disabled.
+   */
+  @Nullable
+  public static VersionCache getSharedCache() {
+    return sharedCache;
+  }
+
+  /**
+   * Sets the metrics which are informed about parses, comparisons and cache accesses. Metrics are disabled by default.
+   *
+   * @param metrics the metrics to inform, {@code null} disables metrics.
+   * @see VersionCounters
+   */
+  public static void setMetrics(@Nullable VersionMetrics metrics) {
+    Version.metrics = metrics;
+  }
+
+  /**
+   * Returns the metrics which are informed about parses, comparisons and cache accesses.
+   *
+   * @return the metrics or {@code null} if metrics are disabled.
+   */
+  @Nullable
+  public static VersionMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the engine used to parse version strings. The default is {@link ParserEngine#FAST} unless the system property
+   * {@value ParserEngine#PROPERTY} selects another one. Already parsed versions keep their values.
+   *
+   * @param engine the engine to parse with.
+   * @see #setDifferentialSampling(int interval)
+   */
+  public static void setParserEngine(@NotNull ParserEngine engine) {
+    parserEngine = engine;
+  }
+
+  /**
+   * Returns the engine used to parse version strings.
+   *
+   * @return the selected parser engine.
+   */
+  @NotNull
+  public static ParserEngine getParserEngine() {
+    return parserEngine;
+  }
+
+  /**
+   * Enables the differential check of the parser engines for a random sample of the parsed version strings, e.g. to
+   * verify {@link ParserEngine#FAST} against {@link ParserEngine#LEGACY} on production data before switching engines.
+   * A sampled version string is parsed again with the engine that is not selected. Any difference in the subversion
+   * numbers, the suffix, the release type, the pre-release version or in the order of both results, also relative to
+   * the previously sampled version, is reported to {@link VersionMetrics#onParserMismatch(String, String)}. The second
+   * parse is reported as parse to the metrics too. Without {@link #setMetrics(VersionMetrics) metrics} no version
+   * string is sampled. The check is disabled by default unless the system property
+   * {@value #DIFFERENTIAL_SAMPLING_PROPERTY} sets an interval.
+   *
+   * @param interval the average number of parses per checked parse, 1 checks every parse and 0 disables the check.
+   * @throws IllegalArgumentException if {@code interval} is negative.
+   */
+  public static void setDifferentialSampling(int interval) {
+    if (interval < 0) {
+      throw new IllegalArgumentException("Argument interval is negative: " + interval);
+    }
+    differentialSampling = interval;
+  }
+
+  /**
+   * Returns the average number of parses per differential check of the parser engines.
+   *
+   * @return the sampling interval, 0 if the differential check is disabled.
+   * @see #setDifferentialSampling(int interval)
+   */
+  public static int getDifferentialSampling() {
+    return differentialSampling;
   }
 
   /**
@@ -97,7 +483,8 @@ public class Version implements Comparable<Version> {
    * @return the major version, default 0.
    */
   public long getMajor() {
-    return trimmedSubversionNumbers.size() > 0 ? trimmedSubversionNumbers.get(0) : 0L;
+    final long[] numbers = parsed().trimmedSubversionNumbers;
+    return numbers.length > 0 ? numbers[0] : 0L;
   }
 
   /**
@@ -106,7 +493,8 @@ public class Version implements Comparable<Version> {
    * @return the minor version, default 0.
    */
   public long getMinor() {
-    return trimmedSubversionNumbers.size() > 1 ? trimmedSubversionNumbers.get(1) : 0L;
+    final long[] numbers = parsed().trimmedSubversionNumbers;
+    return numbers.length > 1 ? numbers[1] : 0L;
   }
 
   /**
@@ -115,17 +503,19 @@ public class Version implements Comparable<Version> {
    * @return the patch version, default 0.
    */
   public long getPatch() {
-    return trimmedSubversionNumbers.size() > 2 ? trimmedSubversionNumbers.get(2) : 0L;
+    final long[] numbers = parsed().trimmedSubversionNumbers;
+    return numbers.length > 2 ? numbers[2] : 0L;
   }
 
   /**
    * Returns a list with all numeric version parts.
    *
-   * @return a list with all numeric version parts found, default empty.
+   * @return an unmodifiable list with all numeric version parts found, default empty.
    */
   @NotNull
   public List<@NotNull Long> getSubversionNumbers() {
-    return subversionNumbers;
+    final Version version = parsed();
+    return new SubversionNumberList(version.trimmedSubversionNumbers, version.subversionNumbersSize);
   }
 
   /**
@@ -135,7 +525,37 @@ public class Version implements Comparable<Version> {
    */
   @NotNull
   public String getSuffix() {
-    return suffix;
+    return parsed().suffix;
+  }
+
+  /**
+   * Returns the release type detected from the suffix. Custom qualifiers of a {@link QualifierScheme} map to the
+   * highest release type whose rank is not higher than theirs.
+   *
+   * @return the release type, default {@link ReleaseType#STABLE}.
+   */
+  @NotNull
+  public ReleaseType getReleaseType() {
+    return ReleaseType.ofRank(parsed().qualifierRank);
+  }
+
+  /**
+   * Returns the rank of the qualifier detected from the suffix.
+   *
+   * @return the qualifier rank, default 0 for stable versions.
+   * @see QualifierScheme
+   */
+  public int getQualifierRank() {
+    return parsed().qualifierRank;
+  }
+
+  /**
+   * Returns the pre-release build number following the release type qualifier, e.g. {@code 2} for {@code 1.0-rc2}.
+   *
+   * @return the pre-release build number, default 0.
+   */
+  public long getPreReleaseVersion() {
+    return parsed().preReleaseVersion;
   }
 
   /**
@@ -145,19 +565,35 @@ public class Version implements Comparable<Version> {
    */
   @Nullable
   public String getOriginalString() {
-    return originalString;
+    String result = originalString;
+    if (result == null && originalText != null) {
+      // racy single-check, every thread materializes an equal string
+      originalString = result = originalText.toString();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the scheme the version was parsed with, which is also used to parse the version strings passed to
+   * methods like {@link #isHigherThan(String)}.
+   *
+   * @return the qualifier scheme of the version.
+   */
+  @NotNull
+  public QualifierScheme getQualifierScheme() {
+    return qualifierScheme;
   }
 
   /**
    * Checks if the Version object is higher than {@code otherVersion}.
    *
-   * @param otherVersion a string representing another version.
+   * @param otherVersion a string representing another version, parsed with the scheme of this Version object.
    * @return {@code true} if Version object is higher than {@code otherVersion} or {@code otherVersion} could not get
    * parsed. {@code False} if the Version is lower or equal.
    * @see #isHigherThan(Version otherVersion)
    */
   public boolean isHigherThan(String otherVersion) {
-    return isHigherThan(new Version(otherVersion));
+    return isHigherThan(parseCached(otherVersion, getQualifierScheme()));
   }
 
   /**
@@ -175,13 +611,13 @@ public class Version implements Comparable<Version> {
   /**
    * Checks if the Version object is lower than {@code otherVersion}.
    *
-   * @param otherVersion a string representing another version.
+   * @param otherVersion a string representing another version, parsed with the scheme of this Version object.
    * @return {@code true} if Version object is lower than {@code otherVersion}. {@code False} if the Version is higher,
    * equal or {@code otherVersion} could not get parsed.
    * @see #isLowerThan(Version otherVersion)
    */
   public boolean isLowerThan(String otherVersion) {
-    return isLowerThan(new Version(otherVersion));
+    return isLowerThan(parseCached(otherVersion, getQualifierScheme()));
   }
 
   /**
@@ -199,13 +635,13 @@ public class Version implements Comparable<Version> {
   /**
    * Checks if the Version object is equal to {@code otherVersion}.
    *
-   * @param otherVersion a string representing another version.
+   * @param otherVersion a string representing another version, parsed with the scheme of this Version object.
    * @return {@code true} if Version object and {@code otherVersion} are logically equal. {@code False} if the Version
    * is higher, lower or {@code otherVersion} could not get parsed.
    * @see #isEqual(Version otherVersion)
    */
   public boolean isEqual(String otherVersion) {
-    return isEqual(new Version(otherVersion));
+    return isEqual(parseCached(otherVersion, getQualifierScheme()));
   }
 
   /**
@@ -223,13 +659,13 @@ public class Version implements Comparable<Version> {
   /**
    * Checks if the Version object is equal or higher than {@code otherVersion}.
    *
-   * @param otherVersion a string representing another version.
+   * @param otherVersion a string representing another version, parsed with the scheme of this Version object.
    * @return {@code true} if the version is equal or higher than {@code otherVersion}. {@code False} if the version
    * is lower than {@code otherVersion}.
    * @see #isAtLeast(Version otherVersion)
    */
   public boolean isAtLeast(String otherVersion) {
-    return isAtLeast(new Version(otherVersion));
+    return isAtLeast(parseCached(otherVersion, getQualifierScheme()));
   }
 
   /**
@@ -247,14 +683,14 @@ public class Version implements Comparable<Version> {
   /**
    * Checks if the Version object is equal or higher than {@code otherVersion}.
    *
-   * @param otherVersion a string representing another version.
+   * @param otherVersion a string representing another version, parsed with the scheme of this Version object.
    * @param ignoreSuffix controls whether suffixes should be ignored.
    * @return {@code true} if the version is equal or higher than {@code otherVersion}. {@code False} if the version
    * is lower than {@code otherVersion}.
    * @see #isAtLeast(Version otherVersion, boolean ignoreSuffix)
    */
   public boolean isAtLeast(String otherVersion, boolean ignoreSuffix) {
-    return isAtLeast(new Version(otherVersion), ignoreSuffix);
+    return isAtLeast(parseCached(otherVersion, getQualifierScheme()), ignoreSuffix);
   }
 
   /**
@@ -270,27 +706,266 @@ public class Version implements Comparable<Version> {
     return compareTo(otherVersion, ignoreSuffix) >= 0;
   }
 
+  // subversion numbers without trailing zeros, must not be modified
+  @NotNull
+  long[] trimmedSubversionNumbers() {
+    return parsed().trimmedSubversionNumbers;
+  }
+
+  // number of subversion numbers including trailing zeros
+  int subversionNumbersSize() {
+    return parsed().subversionNumbersSize;
+  }
+
+  /**
+   * Returns the length of the compact binary encoding in bytes.
+   *
+   * @param includeOriginalString controls whether the original string is encoded.
+   * @return the number of bytes {@link #writeTo(ByteBuffer, boolean)} will write.
+   */
+  public int getBinaryLength(boolean includeOriginalString) {
+    return VersionBinary.length(this, includeOriginalString);
+  }
+
+  /**
+   * Writes a compact binary encoding to {@code buffer} at its current position. The encoding contains all parsed
+   * values, so it can be read again with {@link #readFrom(ByteBuffer)} without parsing. A typical version takes less
+   * than 10 bytes without original string.
+   *
+   * @param buffer                the buffer to write the encoding to.
+   * @param includeOriginalString controls whether the original string is encoded. If not, the original string of the
+   *                              decoded version is built from the subversion numbers and the suffix, like
+   *                              {@code 1.2.0-rc3}.
+   * @throws java.nio.BufferOverflowException if {@code buffer} has less than {@link #getBinaryLength(boolean)} bytes
+   *                                          remaining.
+   * @see #writeTo(DataOutput, boolean)
+   */
+  public void writeTo(@NotNull ByteBuffer buffer, boolean includeOriginalString) {
+    VersionBinary.write(buffer, this, includeOriginalString);
+  }
+
+  /**
+   * Writes a compact binary encoding to {@code output}.
+   *
+   * @param output                the output to write the encoding to.
+   * @param includeOriginalString controls whether the original string is encoded.
+   * @throws IOException if writing to {@code output} fails.
+   * @see #writeTo(ByteBuffer, boolean)
+   */
+  public void writeTo(@NotNull DataOutput output, boolean includeOriginalString) throws IOException {
+    VersionBinary.write(output, this, includeOriginalString);
+  }
+
+  /**
+   * Reads a Version object from the compact binary encoding at the current position of {@code buffer} and advances
+   * the position behind it. The version is created from the encoded values without parsing.
+   *
+   * @param buffer the buffer containing the encoding written by {@link #writeTo(ByteBuffer, boolean)}.
+   * @return a Version object that is equal to the encoded one and has the same suffix and original string. It parses
+   * version string arguments with {@link QualifierScheme#DEFAULT}, as the encoding does not contain the scheme.
+   * @throws IllegalArgumentException          if the buffer contains no valid encoding.
+   * @throws java.nio.BufferUnderflowException if the encoding in {@code buffer} is incomplete.
+   */
+  @NotNull
+  public static Version readFrom(@NotNull ByteBuffer buffer) {
+    return VersionBinary.read(buffer);
+  }
+
+  /**
+   * Reads a Version object from the compact binary encoding of {@code input}.
+   *
+   * @param input the input containing the encoding written by {@link #writeTo(DataOutput, boolean)}.
+   * @return a Version object that is equal to the encoded one and has the same suffix and original string. It parses
+   * version string arguments with {@link QualifierScheme#DEFAULT}, as the encoding does not contain the scheme.
+   * @throws IllegalArgumentException if the input contains no valid encoding.
+   * @throws IOException              if reading from {@code input} fails, e.g. at its end.
+   */
+  @NotNull
+  public static Version readFrom(@NotNull DataInput input) throws IOException {
+    return VersionBinary.read(input);
+  }
+
+  /**
+   * Returns a binary sort key of the Version object. Comparing two sort keys byte by byte as unsigned values gives the
+   * same order as {@link #compareTo(Version)}, so sort keys can be ordered by binary storage engines.
+   *
+   * @return a new byte array containing the sort key.
+   * @see #writeSortKey(ByteBuffer buffer)
+   * @see #fromSortKey(byte[] sortKey)
+   */
+  @NotNull
+  public byte[] toSortKey() {
+    final byte[] sortKey = new byte[getSortKeyLength()];
+    writeSortKey(ByteBuffer.wrap(sortKey));
+    return sortKey;
+  }
+
+  /**
+   * Returns the length of the binary sort key in bytes.
+   *
+   * @return the number of bytes {@link #writeSortKey(ByteBuffer)} will write.
+   */
+  public int getSortKeyLength() {
+    final Version version = parsed();
+    return VersionSortKey.length(version.trimmedSubversionNumbers, version.preReleaseVersion);
+  }
+
+  /**
+   * Writes the binary sort key to {@code buffer} at its current position.
+   *
+   * @param buffer the buffer to write the sort key to.
+   * @throws java.nio.BufferOverflowException if {@code buffer} has less than {@link #getSortKeyLength()} bytes
+   *                                          remaining.
+   * @see #toSortKey()
+   */
+  public void writeSortKey(@NotNull ByteBuffer buffer) {
+    final Version version = parsed();
+    VersionSortKey.write(buffer, version.trimmedSubversionNumbers, version.qualifierRank, version.preReleaseVersion);
+  }
+
+  /**
+   * Creates a Version object from a binary sort key. As the sort key only contains the information relevant for
+   * comparison, the original string and suffix are replaced by a canonical representation like {@code 1.2-rc3}.
+   *
+   * @param sortKey the sort key created by {@link #toSortKey()}.
+   * @return a Version object that is equal to the one the sort key was created from.
+   * @throws IllegalArgumentException if {@code sortKey} is no valid sort key.
+   */
+  @NotNull
+  public static Version fromSortKey(@NotNull byte[] sortKey) {
+    return readSortKey(ByteBuffer.wrap(sortKey));
+  }
+
+  /**
+   * Creates a Version object from a binary sort key of a version parsed with {@code qualifierScheme}.
+   *
+   * @param sortKey         the sort key created by {@link #toSortKey()}.
+   * @param qualifierScheme the scheme providing a qualifier for the qualifier rank of the sort key.
+   * @return a Version object that is equal to the one the sort key was created from.
+   * @throws IllegalArgumentException if {@code sortKey} is no valid sort key.
+   * @see #fromSortKey(byte[] sortKey)
+   */
+  @NotNull
+  public static Version fromSortKey(@NotNull byte[] sortKey, @NotNull QualifierScheme qualifierScheme) {
+    return readSortKey(ByteBuffer.wrap(sortKey), qualifierScheme);
+  }
+
+  /**
+   * Reads a binary sort key from {@code buffer} at its current position.
+   *
+   * @param buffer the buffer containing a sort key written by {@link #writeSortKey(ByteBuffer)}.
+   * @return a Version object that is equal to the one the sort key was created from.
+   * @throws IllegalArgumentException          if the buffer contains no valid sort key.
+   * @throws java.nio.BufferUnderflowException if the sort key in {@code buffer} is incomplete.
+   * @see #fromSortKey(byte[] sortKey)
+   */
+  @NotNull
+  public static Version readSortKey(@NotNull ByteBuffer buffer) {
+    return readSortKey(buffer, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Reads a binary sort key of a version parsed with {@code qualifierScheme} from {@code buffer} at its current
+   * position.
+   *
+   * @param buffer          the buffer containing a sort key written by {@link #writeSortKey(ByteBuffer)}.
+   * @param qualifierScheme the scheme providing a qualifier for the qualifier rank of the sort key.
+   * @return a Version object that is equal to the one the sort key was created from.
+   * @throws IllegalArgumentException          if the buffer contains no valid sort key.
+   * @throws java.nio.BufferUnderflowException if the sort key in {@code buffer} is incomplete.
+   * @see #readSortKey(ByteBuffer buffer)
+   */
+  @NotNull
+  public static Version readSortKey(@NotNull ByteBuffer buffer, @NotNull QualifierScheme qualifierScheme) {
+    return VersionSortKey.read(buffer, qualifierScheme);
+  }
+
+  /**
+   * Compares two binary sort keys byte by byte as unsigned values.
+   *
+   * @param sortKeyA the first sort key.
+   * @param sortKeyB the second sort key.
+   * @return a negative value, zero or a positive value like {@link #compareTo(Version)} for the versions the sort keys
+   * were created from.
+   */
+  public static int compareSortKeys(@NotNull byte[] sortKeyA, @NotNull byte[] sortKeyB) {
+    return VersionSortKey.compare(sortKeyA, sortKeyB);
+  }
+
+  /**
+   * Compares two version strings like {@code new Version(versionA).compareTo(new Version(versionB))}, but without
+   * creating Version objects. Both strings are walked side by side and the comparison stops at the first differing
+   * subversion number, the suffixes are only inspected if all numbers are equal. Nothing is allocated unless a suffix
+   * has to be inspected that contains whitespace between its chars, which is removed in a copy. Invalid or null
+   * strings are handled like {@link #Version(String versionString)} does.
+   *
+   * @param versionA the first version string.
+   * @param versionB the second version string.
+   * @return -1, 0 or 1 if {@code versionA} is lower than, equal to or higher than {@code versionB}.
+   * @throws NumberFormatException if a subversion number which has to be compared exceeds {@link Long#MAX_VALUE}.
+   * @see #STRING_ORDER
+   */
+  public static int compare(@Nullable CharSequence versionA, @Nullable CharSequence versionB) {
+    return compare(versionA, versionB, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Compares two version strings like {@link #compare(CharSequence versionA, CharSequence versionB)}, but ranks
+   * their qualifiers by {@code qualifierScheme} like
+   * {@code new Version(versionA, false, qualifierScheme).compareTo(new Version(versionB, false, qualifierScheme))}.
+   * Unless {@code qualifierScheme} is {@link QualifierScheme#DEFAULT}, a view on each suffix is allocated to classify
+   * it if all numbers are equal.
+   *
+   * @param versionA        the first version string.
+   * @param versionB        the second version string.
+   * @param qualifierScheme the scheme used to rank the qualifiers of the suffixes.
+   * @return -1, 0 or 1 if {@code versionA} is lower than, equal to or higher than {@code versionB}.
+   * @throws NumberFormatException if a subversion number which has to be compared exceeds {@link Long#MAX_VALUE}.
+   */
+  public static int compare(@Nullable CharSequence versionA, @Nullable CharSequence versionB,
+                            @NotNull QualifierScheme qualifierScheme) {
+    final VersionMetrics metrics = Version.metrics;
+    if (metrics != null) metrics.onCompare();
+    return VersionComparator.compareText(versionA, versionB, qualifierScheme);
+  }
+
   @Override
   public final int compareTo(@NotNull Version version) {
     return compareTo(version, false);
   }
 
-  private int compareTo(@NotNull Version version, boolean ignoreSuffix) {
+  int compareTo(@NotNull Version version, boolean ignoreSuffix) {
+    final VersionMetrics metrics = Version.metrics;
+    if (metrics != null) metrics.onCompare();
+    if (LazyVersion.haveEqualSource(this, version)) {
+      return 0;
+    }
+    final Version a = parsed();
+    final Version b = version.parsed();
     int versionNumberResult = VersionComparator.compareSubversionNumbers(
-      trimmedSubversionNumbers,
-      version.trimmedSubversionNumbers
+      a.trimmedSubversionNumbers,
+      b.trimmedSubversionNumbers
     );
     if (versionNumberResult != 0 || ignoreSuffix) {
       return versionNumberResult;
     }
-    int releaseTypeResult = releaseType.compareTo(version.releaseType);
-    if (releaseTypeResult != 0) {
-      return releaseTypeResult;
+    int qualifierResult = Integer.compare(a.qualifierRank, b.qualifierRank);
+    if (qualifierResult != 0) {
+      return qualifierResult;
     } else {
-      return Long.compare(preReleaseVersion, version.preReleaseVersion);
+      return Long.compare(a.preReleaseVersion, b.preReleaseVersion);
     }
   }
 
+  // same result as isEqual(version), comparing the parsed values directly
+  boolean hasEqualValues(@NotNull Version version) {
+    final Version a = parsed();
+    final Version b = version.parsed();
+    return a.hashCode == b.hashCode && a.qualifierRank == b.qualifierRank
+      && a.preReleaseVersion == b.preReleaseVersion
+      && Arrays.equals(a.trimmedSubversionNumbers, b.trimmedSubversionNumbers);
+  }
+
   @Override
   public final boolean equals(Object o) {
     if (o instanceof Version && isEqual((Version) o)) return true;
@@ -299,14 +974,47 @@ public class Version implements Comparable<Version> {
 
   @Override
   public final int hashCode() {
-    int result = trimmedSubversionNumbers.hashCode();
-    result = 31 * result + releaseType.hashCode();
-    result = 31 * result + (int) (preReleaseVersion ^ (preReleaseVersion >>> 32));
+    return parsed().hashCode;
+  }
+
+  private int calculateHashCode() {
+    int result = 1;
+    for (long subversionNumber : trimmedSubversionNumbers) {
+      result = 31 * result + Long.hashCode(subversionNumber);
+    }
+    result = 31 * result + qualifierRank;
+    result = 31 * result + Long.hashCode(preReleaseVersion);
     return result;
   }
 
   @Override
   public String toString() {
-    return String.valueOf(originalString);
+    return String.valueOf(getOriginalString());
+  }
+
+  // read-only view on the subversion numbers, trailing zeros are restored and numbers are boxed on access only
+  private static final class SubversionNumberList extends AbstractList<Long> implements RandomAccess {
+
+    @NotNull
+    private final long[] trimmedNumbers;
+    private final int size;
+
+    SubversionNumberList(@NotNull long[] trimmedNumbers, int size) {
+      this.trimmedNumbers = trimmedNumbers;
+      this.size = size;
+    }
+
+    @Override
+    public Long get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      return index < trimmedNumbers.length ? trimmedNumbers[index] : 0L;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
   }
-}
+}
\ No newline at end of file
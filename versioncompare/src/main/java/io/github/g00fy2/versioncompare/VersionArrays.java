@@ -0,0 +1,69 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Array comparisons of the hot paths, e.g. comparing the subversion numbers of two versions.
+ * <p>
+ * This is the Java 8 baseline. The multi-release JAR replaces this class on Java 17 and later with the variant in
+ * {@code src/main/java17}, which uses the vectorized comparisons of {@link java.util.Arrays}. Both variants must have
+ * the same methods and return the same results.
+ */
+final class VersionArrays {
+
+  private VersionArrays() {
+    // utility class should not be instantiated
+  }
+
+  // the Java version this variant of the class was written for, not a constant so that it is not inlined by javac
+  static int featureVersion() {
+    return 8;
+  }
+
+  /**
+   * Compares the range {@code fromA} until {@code toA} of {@code numbersA} with {@code numbersB}, missing numbers
+   * count as zero.
+   *
+   * @return -1, 0 or 1.
+   */
+  static int compareNumbers(@NotNull long[] numbersA, int fromA, int toA, @NotNull long[] numbersB) {
+    final int minSize = Math.min(toA - fromA, numbersB.length);
+    for (int i = 0; i < minSize; i++) {
+      final long a = numbersA[fromA + i];
+      final long b = numbersB[i];
+      if (a != b) {
+        return a > b ? 1 : -1;
+      }
+    }
+    return compareRemainingNumbers(numbersA, fromA + minSize, toA, numbersB, minSize);
+  }
+
+  /**
+   * Compares two byte arrays lexicographically as unsigned values, a proper prefix is lower.
+   *
+   * @return the difference of the first mismatching bytes or of the lengths.
+   */
+  static int compareUnsigned(@NotNull byte[] a, @NotNull byte[] b) {
+    final int minLength = Math.min(a.length, b.length);
+    for (int i = 0; i < minLength; i++) {
+      final int byteA = a[i] & 0xFF;
+      final int byteB = b[i] & 0xFF;
+      if (byteA != byteB) {
+        return byteA - byteB;
+      }
+    }
+    return a.length - b.length;
+  }
+
+  // only one of both ranges may contain further numbers
+  private static int compareRemainingNumbers(@NotNull long[] numbersA, int fromA, int toA, @NotNull long[] numbersB,
+                                             int fromB) {
+    for (int i = fromA; i < toA; i++) {
+      if (numbersA[i] != 0) return numbersA[i] > 0 ? 1 : -1;
+    }
+    for (int i = fromB; i < numbersB.length; i++) {
+      if (numbersB[i] != 0) return numbersB[i] > 0 ? -1 : 1;
+    }
+    return 0;
+  }
+}
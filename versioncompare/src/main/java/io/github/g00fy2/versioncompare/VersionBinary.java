@@ -0,0 +1,364 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of a version which is decoded without parsing.
+ * <p>
+ * Layout: a varint header {@code trimmedCount << 2 | flags}, the number of trailing zero subversion numbers, every
+ * trimmed subversion number, the zigzag encoded qualifier rank and the pre-release version, all as varints. Then the
+ * original string if flag {@link #ORIGINAL_STRING} is set and the suffix, either as string or as range of the original
+ * string if flag {@link #SUFFIX_IN_ORIGINAL_STRING} is set. A varint stores 7 bits per byte starting with the lowest
+ * bits, the highest bit of a byte marks that another byte follows. A string is its varint length followed by every
+ * char as varint, so ASCII strings take one byte per char.
+ */
+final class VersionBinary {
+
+  private VersionBinary() {
+    // utility class should not be instantiated
+  }
+
+  private static final int ORIGINAL_STRING = 1;
+  private static final int SUFFIX_IN_ORIGINAL_STRING = 2;
+  private static final int FLAG_BITS = 2;
+
+  static int length(@NotNull Version version, boolean includeOriginalString) {
+    final long[] numbers = version.trimmedSubversionNumbers();
+    final String originalString = includeOriginalString ? version.getOriginalString() : null;
+    final String suffix = version.getSuffix();
+    int length = varLongLength((long) numbers.length << FLAG_BITS)
+      + varLongLength(version.subversionNumbersSize() - numbers.length);
+    for (long number : numbers) {
+      length += varLongLength(number);
+    }
+    length += varLongLength(zigzag(version.getQualifierRank())) + varLongLength(version.getPreReleaseVersion());
+    if (originalString != null) {
+      length += stringLength(originalString);
+    }
+    final int suffixStart = suffixStart(originalString, suffix);
+    return length + (suffixStart >= 0 ? varLongLength(suffixStart) : stringLength(suffix));
+  }
+
+  static void write(@NotNull ByteBuffer buffer, @NotNull Version version, boolean includeOriginalString) {
+    final long[] numbers = version.trimmedSubversionNumbers();
+    final String originalString = includeOriginalString ? version.getOriginalString() : null;
+    final String suffix = version.getSuffix();
+    final int suffixStart = suffixStart(originalString, suffix);
+    int flags = 0;
+    if (originalString != null) flags |= ORIGINAL_STRING;
+    if (suffixStart >= 0) flags |= SUFFIX_IN_ORIGINAL_STRING;
+
+    writeVarLong(buffer, (long) numbers.length << FLAG_BITS | flags);
+    writeVarLong(buffer, version.subversionNumbersSize() - numbers.length);
+    for (long number : numbers) {
+      writeVarLong(buffer, number);
+    }
+    writeVarLong(buffer, zigzag(version.getQualifierRank()));
+    writeVarLong(buffer, version.getPreReleaseVersion());
+    if (originalString != null) {
+      writeString(buffer, originalString);
+    }
+    if (suffixStart >= 0) {
+      writeVarLong(buffer, suffixStart);
+    } else {
+      writeString(buffer, suffix);
+    }
+  }
+
+  static void write(@NotNull DataOutput output, @NotNull Version version, boolean includeOriginalString)
+    throws IOException {
+    final long[] numbers = version.trimmedSubversionNumbers();
+    final String originalString = includeOriginalString ? version.getOriginalString() : null;
+    final String suffix = version.getSuffix();
+    final int suffixStart = suffixStart(originalString, suffix);
+    int flags = 0;
+    if (originalString != null) flags |= ORIGINAL_STRING;
+    if (suffixStart >= 0) flags |= SUFFIX_IN_ORIGINAL_STRING;
+
+    writeVarLong(output, (long) numbers.length << FLAG_BITS | flags);
+    writeVarLong(output, version.subversionNumbersSize() - numbers.length);
+    for (long number : numbers) {
+      writeVarLong(output, number);
+    }
+    writeVarLong(output, zigzag(version.getQualifierRank()));
+    writeVarLong(output, version.getPreReleaseVersion());
+    if (originalString != null) {
+      writeString(output, originalString);
+    }
+    if (suffixStart >= 0) {
+      writeVarLong(output, suffixStart);
+    } else {
+      writeString(output, suffix);
+    }
+  }
+
+  @NotNull
+  static Version read(@NotNull ByteBuffer buffer) {
+    final long header = readVarLong(buffer);
+    final long[] numbers = newNumbers(header);
+    final int size = subversionNumbersSize(numbers, readVarLong(buffer));
+    for (int i = 0; i < numbers.length; i++) {
+      numbers[i] = readVarLong(buffer);
+    }
+    final int qualifierRank = qualifierRank(readVarLong(buffer));
+    final long preReleaseVersion = readVarLong(buffer);
+    final String originalString = (header & ORIGINAL_STRING) != 0 ? readString(buffer) : null;
+    final String suffix = (header & SUFFIX_IN_ORIGINAL_STRING) != 0
+      ? suffixOf(originalString, readVarLong(buffer))
+      : readString(buffer);
+    return newVersion(originalString, numbers, size, suffix, qualifierRank, preReleaseVersion);
+  }
+
+  @NotNull
+  static Version read(@NotNull DataInput input) throws IOException {
+    final long header = readVarLong(input);
+    final long[] numbers = newNumbers(header);
+    final int size = subversionNumbersSize(numbers, readVarLong(input));
+    for (int i = 0; i < numbers.length; i++) {
+      numbers[i] = readVarLong(input);
+    }
+    final int qualifierRank = qualifierRank(readVarLong(input));
+    final long preReleaseVersion = readVarLong(input);
+    final String originalString = (header & ORIGINAL_STRING) != 0 ? readString(input) : null;
+    final String suffix = (header & SUFFIX_IN_ORIGINAL_STRING) != 0
+      ? suffixOf(originalString, readVarLong(input))
+      : readString(input);
+    return newVersion(originalString, numbers, size, suffix, qualifierRank, preReleaseVersion);
+  }
+
+  @NotNull
+  private static long[] newNumbers(long header) {
+    final long count = header >>> FLAG_BITS;
+    if (count > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Encoded version contains too many subversion numbers: " + count);
+    }
+    return count > 0 ? new long[(int) count] : VersionComparator.EMPTY_NUMBERS;
+  }
+
+  private static int subversionNumbersSize(@NotNull long[] numbers, long trailingZeroCount) {
+    if (trailingZeroCount > Integer.MAX_VALUE - numbers.length) {
+      throw new IllegalArgumentException("Encoded version contains too many subversion numbers");
+    }
+    return numbers.length + (int) trailingZeroCount;
+  }
+
+  private static int qualifierRank(long zigzagRank) {
+    final long rank = (zigzagRank >>> 1) ^ -(zigzagRank & 1);
+    if (rank != (int) rank) {
+      throw new IllegalArgumentException("Encoded version contains invalid qualifier rank " + rank);
+    }
+    return (int) rank;
+  }
+
+  // start of the suffix within the original string or -1 if the suffix has to be written as string, the parser skips
+  // whitespace, dots and digits until the suffix starts
+  private static int suffixStart(@Nullable String originalString, @NotNull String suffix) {
+    if (originalString == null || suffix.isEmpty()) return -1;
+    for (int i = 0; i < originalString.length(); i++) {
+      final char c = originalString.charAt(i);
+      if (!VersionComparator.isWhitespace(c) && c != '.' && !Character.isDigit(c)) {
+        return originalString.startsWith(suffix, i) ? i : -1;
+      }
+    }
+    return -1;
+  }
+
+  @NotNull
+  private static String suffixOf(@Nullable String originalString, long suffixStart) {
+    if (originalString == null || suffixStart > originalString.length()) {
+      throw new IllegalArgumentException("Encoded version contains invalid suffix start " + suffixStart);
+    }
+    return VersionComparator.extractSuffix(originalString, (int) suffixStart);
+  }
+
+  @NotNull
+  private static Version newVersion(@Nullable String originalString, @NotNull long[] numbers, int size,
+                                    @NotNull String suffix, int qualifierRank, long preReleaseVersion) {
+    for (long number : numbers) {
+      if (number < 0) {
+        throw new IllegalArgumentException("Encoded version contains negative number " + number);
+      }
+    }
+    if (numbers.length > 0 && numbers[numbers.length - 1] == 0) {
+      throw new IllegalArgumentException("Encoded version contains trailing zero");
+    }
+    if (preReleaseVersion < 0) {
+      throw new IllegalArgumentException("Encoded version contains negative number " + preReleaseVersion);
+    }
+    final CharSequence versionText = originalString != null || size == 0
+      ? originalString
+      : new CanonicalText(numbers, size, suffix);
+    return new Version(versionText, numbers, size, suffix, qualifierRank, preReleaseVersion, QualifierScheme.DEFAULT);
+  }
+
+  private static long zigzag(int value) {
+    return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+  }
+
+  private static int varLongLength(long value) {
+    // 7 bits per byte, at least one byte
+    return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+  }
+
+  private static void writeVarLong(@NotNull ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) (value | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static void writeVarLong(@NotNull DataOutput output, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) (value | 0x80));
+      value >>>= 7;
+    }
+    output.writeByte((int) value);
+  }
+
+  private static long readVarLong(@NotNull ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      final byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) return value;
+    }
+    throw new IllegalArgumentException("Encoded version contains too long varint");
+  }
+
+  private static long readVarLong(@NotNull DataInput input) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      final byte b = input.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) return value;
+    }
+    throw new IllegalArgumentException("Encoded version contains too long varint");
+  }
+
+  private static int stringLength(@NotNull String str) {
+    int length = varLongLength(str.length());
+    for (int i = 0; i < str.length(); i++) {
+      length += varLongLength(str.charAt(i));
+    }
+    return length;
+  }
+
+  private static void writeString(@NotNull ByteBuffer buffer, @NotNull String str) {
+    writeVarLong(buffer, str.length());
+    for (int i = 0; i < str.length(); i++) {
+      final char c = str.charAt(i);
+      if (c < 0x80) buffer.put((byte) c);
+      else writeVarLong(buffer, c);
+    }
+  }
+
+  private static void writeString(@NotNull DataOutput output, @NotNull String str) throws IOException {
+    writeVarLong(output, str.length());
+    for (int i = 0; i < str.length(); i++) {
+      final char c = str.charAt(i);
+      if (c < 0x80) output.writeByte(c);
+      else writeVarLong(output, c);
+    }
+  }
+
+  @NotNull
+  private static String readString(@NotNull ByteBuffer buffer) {
+    final int length = checkedLength(readVarLong(buffer));
+    if (buffer.hasArray() && length <= buffer.remaining()) {
+      // ASCII strings are created from the array directly, each byte is a char
+      final byte[] array = buffer.array();
+      final int offset = buffer.arrayOffset() + buffer.position();
+      int ascii = 0;
+      while (ascii < length && array[offset + ascii] >= 0) ascii++;
+      if (ascii == length) {
+        buffer.position(buffer.position() + length);
+        return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+      }
+    }
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = charOf(readVarLong(buffer));
+    }
+    return new String(chars);
+  }
+
+  @NotNull
+  private static String readString(@NotNull DataInput input) throws IOException {
+    final char[] chars = new char[checkedLength(readVarLong(input))];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = charOf(readVarLong(input));
+    }
+    return new String(chars);
+  }
+
+  private static int checkedLength(long length) {
+    if (length > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Encoded version contains too long string: " + length);
+    }
+    return (int) length;
+  }
+
+  private static char charOf(long value) {
+    if (value > Character.MAX_VALUE) {
+      throw new IllegalArgumentException("Encoded version contains invalid char " + value);
+    }
+    return (char) value;
+  }
+
+  // a version string which is parsed to the same values, e.g. 1.2.0-rc3, only built once when first requested
+  private static final class CanonicalText implements CharSequence {
+
+    @NotNull
+    private final long[] numbers;
+    private final int size;
+    @NotNull
+    private final String suffix;
+    @Nullable
+    private String text;
+
+    CanonicalText(@NotNull long[] numbers, int size, @NotNull String suffix) {
+      this.numbers = numbers;
+      this.size = size;
+      this.suffix = suffix;
+    }
+
+    @Override
+    public int length() {
+      return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return toString().charAt(index);
+    }
+
+    @NotNull
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return toString().subSequence(start, end);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+      String result = text;
+      if (result == null) {
+        // racy single-check like Version#getOriginalString(), every thread builds an equal string
+        final StringBuilder sb = new StringBuilder(2 * size + suffix.length());
+        for (int i = 0; i < size; i++) {
+          if (i > 0) sb.append('.');
+          sb.append(i < numbers.length ? numbers[i] : 0L);
+        }
+        text = result = sb.append(suffix).toString();
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A size-bounded, thread-safe cache of parsed Version objects keyed by their version string.
+ * The cache is split into lock-striped segments sharing one size bound. Once the cache is full, adding a version
+ * evicts the least recently used entries of its segment, or of the following segments if its segment holds no other
+ * entries.
+ *
+ * @see Version#setSharedCache(VersionCache cache)
+ */
+public final class VersionCache {
+
+  private static final int SEGMENT_COUNT = 16; // power of two, see segmentIndex()
+
+  @NotNull
+  private final Segment[] segments = new Segment[SEGMENT_COUNT];
+  private final int maximumSize;
+  @NotNull
+  private final QualifierScheme qualifierScheme;
+  // number of entries of all segments, which exceeds maximumSize only until the adding thread has evicted
+  @NotNull
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * Initializes a newly created cache holding up to {@code maximumSize} versions parsed with
+   * {@link QualifierScheme#DEFAULT}.
+   *
+   * @param maximumSize the maximum number of cached versions.
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+   */
+  public VersionCache(int maximumSize) {
+    this(maximumSize, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Initializes a newly created cache holding up to {@code maximumSize} versions parsed with {@code qualifierScheme}.
+   *
+   * @param maximumSize     the maximum number of cached versions.
+   * @param qualifierScheme the scheme used to rank the qualifiers of the cached versions.
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+   */
+  public VersionCache(int maximumSize, @NotNull QualifierScheme qualifierScheme) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Argument maximumSize must be positive");
+    }
+    this.maximumSize = maximumSize;
+    this.qualifierScheme = qualifierScheme;
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new Segment();
+    }
+  }
+
+  /**
+   * Returns the cached Version object for {@code versionString} or parses and caches it.
+   * A {@code null} {@code versionString} is never cached.
+   *
+   * @param versionString the string representing the version.
+   * @return the Version object representing {@code versionString}.
+   */
+  @NotNull
+  public Version get(@Nullable String versionString) {
+    if (versionString == null) return new Version(null, false, qualifierScheme);
+
+    final int index = segmentIndex(versionString);
+    final Segment segment = segments[index];
+    final VersionMetrics metrics = Version.getMetrics();
+    synchronized (segment) {
+      final Version cached = segment.versions.get(versionString);
+      if (cached != null) {
+        segment.hitCount++;
+        if (metrics != null) metrics.onCacheHit();
+        return cached;
+      }
+      segment.missCount++;
+    }
+    if (metrics != null) metrics.onCacheMiss();
+    // parse outside of the lock, concurrent misses for the same string will result in equal objects
+    final Version version = new Version(versionString, false, qualifierScheme);
+    final boolean added;
+    synchronized (segment) {
+      added = segment.versions.put(versionString, version) == null;
+    }
+    if (added && size.incrementAndGet() > maximumSize) evict(index, versionString);
+    return version;
+  }
+
+  // evicts until the cache is within its bound, starting with the segment of the just added versionString
+  private void evict(int index, @NotNull String versionString) {
+    int segmentsWithoutEviction = 0;
+    while (size.get() > maximumSize && segmentsWithoutEviction < SEGMENT_COUNT) {
+      final Segment segment = segments[index];
+      final boolean evicted;
+      synchronized (segment) {
+        evicted = segment.evictEldest(versionString);
+      }
+      if (evicted) {
+        size.decrementAndGet();
+        segmentsWithoutEviction = 0;
+      } else {
+        segmentsWithoutEviction++;
+        index = (index + 1) & (SEGMENT_COUNT - 1);
+      }
+    }
+  }
+
+  /**
+   * Returns the maximum number of cached versions.
+   *
+   * @return the maximum number of cached versions.
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Returns the scheme the cached versions are parsed with.
+   *
+   * @return the qualifier scheme of the cached versions.
+   */
+  @NotNull
+  public QualifierScheme getQualifierScheme() {
+    return qualifierScheme;
+  }
+
+  /**
+   * Returns the number of currently cached versions.
+   *
+   * @return the number of currently cached versions.
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.versions.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns how often {@link #get(String)} could return a cached version.
+   *
+   * @return the number of cache hits.
+   */
+  public long getHitCount() {
+    long hitCount = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        hitCount += segment.hitCount;
+      }
+    }
+    return hitCount;
+  }
+
+  /**
+   * Returns how often {@link #get(String)} had to parse a version.
+   *
+   * @return the number of cache misses.
+   */
+  public long getMissCount() {
+    long missCount = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        missCount += segment.missCount;
+      }
+    }
+    return missCount;
+  }
+
+  /**
+   * Removes all cached versions and resets the hit and miss counters.
+   */
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size.addAndGet(-segment.versions.size());
+        segment.versions.clear();
+        segment.hitCount = 0;
+        segment.missCount = 0;
+      }
+    }
+  }
+
+  private static int segmentIndex(@NotNull String versionString) {
+    final int hash = versionString.hashCode();
+    return (hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1);
+  }
+
+  // access ordered map and counters, guarded by the monitor of the segment
+  private static final class Segment {
+
+    @NotNull
+    private final Map<String, Version> versions = new LinkedHashMap<>(16, 0.75f, true);
+    private long hitCount;
+    private long missCount;
+
+    // removes the least recently used entry unless it is the only one and was just added as addedString
+    boolean evictEldest(@NotNull String addedString) {
+      if (versions.isEmpty()) return false;
+      final Iterator<Map.Entry<String, Version>> iterator = versions.entrySet().iterator();
+      final Map.Entry<String, Version> eldest = iterator.next();
+      if (versions.size() == 1 && eldest.getKey().equals(addedString)) return false;
+      iterator.remove();
+      return true;
+    }
+  }
+}
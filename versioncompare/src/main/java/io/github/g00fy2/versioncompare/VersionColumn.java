@@ -0,0 +1,287 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A growable column of versions for analytics over many rows, e.g. the app version of every device of a fleet.
+ * <p>
+ * Rows keep their insertion order and are stored as parallel primitive arrays instead of Version objects, so batch
+ * queries are plain loops over the arrays which mostly only read the first three subversion numbers. The queries have
+ * the same semantics as the predicates of {@link Version}, e.g. {@link #filterAtLeast(Version)} selects the rows for
+ * which {@link Version#isAtLeast(Version)} would return {@code true}. This column is not thread-safe.
+ */
+public final class VersionColumn {
+
+  private static final int MINIMUM_CAPACITY = 16;
+  private static final int DENSE_MAJOR_LIMIT = 1024;
+
+  // the first three subversion numbers of each row, missing numbers are zero
+  @NotNull
+  private long[] majors;
+  @NotNull
+  private long[] minors;
+  @NotNull
+  private long[] patches;
+  // further subversion numbers of row i are extraNumbers[extraOffsets[i]] until extraNumbers[extraOffsets[i + 1]]
+  @NotNull
+  private int[] extraOffsets;
+  @NotNull
+  private long[] extraNumbers = VersionComparator.EMPTY_NUMBERS;
+  @NotNull
+  private int[] qualifierRanks;
+  @NotNull
+  private long[] preReleaseVersions;
+  private int size;
+
+  /**
+   * Initializes a newly created, empty column.
+   */
+  public VersionColumn() {
+    this(0);
+  }
+
+  /**
+   * Initializes a newly created, empty column which holds {@code expectedSize} rows without resizing.
+   *
+   * @param expectedSize the expected number of rows.
+   * @throws IllegalArgumentException if {@code expectedSize} is negative.
+   */
+  public VersionColumn(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Argument expectedSize is negative: " + expectedSize);
+    }
+    final int capacity = Math.max(MINIMUM_CAPACITY, expectedSize);
+    majors = new long[capacity];
+    minors = new long[capacity];
+    patches = new long[capacity];
+    extraOffsets = new int[capacity + 1];
+    qualifierRanks = new int[capacity];
+    preReleaseVersions = new long[capacity];
+  }
+
+  /**
+   * Appends {@code version} as new row.
+   *
+   * @param version the version to append.
+   * @return the index of the new row.
+   */
+  public int add(@NotNull Version version) {
+    if (size == majors.length) {
+      grow();
+    }
+    final long[] numbers = version.trimmedSubversionNumbers();
+    final int row = size;
+    majors[row] = numbers.length > 0 ? numbers[0] : 0L;
+    minors[row] = numbers.length > 1 ? numbers[1] : 0L;
+    patches[row] = numbers.length > 2 ? numbers[2] : 0L;
+    final int extraStart = extraOffsets[row];
+    final int extraLength = Math.max(0, numbers.length - 3);
+    if (extraLength > 0) {
+      if (extraStart + extraLength > extraNumbers.length) {
+        extraNumbers = Arrays.copyOf(extraNumbers, Math.max(MINIMUM_CAPACITY, (extraStart + extraLength) * 2));
+      }
+      System.arraycopy(numbers, 3, extraNumbers, extraStart, extraLength);
+    }
+    extraOffsets[row + 1] = extraStart + extraLength;
+    qualifierRanks[row] = version.getQualifierRank();
+    preReleaseVersions[row] = version.getPreReleaseVersion();
+    size++;
+    return row;
+  }
+
+  /**
+   * Appends all {@code versions} as new rows in iteration order.
+   *
+   * @param versions the versions to append.
+   */
+  public void addAll(@NotNull Iterable<? extends Version> versions) {
+    for (Version version : versions) {
+      add(version);
+    }
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the major version of {@code row}.
+   *
+   * @param row the index of the row.
+   * @return the major version of the row, default 0.
+   * @throws IndexOutOfBoundsException if {@code row} is negative or not lower than {@link #size()}.
+   */
+  public long getMajor(int row) {
+    checkRow(row);
+    return majors[row];
+  }
+
+  /**
+   * Returns the release type of {@code row}.
+   *
+   * @param row the index of the row.
+   * @return the release type of the row.
+   * @throws IndexOutOfBoundsException if {@code row} is negative or not lower than {@link #size()}.
+   */
+  @NotNull
+  public ReleaseType getReleaseType(int row) {
+    checkRow(row);
+    return ReleaseType.ofRank(qualifierRanks[row]);
+  }
+
+  /**
+   * Selects the rows which are equal or higher than {@code version}.
+   *
+   * @param version the lowest accepted version.
+   * @return the indices of all rows for which {@link Version#isAtLeast(Version)} would return {@code true}.
+   */
+  @NotNull
+  public BitSet filterAtLeast(@NotNull Version version) {
+    return filterAtLeast(version, false);
+  }
+
+  /**
+   * Selects the rows which are equal or higher than {@code version}, optionally ignoring the suffixes.
+   *
+   * @param version      the lowest accepted version.
+   * @param ignoreSuffix controls whether suffixes are ignored.
+   * @return the indices of all rows for which {@link Version#isAtLeast(Version, boolean)} would return {@code true}.
+   */
+  @NotNull
+  public BitSet filterAtLeast(@NotNull Version version, boolean ignoreSuffix) {
+    final Bound bound = new Bound(version, ignoreSuffix);
+    final long[] words = new long[(size + 63) >>> 6];
+    for (int i = 0; i < size; i++) {
+      // sets the bit without branching if the result is not negative
+      words[i >>> 6] |= (long) (~compareRow(i, bound) >>> 31) << i;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Counts the rows which are lower than {@code version}.
+   *
+   * @param version the version all counted rows are lower than.
+   * @return the number of rows for which {@link Version#isLowerThan(Version)} would return {@code true}.
+   */
+  public int countBelow(@NotNull Version version) {
+    final Bound bound = new Bound(version, false);
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      count += compareRow(i, bound) >>> 31;
+    }
+    return count;
+  }
+
+  /**
+   * Selects the pre-release rows, i.e. all rows with a qualifier ranked below {@link ReleaseType#STABLE}.
+   *
+   * @return the indices of all pre-release rows.
+   */
+  @NotNull
+  public BitSet filterPreRelease() {
+    final int[] qualifierRanks = this.qualifierRanks;
+    final long[] words = new long[(size + 63) >>> 6];
+    for (int i = 0; i < size; i++) {
+      // the sign bit of the rank is set for pre-releases
+      words[i >>> 6] |= (long) (qualifierRanks[i] >>> 31) << i;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Counts the rows per major version.
+   *
+   * @return the number of rows per major version in ascending order of the major versions, without major versions
+   * that have no rows.
+   */
+  @NotNull
+  public SortedMap<Long, Integer> histogramByMajor() {
+    final long[] majors = this.majors;
+    final int[] denseCounts = new int[DENSE_MAJOR_LIMIT];
+    final SortedMap<Long, Integer> histogram = new TreeMap<>();
+    for (int i = 0; i < size; i++) {
+      final long major = majors[i];
+      if (major < DENSE_MAJOR_LIMIT) denseCounts[(int) major]++;
+      else histogram.merge(major, 1, Integer::sum);
+    }
+    for (int major = 0; major < DENSE_MAJOR_LIMIT; major++) {
+      if (denseCounts[major] > 0) histogram.put((long) major, denseCounts[major]);
+    }
+    return histogram;
+  }
+
+  // same as compareTo of the row with the bound's version, subversion numbers are never negative so their differences
+  // do not overflow and most rows are decided without branches
+  private int compareRow(int row, @NotNull Bound bound) {
+    int result = Long.signum(majors[row] - bound.major);
+    if (result == 0) result = Long.signum(minors[row] - bound.minor);
+    if (result == 0) result = Long.signum(patches[row] - bound.patch);
+    return result != 0 ? result : compareExtraAndSuffix(row, bound);
+  }
+
+  private int compareExtraAndSuffix(int row, @NotNull Bound bound) {
+    final int extraResult = VersionComparator.compareSubversionNumbers(
+      extraNumbers, extraOffsets[row], extraOffsets[row + 1],
+      bound.extraNumbers
+    );
+    if (extraResult != 0 || bound.ignoreSuffix) {
+      return extraResult;
+    }
+    if (qualifierRanks[row] != bound.qualifierRank) {
+      return qualifierRanks[row] > bound.qualifierRank ? 1 : -1;
+    }
+    return Long.compare(preReleaseVersions[row], bound.preReleaseVersion);
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+    }
+  }
+
+  private void grow() {
+    final int capacity = majors.length * 2;
+    majors = Arrays.copyOf(majors, capacity);
+    minors = Arrays.copyOf(minors, capacity);
+    patches = Arrays.copyOf(patches, capacity);
+    extraOffsets = Arrays.copyOf(extraOffsets, capacity + 1);
+    qualifierRanks = Arrays.copyOf(qualifierRanks, capacity);
+    preReleaseVersions = Arrays.copyOf(preReleaseVersions, capacity);
+  }
+
+  // the query version split up like a row
+  private static final class Bound {
+
+    final long major;
+    final long minor;
+    final long patch;
+    @NotNull
+    final long[] extraNumbers;
+    final int qualifierRank;
+    final long preReleaseVersion;
+    final boolean ignoreSuffix;
+
+    Bound(@NotNull Version version, boolean ignoreSuffix) {
+      final long[] numbers = version.trimmedSubversionNumbers();
+      major = numbers.length > 0 ? numbers[0] : 0L;
+      minor = numbers.length > 1 ? numbers[1] : 0L;
+      patch = numbers.length > 2 ? numbers[2] : 0L;
+      extraNumbers = numbers.length > 3
+        ? Arrays.copyOfRange(numbers, 3, numbers.length)
+        : VersionComparator.EMPTY_NUMBERS;
+      qualifierRank = version.getQualifierRank();
+      preReleaseVersion = version.getPreReleaseVersion();
+      this.ignoreSuffix = ignoreSuffix;
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package io.github.g00fy2.versioncompare;
 
 import org.jetbrains.annotations.NotNull;
-import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 final class VersionComparator {
 
@@ -16,120 +16,335 @@ final class VersionComparator {
   private static final String BETA_STRING = "beta";
   private static final String RC_STRING = "rc";
 
-  // weighting of the PreRelease suffixes
-  enum ReleaseType {
-    SNAPSHOT,
-    PRE_ALPHA,
-    ALPHA,
-    BETA,
-    RC,
-    STABLE
-  }
-
-  static int compareSubversionNumbers(@NotNull final List<Long> versionNumbersA,
-                                      @NotNull final List<Long> versionNumbersB) {
-    final int numbersSizeA = versionNumbersA.size();
-    final int numbersSizeB = versionNumbersB.size();
-    final int maxSize = Math.max(numbersSizeA, numbersSizeB);
-
-    for (int i = 0; i < maxSize; i++) {
-      if ((i < numbersSizeA ? versionNumbersA.get(i) : 0) > (i < numbersSizeB ? versionNumbersB.get(i) : 0)) {
-        return 1;
-      } else if ((i < numbersSizeA ? versionNumbersA.get(i) : 0) < (i < numbersSizeB ? versionNumbersB.get(i) : 0)) {
-        return -1;
-      }
-    }
-    return 0;
+  static final long[] EMPTY_NUMBERS = new long[0];
+  private static final ReleaseType[] RELEASE_TYPES = ReleaseType.values();
+
+  static int compareSubversionNumbers(@NotNull final long[] versionNumbersA, @NotNull final long[] versionNumbersB) {
+    return compareSubversionNumbers(versionNumbersA, 0, versionNumbersA.length, versionNumbersB);
   }
 
-  static ReleaseType qualifierToReleaseType(@NotNull String suffix) {
-    if (suffix.length() > 0) {
-      suffix = suffix.toLowerCase();
-      if (suffix.contains(RC_STRING)) return ReleaseType.RC;
-      if (suffix.contains(BETA_STRING)) return ReleaseType.BETA;
-      if (suffix.contains(ALPHA_STRING)) {
-        if (suffix.substring(0, suffix.indexOf(ALPHA_STRING)).contains(PRE_STRING)) {
-          return ReleaseType.PRE_ALPHA;
-        } else {
-          return ReleaseType.ALPHA;
-        }
+  // compares the range fromA until toA of versionNumbersA with versionNumbersB
+  static int compareSubversionNumbers(@NotNull final long[] versionNumbersA, final int fromA, final int toA,
+                                      @NotNull final long[] versionNumbersB) {
+    return VersionArrays.compareNumbers(versionNumbersA, fromA, toA, versionNumbersB);
+  }
+
+  // compares the subversion numbers of text with versionNumbers, only parsing as many numbers of text as needed
+  static int compareSubversionNumbers(@Nullable final CharSequence text, @NotNull final long[] versionNumbers) {
+    final int length = text != null && startsNumeric(text) ? text.length() : 0;
+    int position = 0;
+    for (int index = 0; ; index++) {
+      position = skipSeparators(text, position, length);
+      final boolean hasNumber = position < length && Character.isDigit(text.charAt(position));
+      if (!hasNumber && index >= versionNumbers.length) return 0;
+
+      // missing numbers count as zero
+      long number = 0;
+      if (hasNumber) {
+        final int end = numberEnd(text, position, length);
+        number = parseNumber(text, position, end);
+        position = end;
+      }
+      final long versionNumber = index < versionNumbers.length ? versionNumbers[index] : 0;
+      if (number != versionNumber) {
+        return number > versionNumber ? 1 : -1;
       }
-      if (suffix.contains(SNAPSHOT_STRING)) return ReleaseType.SNAPSHOT;
     }
-    return ReleaseType.STABLE;
   }
 
-  static long preReleaseVersion(@NotNull final String suffix, final ReleaseType releaseType) {
-    if (releaseType == ReleaseType.STABLE || releaseType == ReleaseType.SNAPSHOT) return 0;
+  /**
+   * Finds the qualifier of {@code suffix} in a single pass, comparing chars with locale independent ASCII case
+   * folding. The first "rc" wins over "beta", "beta" over "alpha" (which is "pre-alpha" if "pre" occurs before it)
+   * and "alpha" over "snapshot".
+   *
+   * @return the release type ordinal in the lowest 3 bits and the index after the qualifier in the bits above.
+   */
+  static int classifyQualifier(@NotNull final CharSequence suffix) {
+    return classifyQualifier(suffix, 0, suffix.length());
+  }
+
+  // same as classifyQualifier(CharSequence) for the range from until to, the qualifier end is an index of str
+  static int classifyQualifier(@NotNull final CharSequence str, final int from, final int to) {
+    int betaEnd = -1;
+    int alphaEnd = -1;
+    boolean preBeforeAlpha = false;
+    boolean snapshot = false;
 
-    final int startIndex = indexOfQualifier(suffix, releaseType);
-    if (startIndex < suffix.length()) {
-      final int maxStartIndex = Math.min(startIndex + 2, suffix.length());
-      if (containsNumeric(suffix.substring(startIndex, maxStartIndex))) {
-        final StringBuilder versionNumber = new StringBuilder();
-        for (int i = startIndex; i < suffix.length(); i++) {
-          final char c = suffix.charAt(i);
-          if (Character.isDigit(c)) {
-            versionNumber.append(c);
-          } else if (i != startIndex) {
-            break;
+    for (int i = from; i < to; i++) {
+      switch (toLowerAscii(str.charAt(i))) {
+        case 'r':
+          if (regionMatches(str, i + 1, to, RC_STRING)) {
+            return qualifier(ReleaseType.RC, i + RC_STRING.length());
           }
-        }
-        return safeParseLong(versionNumber.toString());
+          break;
+        case 'b':
+          if (betaEnd < 0 && regionMatches(str, i + 1, to, BETA_STRING)) betaEnd = i + BETA_STRING.length();
+          break;
+        case 'a':
+          if (alphaEnd < 0 && regionMatches(str, i + 1, to, ALPHA_STRING)) alphaEnd = i + ALPHA_STRING.length();
+          break;
+        case 'p':
+          if (alphaEnd < 0 && regionMatches(str, i + 1, to, PRE_STRING)) preBeforeAlpha = true;
+          break;
+        case 's':
+          if (!snapshot && regionMatches(str, i + 1, to, SNAPSHOT_STRING)) snapshot = true;
+          break;
+        default:
+          break;
       }
     }
-    return 0;
+    if (betaEnd >= 0) return qualifier(ReleaseType.BETA, betaEnd);
+    if (alphaEnd >= 0) return qualifier(preBeforeAlpha ? ReleaseType.PRE_ALPHA : ReleaseType.ALPHA, alphaEnd);
+    if (snapshot) return qualifier(ReleaseType.SNAPSHOT, 0);
+    return qualifier(ReleaseType.STABLE, 0);
+  }
+
+  @NotNull
+  static ReleaseType releaseType(final int qualifier) {
+    return RELEASE_TYPES[qualifier & 7];
+  }
+
+  private static int qualifier(@NotNull final ReleaseType releaseType, final int end) {
+    return end << 3 | releaseType.ordinal();
+  }
+
+  // compares str from index until at most to with the lower case keyword without its first char
+  private static boolean regionMatches(@NotNull final CharSequence str, final int index, final int to,
+                                       @NotNull final String keyword) {
+    final int count = keyword.length() - 1;
+    if (index + count > to) return false;
+    for (int i = 0; i < count; i++) {
+      if (toLowerAscii(str.charAt(index + i)) != keyword.charAt(1 + i)) return false;
+    }
+    return true;
+  }
+
+  private static char toLowerAscii(final char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
   }
 
-  private static int indexOfQualifier(@NotNull String suffix, final ReleaseType releaseType) {
-    suffix = suffix.toLowerCase();
+  // canonical qualifier which is parsed back to the given release type
+  @NotNull
+  static String releaseTypeToQualifier(@NotNull final ReleaseType releaseType) {
     switch (releaseType) {
-      case RC:
-        return suffix.indexOf(RC_STRING) + RC_STRING.length();
-      case BETA:
-        return suffix.indexOf(BETA_STRING) + BETA_STRING.length();
-      case ALPHA:
+      case SNAPSHOT:
+        return SNAPSHOT_STRING;
       case PRE_ALPHA:
-        return suffix.indexOf(ALPHA_STRING) + ALPHA_STRING.length();
+        return PRE_STRING + "-" + ALPHA_STRING;
+      case ALPHA:
+        return ALPHA_STRING;
+      case BETA:
+        return BETA_STRING;
+      case RC:
+        return RC_STRING;
       default:
-        return 0;
+        return "";
     }
   }
 
-  // helper methods
-  static boolean startsNumeric(@NotNull String str) {
-    str = str.trim();
-    return str.length() > 0 && Character.isDigit(str.charAt(0));
+  /**
+   * Returns the number starting at {@code start}, optionally separated by one char like in "rc.2" or "beta-3". Only
+   * the first 19 digits are taken into account.
+   */
+  static long preReleaseVersion(@NotNull final CharSequence suffix, final int start) {
+    return preReleaseVersion(suffix, start, suffix.length());
   }
 
-  static long safeParseLong(@NotNull String numbers) {
-    if (numbers.length() > 19) {
-      numbers = numbers.substring(0, 19);
+  static long preReleaseVersion(@NotNull final CharSequence suffix, final int start, final int length) {
+    int i = start;
+    if (i < length && !Character.isDigit(suffix.charAt(i))) i++;
+    long number = 0;
+    for (int digitCount = 0; i < length; i++) {
+      final char c = suffix.charAt(i);
+      if (!Character.isDigit(c)) break;
+      number = appendDigit(number, digitCount++, c);
     }
-    return Long.parseLong(numbers);
+    return number;
   }
 
-  static boolean isNumeric(@NotNull final CharSequence cs) {
-    final int sz = cs.length();
-    if (sz > 0) {
-      for (int i = 0; i < sz; i++) {
-        if (!Character.isDigit(cs.charAt(i))) {
-          return false;
-        }
+  /**
+   * Compares two version strings exactly like {@code new Version(a, false, scheme).compareTo(new Version(b, false,
+   * scheme))} without creating Version objects. The numbers are compared side by side until the first difference, the
+   * suffixes are only classified if all numbers are equal. Only a suffix with inner whitespace is copied, and suffixes
+   * classified by a scheme other than the default one are wrapped in a view.
+   */
+  static int compareText(@Nullable final CharSequence a, @Nullable final CharSequence b,
+                         @NotNull final QualifierScheme scheme) {
+    // invalid versions have neither numbers nor suffix
+    final int lengthA = a != null && startsNumeric(a) ? a.length() : 0;
+    final int lengthB = b != null && startsNumeric(b) ? b.length() : 0;
+    int positionA = 0;
+    int positionB = 0;
+    while (true) {
+      positionA = skipSeparators(a, positionA, lengthA);
+      positionB = skipSeparators(b, positionB, lengthB);
+      final boolean hasNumberA = positionA < lengthA && Character.isDigit(a.charAt(positionA));
+      final boolean hasNumberB = positionB < lengthB && Character.isDigit(b.charAt(positionB));
+      if (!hasNumberA && !hasNumberB) break;
+
+      // missing numbers count as zero
+      long numberA = 0;
+      long numberB = 0;
+      if (hasNumberA) {
+        final int end = numberEnd(a, positionA, lengthA);
+        numberA = parseNumber(a, positionA, end);
+        positionA = end;
+      }
+      if (hasNumberB) {
+        final int end = numberEnd(b, positionB, lengthB);
+        numberB = parseNumber(b, positionB, end);
+        positionB = end;
+      }
+      if (numberA != numberB) {
+        return numberA > numberB ? 1 : -1;
+      }
+    }
+
+    // both positions are at the start of the suffix now
+    final CharSequence suffixA = suffixText(a, positionA, lengthA);
+    final CharSequence suffixB = suffixText(b, positionB, lengthB);
+    final int fromA = suffixA == a ? positionA : 0;
+    final int fromB = suffixB == b ? positionB : 0;
+    final int toA = suffixA == a ? suffixEnd(a, positionA, lengthA) : suffixA.length();
+    final int toB = suffixB == b ? suffixEnd(b, positionB, lengthB) : suffixB.length();
+    if (scheme != QualifierScheme.DEFAULT) {
+      return compareQualifiers(fromA < toA ? new CharSequenceSlice(suffixA, fromA, toA - fromA) : "",
+        fromB < toB ? new CharSequenceSlice(suffixB, fromB, toB - fromB) : "", scheme);
+    }
+    final int qualifierA = fromA < toA ? classifyQualifier(suffixA, fromA, toA) : qualifier(ReleaseType.STABLE, 0);
+    final int qualifierB = fromB < toB ? classifyQualifier(suffixB, fromB, toB) : qualifier(ReleaseType.STABLE, 0);
+    final ReleaseType releaseTypeA = releaseType(qualifierA);
+    final ReleaseType releaseTypeB = releaseType(qualifierB);
+    if (releaseTypeA != releaseTypeB) {
+      return releaseTypeA.compareTo(releaseTypeB) > 0 ? 1 : -1;
+    }
+    if (releaseTypeA == ReleaseType.STABLE || releaseTypeA == ReleaseType.SNAPSHOT) {
+      return 0;
+    }
+    return Long.compare(preReleaseVersion(suffixA, qualifierA >>> 3, toA),
+      preReleaseVersion(suffixB, qualifierB >>> 3, toB));
+  }
+
+  // compares the suffixes like Version objects parsed with scheme do
+  private static int compareQualifiers(@NotNull final CharSequence suffixA, @NotNull final CharSequence suffixB,
+                                       @NotNull final QualifierScheme scheme) {
+    final long qualifierA = scheme.classify(suffixA);
+    final long qualifierB = scheme.classify(suffixB);
+    final int rankA = QualifierScheme.rank(qualifierA);
+    final int rankB = QualifierScheme.rank(qualifierB);
+    if (rankA != rankB) {
+      return rankA > rankB ? 1 : -1;
+    }
+    return Long.compare(QualifierScheme.preReleaseVersion(suffixA, qualifierA),
+      QualifierScheme.preReleaseVersion(suffixB, qualifierB));
+  }
+
+  private static int skipSeparators(@Nullable final CharSequence str, int index, final int length) {
+    while (index < length && (str.charAt(index) == '.' || isWhitespace(str.charAt(index)))) index++;
+    return index;
+  }
+
+  // the end of the number starting at index, whitespace within the number is ignored
+  private static int numberEnd(@NotNull final CharSequence str, int index, final int length) {
+    while (index < length && (Character.isDigit(str.charAt(index)) || isWhitespace(str.charAt(index)))) index++;
+    return index;
+  }
+
+  private static long parseNumber(@NotNull final CharSequence str, final int from, final int to) {
+    long number = 0;
+    int digitCount = 0;
+    for (int i = from; i < to; i++) {
+      final char c = str.charAt(i);
+      if (!isWhitespace(c)) number = appendDigit(number, digitCount++, c);
+    }
+    return number;
+  }
+
+  // str itself if the suffix contains no whitespace except at its end, otherwise the extracted suffix
+  @Nullable
+  private static CharSequence suffixText(@Nullable final CharSequence str, final int from, final int length) {
+    final int end = suffixEnd(str, from, length);
+    for (int i = from; i < end; i++) {
+      if (isWhitespace(str.charAt(i))) return extractSuffix(str, from);
+    }
+    return str;
+  }
+
+  // the end of the suffix without trailing dots and whitespace, like extractSuffix
+  private static int suffixEnd(@Nullable final CharSequence str, final int from, int end) {
+    while (end > from && (str.charAt(end - 1) == '.' || isWhitespace(str.charAt(end - 1)))) end--;
+    return end;
+  }
+
+  // helper methods
+  static boolean startsNumeric(@NotNull final CharSequence str) {
+    // same as str.trim() followed by a check of the first char, without the copy
+    final int sz = str.length();
+    for (int i = 0; i < sz; i++) {
+      final char c = str.charAt(i);
+      if (c > ' ') {
+        return Character.isDigit(c);
       }
-      return true;
     }
     return false;
   }
 
-  private static boolean containsNumeric(@NotNull final CharSequence cs) {
+  /**
+   * Appends {@code digit} to {@code number} the way {@link Long#parseLong(String)} would parse the first 19 digits:
+   * further digits are ignored and an overflow of these digits is rejected.
+   */
+  static long appendDigit(final long number, final int digitIndex, final char digit) {
+    if (digitIndex >= 19) return number;
+    final int value = Character.digit(digit, 10);
+    // up to 18 digits always fit into a long, so only the last digit needs the division of the overflow check
+    if (digitIndex == 18 && number > (Long.MAX_VALUE - value) / 10) {
+      throw new NumberFormatException("Version number exceeds range of long");
+    }
+    return number * 10 + value;
+  }
+
+  // matches the characters of the regex character class \s
+  static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  /**
+   * Returns the suffix starting at {@code start} with all whitespace and trailing dots removed, like it would result
+   * from joining the remaining tokens of {@code str.replaceAll("\\s", "").split("\\.")}.
+   */
+  @NotNull
+  static String extractSuffix(@NotNull final CharSequence str, final int start) {
+    int end = str.length();
+    while (end > start && (str.charAt(end - 1) == '.' || isWhitespace(str.charAt(end - 1)))) {
+      end--;
+    }
+    if (start >= end) return "";
+
+    int whitespaceCount = 0;
+    for (int i = start; i < end; i++) {
+      if (isWhitespace(str.charAt(i))) whitespaceCount++;
+    }
+    if (whitespaceCount == 0 && str instanceof String) {
+      return ((String) str).substring(start, end);
+    }
+    final char[] chars = new char[end - start - whitespaceCount];
+    int pos = 0;
+    for (int i = start; i < end; i++) {
+      final char c = str.charAt(i);
+      if (!isWhitespace(c)) chars[pos++] = c;
+    }
+    return new String(chars);
+  }
+
+  static boolean isNumeric(@NotNull final CharSequence cs) {
     final int sz = cs.length();
     if (sz > 0) {
       for (int i = 0; i < sz; i++) {
-        if (Character.isDigit(cs.charAt(i))) {
-          return true;
+        if (!Character.isDigit(cs.charAt(i))) {
+          return false;
         }
       }
+      return true;
     }
     return false;
   }
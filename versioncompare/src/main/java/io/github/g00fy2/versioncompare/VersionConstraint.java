@@ -0,0 +1,505 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, precompiled version constraint like {@code >=1.2 <2.0}, {@code ~1.4}, {@code ^2} or
+ * {@code [1.0,2.0)}. All bound versions are parsed once, so matching a Version object does not allocate.
+ * <p>
+ * Supported expressions:
+ * <ul>
+ * <li>comparisons {@code >=1.2}, {@code >1.2}, {@code <=1.2}, {@code <1.2}, {@code =1.2} or just {@code 1.2}</li>
+ * <li>tilde ranges {@code ~1.4} meaning {@code >=1.4 <1.5} and {@code ~1} meaning {@code >=1 <2}</li>
+ * <li>caret ranges {@code ^1.2} meaning {@code >=1.2 <2} and {@code ^0.2} meaning {@code >=0.2 <0.3}</li>
+ * <li>interval ranges {@code [1.0,2.0)}, {@code (,1.0]}, {@code [1.5,)} and the exact range {@code [1.0]}</li>
+ * </ul>
+ * Comparisons separated by whitespace or {@code ,} must all match, alternatives are separated by {@code ||} and
+ * multiple interval ranges like {@code [1.0,2.0),[3.0,)} match if any of them does. Bounds are evaluated like
+ * {@link Version#compareTo(Version)}, except for the exclusive upper bounds of tilde and caret ranges, which ignore
+ * suffixes so that {@code 1.5-rc1} does not match {@code ~1.4}. Wildcards like {@code 1.x} or {@code 1.*} are not
+ * supported and rejected, use a tilde range or an interval instead.
+ */
+public final class VersionConstraint {
+
+  private static final int EQUAL = 0;
+  private static final int HIGHER = 1;
+  private static final int AT_LEAST = 2;
+  private static final int LOWER = 3;
+  private static final int AT_MOST = 4;
+  private static final String[] OPERATOR_STRINGS = {"=", ">", ">=", "<", "<="};
+
+  @NotNull
+  private final Bound[][] alternatives;
+  @NotNull
+  private final String expression;
+  @NotNull
+  private final QualifierScheme qualifierScheme;
+
+  private VersionConstraint(@NotNull Bound[][] alternatives, @Nullable String expression,
+                            @NotNull QualifierScheme qualifierScheme) {
+    this.alternatives = alternatives;
+    this.expression = expression != null ? expression : toExpression(alternatives);
+    this.qualifierScheme = qualifierScheme;
+  }
+
+  /**
+   * Compiles a constraint expression.
+   *
+   * @param expression the constraint expression.
+   * @return the compiled constraint.
+   * @throws IllegalArgumentException if {@code expression} is no valid constraint.
+   * @see #compile(String expression, boolean ignoreSuffix)
+   */
+  @NotNull
+  public static VersionConstraint compile(@NotNull String expression) {
+    return compile(expression, false);
+  }
+
+  /**
+   * Compiles a constraint expression.
+   *
+   * @param expression   the constraint expression.
+   * @param ignoreSuffix controls whether suffixes should be ignored by all bounds, like
+   *                     {@link Version#isAtLeast(Version, boolean)} does.
+   * @return the compiled constraint.
+   * @throws IllegalArgumentException if {@code expression} is no valid constraint.
+   * @see #builder() for controlling {@code ignoreSuffix} per bound.
+   */
+  @NotNull
+  public static VersionConstraint compile(@NotNull String expression, boolean ignoreSuffix) {
+    return compile(expression, ignoreSuffix, QualifierScheme.DEFAULT);
+  }
+
+  /**
+   * Compiles a constraint expression whose versions are parsed with {@code qualifierScheme}, which is also used to
+   * parse the version strings passed to {@link #matches(String)}.
+   *
+   * @param expression      the constraint expression.
+   * @param qualifierScheme the scheme used to rank the qualifiers of the bounds and the matched version strings.
+   * @return the compiled constraint.
+   * @throws IllegalArgumentException if {@code expression} is no valid constraint.
+   */
+  @NotNull
+  public static VersionConstraint compile(@NotNull String expression, @NotNull QualifierScheme qualifierScheme) {
+    return compile(expression, false, qualifierScheme);
+  }
+
+  /**
+   * Compiles a constraint expression whose versions are parsed with {@code qualifierScheme}.
+   *
+   * @param expression      the constraint expression.
+   * @param ignoreSuffix    controls whether suffixes should be ignored by all bounds, like
+   *                        {@link Version#isAtLeast(Version, boolean)} does.
+   * @param qualifierScheme the scheme used to rank the qualifiers of the bounds and the matched version strings.
+   * @return the compiled constraint.
+   * @throws IllegalArgumentException if {@code expression} is no valid constraint.
+   */
+  @NotNull
+  public static VersionConstraint compile(@NotNull String expression, boolean ignoreSuffix,
+                                          @NotNull QualifierScheme qualifierScheme) {
+    final List<Bound[]> alternatives = new ArrayList<>();
+    for (String alternative : expression.split("\\|\\|", -1)) {
+      alternative = alternative.trim();
+      if (alternative.startsWith("[") || alternative.startsWith("(")) {
+        parseIntervals(expression, alternative, ignoreSuffix, qualifierScheme, alternatives);
+      } else {
+        alternatives.add(parseComparisons(expression, alternative, ignoreSuffix, qualifierScheme));
+      }
+    }
+    return new VersionConstraint(alternatives.toArray(new Bound[0][]), expression, qualifierScheme);
+  }
+
+  /**
+   * Returns a builder for a new constraint with individual {@code ignoreSuffix} settings per bound.
+   *
+   * @return a new builder.
+   */
+  @NotNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Checks if {@code version} satisfies the constraint.
+   *
+   * @param version a Version object.
+   * @return {@code true} if all bounds of at least one alternative match {@code version}.
+   */
+  public boolean matches(@NotNull Version version) {
+    for (Bound[] bounds : alternatives) {
+      if (matchesAll(bounds, version)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Checks if {@code version} satisfies the constraint.
+   *
+   * @param version a string representing a version, parsed with the scheme the constraint was compiled with or
+   *                {@link QualifierScheme#DEFAULT} if it was built.
+   * @return {@code true} if all bounds of at least one alternative match {@code version}.
+   * @see #matches(Version version)
+   */
+  public boolean matches(@Nullable String version) {
+    return matches(Version.parseCached(version, qualifierScheme));
+  }
+
+  /**
+   * Returns the constraint expression.
+   *
+   * @return the expression the constraint was compiled from or an equivalent one if it was built.
+   */
+  @Override
+  public String toString() {
+    return expression;
+  }
+
+  private static boolean matchesAll(@NotNull Bound[] bounds, @NotNull Version version) {
+    for (Bound bound : bounds) {
+      if (!bound.matches(version)) return false;
+    }
+    return true;
+  }
+
+  // comparisons, tilde and caret ranges separated by whitespace or commas
+  @NotNull
+  private static Bound[] parseComparisons(@NotNull String expression, @NotNull String alternative,
+                                          boolean ignoreSuffix, @NotNull QualifierScheme qualifierScheme) {
+    final List<Bound> bounds = new ArrayList<>();
+    final String[] tokens = alternative.split("[\\s,]+");
+    for (int i = 0; i < tokens.length; i++) {
+      String token = tokens[i];
+      if (token.isEmpty()) continue;
+
+      // allow whitespace between operator and version like ">= 1.2" or "~ 1.4"
+      final boolean rangeOperator = token.equals("~") || token.equals("^");
+      if ((rangeOperator || operatorLength(token) == token.length()) && i + 1 < tokens.length) {
+        token = token + tokens[++i];
+      }
+      if (token.startsWith("~")) {
+        addRange(bounds, parseBoundVersion(expression, token.substring(1), qualifierScheme), false, ignoreSuffix);
+      } else if (token.startsWith("^")) {
+        addRange(bounds, parseBoundVersion(expression, token.substring(1), qualifierScheme), true, ignoreSuffix);
+      } else {
+        final int operatorLength = operatorLength(token);
+        final int operator = operatorLength > 0 ? parseOperator(token.substring(0, operatorLength)) : EQUAL;
+        final Version version = parseBoundVersion(expression, token.substring(operatorLength),
+          qualifierScheme);
+        bounds.add(new Bound(operator, version, ignoreSuffix));
+      }
+    }
+    if (bounds.isEmpty()) {
+      throw new IllegalArgumentException("Constraint contains an empty alternative");
+    }
+    return bounds.toArray(new Bound[0]);
+  }
+
+  // one or more intervals like "[1.0,2.0),[3.0,)", each interval is an alternative
+  private static void parseIntervals(@NotNull String expression, @NotNull String intervals, boolean ignoreSuffix,
+                                     @NotNull QualifierScheme qualifierScheme, @NotNull List<Bound[]> alternatives) {
+    int start = 0;
+    while (start < intervals.length()) {
+      final int end = indexOfAny(intervals, start);
+      if (end < 0) {
+        throw new IllegalArgumentException("Constraint contains an unclosed range: " + intervals);
+      }
+      final String interval = intervals.substring(start, end + 1).trim();
+      if (!interval.startsWith("[") && !interval.startsWith("(")) {
+        throw new IllegalArgumentException("Constraint contains an invalid range: " + interval);
+      }
+      alternatives.add(parseInterval(expression, interval, ignoreSuffix, qualifierScheme));
+
+      start = end + 1;
+      while (start < intervals.length() &&
+        (intervals.charAt(start) == ',' || Character.isWhitespace(intervals.charAt(start)))) {
+        start++;
+      }
+    }
+  }
+
+  @NotNull
+  private static Bound[] parseInterval(@NotNull String expression, @NotNull String interval, boolean ignoreSuffix,
+                                       @NotNull QualifierScheme qualifierScheme) {
+    final boolean lowerInclusive = interval.charAt(0) == '[';
+    final boolean upperInclusive = interval.charAt(interval.length() - 1) == ']';
+    final String content = interval.substring(1, interval.length() - 1);
+    final int separator = content.indexOf(',');
+    if (separator < 0) {
+      if (!lowerInclusive || !upperInclusive) {
+        throw new IllegalArgumentException("Constraint contains an invalid exact range: " + interval);
+      }
+      final Version version = parseBoundVersion(expression, content.trim(), qualifierScheme);
+      return new Bound[]{new Bound(EQUAL, version, ignoreSuffix)};
+    }
+    if (content.indexOf(',', separator + 1) >= 0) {
+      throw new IllegalArgumentException("Constraint contains an invalid range: " + interval);
+    }
+    final String lower = content.substring(0, separator).trim();
+    final String upper = content.substring(separator + 1).trim();
+    final Version lowerVersion = lower.isEmpty() ? null : parseBoundVersion(expression, lower, qualifierScheme);
+    final Version upperVersion = upper.isEmpty() ? null : parseBoundVersion(expression, upper, qualifierScheme);
+    if (lowerVersion != null && upperVersion != null) {
+      // reject ranges no version can match, like [2.0,1.0] or (1.0,1.0]
+      final int result = lowerVersion.compareTo(upperVersion, ignoreSuffix);
+      if (result > 0 || (result == 0 && (!lowerInclusive || !upperInclusive))) {
+        throw new IllegalArgumentException("Constraint contains an inverted range: " + interval);
+      }
+    }
+    final List<Bound> bounds = new ArrayList<>(2);
+    if (lowerVersion != null) {
+      bounds.add(new Bound(lowerInclusive ? AT_LEAST : HIGHER, lowerVersion, ignoreSuffix));
+    }
+    if (upperVersion != null) {
+      bounds.add(new Bound(upperInclusive ? AT_MOST : LOWER, upperVersion, ignoreSuffix));
+    }
+    return bounds.toArray(new Bound[0]);
+  }
+
+  // adds the bounds of a tilde (~) or caret (^) range
+  private static void addRange(@NotNull List<Bound> bounds, @NotNull Version lower, boolean caret,
+                               boolean ignoreSuffix) {
+    bounds.add(new Bound(AT_LEAST, lower, ignoreSuffix));
+
+    final List<Long> numbers = lower.getSubversionNumbers();
+    int bumpIndex;
+    if (caret) {
+      // bump the first non-zero number, or the last given one if all are zero
+      bumpIndex = numbers.size() - 1;
+      for (int i = 0; i < numbers.size(); i++) {
+        if (numbers.get(i) != 0L) {
+          bumpIndex = i;
+          break;
+        }
+      }
+    } else {
+      // bump the minor version, or the major version if no minor version is given
+      bumpIndex = Math.min(1, numbers.size() - 1);
+    }
+    if (numbers.get(bumpIndex) == Long.MAX_VALUE) return;
+
+    final StringBuilder upper = new StringBuilder();
+    for (int i = 0; i <= bumpIndex; i++) {
+      if (i > 0) upper.append('.');
+      upper.append(i < bumpIndex ? numbers.get(i) : numbers.get(i) + 1);
+    }
+    bounds.add(new Bound(LOWER, new Version(upper.toString()), true));
+  }
+
+  @NotNull
+  private static Version parseBoundVersion(@NotNull String expression, @NotNull String versionString,
+                                           @NotNull QualifierScheme qualifierScheme) {
+    if (versionString.isEmpty()) {
+      throw new IllegalArgumentException("Constraint contains an operator without version: " + expression);
+    }
+    // x-ranges like 1.x or 1.* are not supported, the lenient parser would read them as the exact version 1
+    for (String component : versionString.split("\\.")) {
+      if (component.equals("x") || component.equals("X") || component.equals("*")) {
+        throw invalidVersion(expression, versionString, null);
+      }
+    }
+    try {
+      return new Version(versionString, true, qualifierScheme);
+    } catch (IllegalArgumentException e) {
+      throw invalidVersion(expression, versionString, e);
+    }
+  }
+
+  @NotNull
+  private static IllegalArgumentException invalidVersion(@NotNull String expression, @NotNull String versionString,
+                                                         @Nullable IllegalArgumentException cause) {
+    return new IllegalArgumentException("Constraint contains an invalid version " + versionString + ": " + expression,
+      cause);
+  }
+
+  private static int operatorLength(@NotNull String token) {
+    int length = 0;
+    while (length < token.length() && "<>=!".indexOf(token.charAt(length)) >= 0) {
+      length++;
+    }
+    return length;
+  }
+
+  private static int parseOperator(@NotNull String operator) {
+    switch (operator) {
+      case "=":
+      case "==":
+        return EQUAL;
+      case ">":
+        return HIGHER;
+      case ">=":
+        return AT_LEAST;
+      case "<":
+        return LOWER;
+      case "<=":
+        return AT_MOST;
+      default:
+        throw new IllegalArgumentException("Constraint contains unknown operator " + operator);
+    }
+  }
+
+  private static int indexOfAny(@NotNull String str, int start) {
+    for (int i = start; i < str.length(); i++) {
+      if (str.charAt(i) == ']' || str.charAt(i) == ')') return i;
+    }
+    return -1;
+  }
+
+  @NotNull
+  private static String toExpression(@NotNull Bound[][] alternatives) {
+    final StringBuilder sb = new StringBuilder();
+    for (Bound[] bounds : alternatives) {
+      if (sb.length() > 0) sb.append(" || ");
+      for (int i = 0; i < bounds.length; i++) {
+        if (i > 0) sb.append(' ');
+        sb.append(OPERATOR_STRINGS[bounds[i].operator]).append(bounds[i].version);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static final class Bound {
+
+    private final int operator;
+    @NotNull
+    private final Version version;
+    private final boolean ignoreSuffix;
+
+    Bound(int operator, @NotNull Version version, boolean ignoreSuffix) {
+      this.operator = operator;
+      this.version = version;
+      this.ignoreSuffix = ignoreSuffix;
+    }
+
+    boolean matches(@NotNull Version other) {
+      final int result = other.compareTo(version, ignoreSuffix);
+      switch (operator) {
+        case HIGHER:
+          return result > 0;
+        case AT_LEAST:
+          return result >= 0;
+        case LOWER:
+          return result < 0;
+        case AT_MOST:
+          return result <= 0;
+        default:
+          return result == 0;
+      }
+    }
+  }
+
+  /**
+   * Builds a constraint from bounds with individual {@code ignoreSuffix} settings. Bounds are combined until
+   * {@link #or()} starts a new alternative.
+   */
+  public static final class Builder {
+
+    @NotNull
+    private final List<Bound[]> alternatives = new ArrayList<>();
+    @NotNull
+    private final List<Bound> bounds = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Adds a bound matching versions equal or higher than {@code version}.
+     *
+     * @param version      the lower bound.
+     * @param ignoreSuffix controls whether suffixes should be ignored.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder atLeast(@NotNull Version version, boolean ignoreSuffix) {
+      return add(AT_LEAST, version, ignoreSuffix);
+    }
+
+    /**
+     * Adds a bound matching versions higher than {@code version}.
+     *
+     * @param version      the lower bound.
+     * @param ignoreSuffix controls whether suffixes should be ignored.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder higherThan(@NotNull Version version, boolean ignoreSuffix) {
+      return add(HIGHER, version, ignoreSuffix);
+    }
+
+    /**
+     * Adds a bound matching versions equal or lower than {@code version}.
+     *
+     * @param version      the upper bound.
+     * @param ignoreSuffix controls whether suffixes should be ignored.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder atMost(@NotNull Version version, boolean ignoreSuffix) {
+      return add(AT_MOST, version, ignoreSuffix);
+    }
+
+    /**
+     * Adds a bound matching versions lower than {@code version}.
+     *
+     * @param version      the upper bound.
+     * @param ignoreSuffix controls whether suffixes should be ignored.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder lowerThan(@NotNull Version version, boolean ignoreSuffix) {
+      return add(LOWER, version, ignoreSuffix);
+    }
+
+    /**
+     * Adds a bound matching versions logically equal to {@code version}.
+     *
+     * @param version      the version to match.
+     * @param ignoreSuffix controls whether suffixes should be ignored.
+     * @return this builder.
+     */
+    @NotNull
+    public Builder equalTo(@NotNull Version version, boolean ignoreSuffix) {
+      return add(EQUAL, version, ignoreSuffix);
+    }
+
+    /**
+     * Starts a new alternative. The constraint matches if all bounds of any alternative match.
+     *
+     * @return this builder.
+     * @throws IllegalStateException if the current alternative has no bounds.
+     */
+    @NotNull
+    public Builder or() {
+      if (bounds.isEmpty()) {
+        throw new IllegalStateException("Alternative has no bounds");
+      }
+      alternatives.add(bounds.toArray(new Bound[0]));
+      bounds.clear();
+      return this;
+    }
+
+    /**
+     * Builds the immutable constraint.
+     *
+     * @return the constraint.
+     * @throws IllegalStateException if the current alternative has no bounds.
+     */
+    @NotNull
+    public VersionConstraint build() {
+      final List<Bound[]> allAlternatives = new ArrayList<>(alternatives);
+      if (bounds.isEmpty()) {
+        throw new IllegalStateException("Alternative has no bounds");
+      }
+      allAlternatives.add(bounds.toArray(new Bound[0]));
+      return new VersionConstraint(allAlternatives.toArray(new Bound[0][]), null, QualifierScheme.DEFAULT);
+    }
+
+    @NotNull
+    private Builder add(int operator, @NotNull Version version, boolean ignoreSuffix) {
+      bounds.add(new Bound(operator, version, ignoreSuffix));
+      return this;
+    }
+  }
+}
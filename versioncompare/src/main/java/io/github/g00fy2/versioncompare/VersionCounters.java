@@ -0,0 +1,133 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe counters of all {@link VersionMetrics} measurements, which can be read at any time. The counters are
+ * atomic longs, which are available on all Android versions but contend when many threads report at the same time.
+ * <pre>{@code
+ * VersionCounters counters = new VersionCounters();
+ * Version.setMetrics(counters);
+ * ...
+ * long parseCount = counters.getParseCount();
+ * }</pre>
+ */
+public final class VersionCounters implements VersionMetrics {
+
+  private final AtomicLong parseCount = new AtomicLong();
+  private final AtomicLong parseNanos = new AtomicLong();
+  private final AtomicLong invalidVersionCount = new AtomicLong();
+  private final AtomicLong compareCount = new AtomicLong();
+  private final AtomicLong cacheHitCount = new AtomicLong();
+  private final AtomicLong cacheMissCount = new AtomicLong();
+  private final AtomicLong parserMismatchCount = new AtomicLong();
+
+  @Override
+  public void onParse(long durationNanos) {
+    parseCount.incrementAndGet();
+    parseNanos.addAndGet(durationNanos);
+  }
+
+  @Override
+  public void onInvalidVersion() {
+    invalidVersionCount.incrementAndGet();
+  }
+
+  @Override
+  public void onCompare() {
+    compareCount.incrementAndGet();
+  }
+
+  @Override
+  public void onCacheHit() {
+    cacheHitCount.incrementAndGet();
+  }
+
+  @Override
+  public void onCacheMiss() {
+    cacheMissCount.incrementAndGet();
+  }
+
+  @Override
+  public void onParserMismatch(@Nullable String versionString, @NotNull String mismatch) {
+    parserMismatchCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the number of parsed version strings.
+   *
+   * @return the number of parsed version strings, including invalid ones.
+   */
+  public long getParseCount() {
+    return parseCount.get();
+  }
+
+  /**
+   * Returns the total time spent parsing.
+   *
+   * @return the sum of all parse durations in nanoseconds.
+   */
+  public long getParseNanos() {
+    return parseNanos.get();
+  }
+
+  /**
+   * Returns the number of version strings which were {@code null} or did not start with a numeric character.
+   *
+   * @return the number of invalid version strings.
+   */
+  public long getInvalidVersionCount() {
+    return invalidVersionCount.get();
+  }
+
+  /**
+   * Returns the number of version comparisons.
+   *
+   * @return the number of version comparisons.
+   */
+  public long getCompareCount() {
+    return compareCount.get();
+  }
+
+  /**
+   * Returns how often a {@link VersionCache} could return a cached version.
+   *
+   * @return the number of cache hits.
+   */
+  public long getCacheHitCount() {
+    return cacheHitCount.get();
+  }
+
+  /**
+   * Returns how often a {@link VersionCache} had to parse a version.
+   *
+   * @return the number of cache misses.
+   */
+  public long getCacheMissCount() {
+    return cacheMissCount.get();
+  }
+
+  /**
+   * Returns how often the differential check found different results of the parser engines.
+   *
+   * @return the number of parser mismatches.
+   */
+  public long getParserMismatchCount() {
+    return parserMismatchCount.get();
+  }
+
+  /**
+   * Resets all counters to zero. Measurements reported concurrently may get lost.
+   */
+  public void reset() {
+    parseCount.set(0);
+    parseNanos.set(0);
+    invalidVersionCount.set(0);
+    compareCount.set(0);
+    cacheHitCount.set(0);
+    cacheMissCount.set(0);
+    parserMismatchCount.set(0);
+  }
+}
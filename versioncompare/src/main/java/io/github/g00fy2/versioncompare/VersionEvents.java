@@ -0,0 +1,33 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder events of the instrumented hot paths.
+ * <p>
+ * This is the Java 8 baseline without events. The multi-release JAR replaces this class on Java 17 and later with the
+ * variant in {@code src/main/java17}. Both variants must have the same methods.
+ */
+final class VersionEvents {
+
+  private VersionEvents() {
+    // utility class should not be instantiated
+  }
+
+  /**
+   * Starts timing a parse event.
+   *
+   * @return the started event or {@code null} if the event is disabled.
+   */
+  @Nullable
+  static Object beginParse() {
+    return null;
+  }
+
+  /**
+   * Ends and commits an event started with {@link #beginParse()} if it exceeds the threshold.
+   */
+  static void endParse(@NotNull Object event, @Nullable CharSequence versionText, boolean validVersion) {
+  }
+}
@@ -0,0 +1,218 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable, sorted index of versions, e.g. all available versions of one artifact.
+ * <p>
+ * The comparison relevant parts of all versions are stored in flat primitive arrays, so every query is a binary
+ * search without dereferencing the indexed Version objects. Building the index takes O(n log n), queries take
+ * O(log n) and {@link #latest(ReleaseType)} takes O(1). Logically equal versions are all kept in the index.
+ */
+public final class VersionIndex {
+
+  private static final ReleaseType[] RELEASE_TYPES = ReleaseType.values();
+
+  @NotNull
+  private final Version[] versions;
+  // trimmed subversion numbers of version i are numbers[numberOffsets[i]] until numbers[numberOffsets[i + 1]]
+  @NotNull
+  private final long[] numbers;
+  @NotNull
+  private final int[] numberOffsets;
+  @NotNull
+  private final int[] qualifierRanks;
+  @NotNull
+  private final long[] preReleaseVersions;
+  // index of the highest version with at least the release type of the array index, -1 if there is none
+  @NotNull
+  private final int[] latestIndices = new int[RELEASE_TYPES.length];
+
+  /**
+   * Initializes a newly created index containing {@code versions}.
+   *
+   * @param versions the versions to index.
+   */
+  public VersionIndex(@NotNull Collection<? extends Version> versions) {
+    this.versions = versions.toArray(new Version[0]);
+    Arrays.sort(this.versions);
+
+    final int size = this.versions.length;
+    numberOffsets = new int[size + 1];
+    qualifierRanks = new int[size];
+    preReleaseVersions = new long[size];
+    int numberCount = 0;
+    for (Version version : this.versions) {
+      numberCount += version.trimmedSubversionNumbers().length;
+    }
+    numbers = new long[numberCount];
+    for (int i = 0; i < size; i++) {
+      final Version version = this.versions[i];
+      final long[] trimmedSubversionNumbers = version.trimmedSubversionNumbers();
+      System.arraycopy(trimmedSubversionNumbers, 0, numbers, numberOffsets[i], trimmedSubversionNumbers.length);
+      numberOffsets[i + 1] = numberOffsets[i] + trimmedSubversionNumbers.length;
+      qualifierRanks[i] = version.getQualifierRank();
+      preReleaseVersions[i] = version.getPreReleaseVersion();
+    }
+
+    Arrays.fill(latestIndices, -1);
+    for (int i = size - 1; i >= 0; i--) {
+      for (int type = ReleaseType.ofRank(qualifierRanks[i]).ordinal(); type >= 0 && latestIndices[type] < 0; type--) {
+        latestIndices[type] = i;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of indexed versions.
+   *
+   * @return the number of indexed versions.
+   */
+  public int size() {
+    return versions.length;
+  }
+
+  /**
+   * Returns the version at {@code index} in ascending order.
+   *
+   * @param index the position of the version.
+   * @return the version at {@code index}.
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not lower than {@link #size()}.
+   */
+  @NotNull
+  public Version get(int index) {
+    if (index < 0 || index >= versions.length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + versions.length);
+    }
+    return versions[index];
+  }
+
+  /**
+   * Returns the highest version that is equal or lower than {@code version}.
+   *
+   * @param version a Version object.
+   * @return the highest version equal or lower than {@code version} or {@code null} if there is none.
+   */
+  @Nullable
+  public Version floor(@NotNull Version version) {
+    return versionAt(indexAfter(version) - 1);
+  }
+
+  /**
+   * Returns the highest version that is lower than {@code version}.
+   *
+   * @param version a Version object.
+   * @return the highest version lower than {@code version} or {@code null} if there is none.
+   */
+  @Nullable
+  public Version lower(@NotNull Version version) {
+    return versionAt(indexOf(version) - 1);
+  }
+
+  /**
+   * Returns the lowest version that is equal or higher than {@code version}.
+   *
+   * @param version a Version object.
+   * @return the lowest version equal or higher than {@code version} or {@code null} if there is none.
+   */
+  @Nullable
+  public Version ceiling(@NotNull Version version) {
+    return versionAt(indexOf(version));
+  }
+
+  /**
+   * Returns the lowest version that is higher than {@code version}.
+   *
+   * @param version a Version object.
+   * @return the lowest version higher than {@code version} or {@code null} if there is none.
+   */
+  @Nullable
+  public Version higher(@NotNull Version version) {
+    return versionAt(indexAfter(version));
+  }
+
+  /**
+   * Returns the highest version.
+   *
+   * @return the highest version or {@code null} if the index is empty.
+   */
+  @Nullable
+  public Version latest() {
+    return versionAt(versions.length - 1);
+  }
+
+  /**
+   * Returns the highest version with at least the release type {@code minimum}, e.g. the latest stable version for
+   * {@link ReleaseType#STABLE} or the latest release candidate or stable version for {@link ReleaseType#RC}.
+   *
+   * @param minimum the lowest accepted release type.
+   * @return the highest matching version or {@code null} if there is none.
+   */
+  @Nullable
+  public Version latest(@NotNull ReleaseType minimum) {
+    return versionAt(latestIndices[minimum.ordinal()]);
+  }
+
+  /**
+   * Counts the versions between {@code from} and {@code to}.
+   *
+   * @param from          the lower bound.
+   * @param fromInclusive controls whether versions equal to {@code from} are counted.
+   * @param to            the upper bound.
+   * @param toInclusive   controls whether versions equal to {@code to} are counted.
+   * @return the number of versions within the range.
+   */
+  public int count(@NotNull Version from, boolean fromInclusive, @NotNull Version to, boolean toInclusive) {
+    final int start = fromInclusive ? indexOf(from) : indexAfter(from);
+    final int end = toInclusive ? indexAfter(to) : indexOf(to);
+    return Math.max(0, end - start);
+  }
+
+  @Nullable
+  private Version versionAt(int index) {
+    return index >= 0 && index < versions.length ? versions[index] : null;
+  }
+
+  // index of the first version that is equal or higher than version
+  private int indexOf(@NotNull Version version) {
+    int low = 0;
+    int high = versions.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compareAt(mid, version) < 0) low = mid + 1;
+      else high = mid;
+    }
+    return low;
+  }
+
+  // index of the first version that is higher than version
+  private int indexAfter(@NotNull Version version) {
+    int low = 0;
+    int high = versions.length;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (compareAt(mid, version) <= 0) low = mid + 1;
+      else high = mid;
+    }
+    return low;
+  }
+
+  // same as versions[index].compareTo(version) using the primitive arrays only
+  private int compareAt(int index, @NotNull Version version) {
+    final int numberResult = VersionComparator.compareSubversionNumbers(
+      numbers, numberOffsets[index], numberOffsets[index + 1],
+      version.trimmedSubversionNumbers()
+    );
+    if (numberResult != 0) {
+      return numberResult;
+    }
+    final int qualifierResult = Integer.compare(qualifierRanks[index], version.getQualifierRank());
+    if (qualifierResult != 0) {
+      return qualifierResult;
+    }
+    return Long.compare(preReleaseVersions[index], version.getPreReleaseVersion());
+  }
+}
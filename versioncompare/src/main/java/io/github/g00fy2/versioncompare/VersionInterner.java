@@ -0,0 +1,328 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * A thread-safe pool of canonical Version objects, e.g. to deduplicate the versions of a large dependency graph.
+ * <p>
+ * {@link #intern(Version)} returns the same Version object for every version with the same original string, scheme and
+ * parsed values, so the canonical version returns exactly what the interned one did. All canonical versions share
+ * their equal subversion number arrays and suffix strings, even if their original strings differ. Canonical versions
+ * only keep their original string, never the text they were parsed from. The pool only references its versions,
+ * arrays and strings weakly, so they are collected once they are no longer used. Like {@link VersionCache} the pool
+ * is split into lock-striped segments, which also guard their counters.
+ */
+public final class VersionInterner {
+
+  private static final int SEGMENT_COUNT = 16; // power of two, see segmentFor()
+  // estimated sizes with compressed references, 8 byte alignment and strings of one byte per char
+  private static final int VERSION_BYTES = 56;
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int STRING_BYTES = 24;
+
+  @NotNull
+  private final WeakSet<Version>[] versions = newSegments(VersionInterner::haveSameValues);
+  @NotNull
+  private final WeakSet<long[]>[] numberArrays = newSegments(Arrays::equals);
+  @NotNull
+  private final WeakSet<String>[] suffixes = newSegments(String::equals);
+
+  /**
+   * Returns the canonical Version object for the same original string and values as {@code version}, which is added
+   * to the pool first if there is none. The returned object is not necessarily {@code version} itself.
+   *
+   * @param version the version to deduplicate.
+   * @return the canonical Version object, which returns the same values as {@code version}.
+   */
+  @NotNull
+  public Version intern(@NotNull Version version) {
+    final String originalString = version.getOriginalString();
+    final int hash = 31 * version.hashCode() + (originalString != null ? originalString.hashCode() : 0);
+    final WeakSet<Version> segment = segmentFor(versions, hash);
+    synchronized (segment) {
+      final Version canonical = segment.get(version, hash);
+      if (canonical != null) {
+        segment.hitCount++;
+        segment.bytesSaved += duplicateBytes(version, canonical);
+        return canonical;
+      }
+      segment.missCount++;
+    }
+    // shares the components outside of the lock, concurrent misses for the same version add it once
+    final long[] numbers = internNumbers(version.trimmedSubversionNumbers());
+    final String suffix = internSuffix(version.getSuffix());
+    final Version created = new Version(originalString, numbers, version.subversionNumbersSize(), suffix,
+      version.getQualifierRank(), version.getPreReleaseVersion(), version.getQualifierScheme());
+    return segment.add(created, hash);
+  }
+
+  /**
+   * Parses {@code versionString} and returns its canonical Version object.
+   *
+   * @param versionString the string representing the version.
+   * @return the canonical Version object representing {@code versionString}.
+   * @see #intern(Version)
+   */
+  @NotNull
+  public Version intern(@Nullable String versionString) {
+    return intern(new Version(versionString));
+  }
+
+  /**
+   * Returns the number of canonical versions which are still referenced.
+   *
+   * @return the number of canonical versions.
+   */
+  public int size() {
+    int size = 0;
+    for (WeakSet<Version> segment : versions) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * Returns how often {@link #intern(Version)} could return an existing canonical version.
+   *
+   * @return the number of returned existing versions.
+   */
+  public long getHitCount() {
+    long hitCount = 0;
+    for (WeakSet<Version> segment : versions) {
+      synchronized (segment) {
+        hitCount += segment.hitCount;
+      }
+    }
+    return hitCount;
+  }
+
+  /**
+   * Returns how often {@link #intern(Version)} had to add a canonical version.
+   *
+   * @return the number of added versions.
+   */
+  public long getMissCount() {
+    long missCount = 0;
+    for (WeakSet<Version> segment : versions) {
+      synchronized (segment) {
+        missCount += segment.missCount;
+      }
+    }
+    return missCount;
+  }
+
+  /**
+   * Returns the estimated heap which became collectable by interning, assuming the interned versions are replaced
+   * by the returned canonical ones: every duplicate version and its arrays and strings as well as the arrays and
+   * suffix strings shared by different canonical versions. The estimate assumes compressed references and compact
+   * strings.
+   *
+   * @return the estimated number of saved bytes.
+   */
+  public long getEstimatedBytesSaved() {
+    return bytesSaved(versions) + bytesSaved(numberArrays) + bytesSaved(suffixes);
+  }
+
+  private static long bytesSaved(@NotNull WeakSet<?>[] segments) {
+    long bytesSaved = 0;
+    for (WeakSet<?> segment : segments) {
+      synchronized (segment) {
+        bytesSaved += segment.bytesSaved;
+      }
+    }
+    return bytesSaved;
+  }
+
+  @NotNull
+  private long[] internNumbers(@NotNull long[] numbers) {
+    if (numbers.length == 0) return VersionComparator.EMPTY_NUMBERS;
+    final int hash = Arrays.hashCode(numbers);
+    // the arrays of Version objects are never modified, so the array of the first version is shared
+    final WeakSet<long[]> segment = segmentFor(numberArrays, hash);
+    synchronized (segment) {
+      final long[] canonical = segment.add(numbers, hash);
+      if (canonical != numbers) segment.bytesSaved += arrayBytes(numbers.length);
+      return canonical;
+    }
+  }
+
+  @NotNull
+  private String internSuffix(@NotNull String suffix) {
+    if (suffix.isEmpty()) return "";
+    final int hash = suffix.hashCode();
+    final WeakSet<String> segment = segmentFor(suffixes, hash);
+    synchronized (segment) {
+      final String canonical = segment.add(suffix, hash);
+      if (canonical != suffix) segment.bytesSaved += stringBytes(suffix);
+      return canonical;
+    }
+  }
+
+  private static long duplicateBytes(@NotNull Version duplicate, @NotNull Version canonical) {
+    long bytes = VERSION_BYTES;
+    if (duplicate.trimmedSubversionNumbers() != canonical.trimmedSubversionNumbers()) {
+      bytes += arrayBytes(duplicate.trimmedSubversionNumbers().length);
+    }
+    if (duplicate.getSuffix() != canonical.getSuffix() && !duplicate.getSuffix().isEmpty()) {
+      bytes += stringBytes(duplicate.getSuffix());
+    }
+    final String originalString = duplicate.getOriginalString();
+    if (originalString != null && originalString != canonical.getOriginalString()) {
+      bytes += stringBytes(originalString);
+    }
+    return bytes;
+  }
+
+  private static boolean haveSameValues(@NotNull Version a, @NotNull Version b) {
+    return a.getQualifierScheme() == b.getQualifierScheme()
+      && a.subversionNumbersSize() == b.subversionNumbersSize() && a.getQualifierRank() == b.getQualifierRank()
+      && a.getPreReleaseVersion() == b.getPreReleaseVersion()
+      && Arrays.equals(a.trimmedSubversionNumbers(), b.trimmedSubversionNumbers())
+      && a.getSuffix().equals(b.getSuffix())
+      && (a.getOriginalString() != null ? a.getOriginalString().equals(b.getOriginalString())
+      : b.getOriginalString() == null);
+  }
+
+  private static long arrayBytes(int length) {
+    return align(ARRAY_HEADER_BYTES + 8L * length);
+  }
+
+  private static long stringBytes(@NotNull String str) {
+    return STRING_BYTES + align(ARRAY_HEADER_BYTES + (long) str.length());
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  @NotNull
+  private static <T> WeakSet<T> segmentFor(@NotNull WeakSet<T>[] segments, int hash) {
+    return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+  }
+
+  @NotNull
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> WeakSet<T>[] newSegments(@NotNull Equality<T> equality) {
+    final WeakSet<T>[] segments = new WeakSet[SEGMENT_COUNT];
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments[i] = new WeakSet<>(equality);
+    }
+    return segments;
+  }
+
+  // equality of the elements of a WeakSet, java.util.function.BiPredicate requires Android API level 24
+  private interface Equality<T> {
+
+    boolean equal(@NotNull T a, @NotNull T b);
+  }
+
+  // hash set of weakly referenced objects, which drops collected ones on access, guarded by its own monitor
+  private static final class WeakSet<T> {
+
+    @NotNull
+    private final Equality<T> equality;
+    @NotNull
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+    @NotNull
+    private Entry<T>[] table = newTable(16);
+    private int size;
+    private long hitCount;
+    private long missCount;
+    private long bytesSaved;
+
+    WeakSet(@NotNull Equality<T> equality) {
+      this.equality = equality;
+    }
+
+    @Nullable
+    synchronized T get(@NotNull T value, int hash) {
+      expungeCollectedEntries();
+      for (Entry<T> entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+        final T element = entry.get();
+        if (entry.hash == hash && element != null && equality.equal(element, value)) {
+          return element;
+        }
+      }
+      return null;
+    }
+
+    // returns the equal element of the set or adds value
+    @NotNull
+    synchronized T add(@NotNull T value, int hash) {
+      final T element = get(value, hash);
+      if (element != null) return element;
+      if (size >= table.length - (table.length >>> 2)) resize();
+      final int index = hash & (table.length - 1);
+      table[index] = new Entry<>(value, hash, table[index], queue);
+      size++;
+      return value;
+    }
+
+    synchronized int size() {
+      expungeCollectedEntries();
+      return size;
+    }
+
+    private void expungeCollectedEntries() {
+      Reference<? extends T> reference;
+      while ((reference = queue.poll()) != null) {
+        @SuppressWarnings("unchecked")
+        final Entry<T> collected = (Entry<T>) reference;
+        final int index = collected.hash & (table.length - 1);
+        Entry<T> previous = null;
+        for (Entry<T> entry = table[index]; entry != null; previous = entry, entry = entry.next) {
+          if (entry == collected) {
+            if (previous == null) table[index] = entry.next;
+            else previous.next = entry.next;
+            size--;
+            break;
+          }
+        }
+      }
+    }
+
+    private void resize() {
+      final Entry<T>[] newTable = newTable(table.length * 2);
+      for (Entry<T> head : table) {
+        Entry<T> entry = head;
+        while (entry != null) {
+          final Entry<T> next = entry.next;
+          if (entry.get() == null) {
+            // collected but not yet polled, it is not found when polled later
+            size--;
+          } else {
+            final int index = entry.hash & (newTable.length - 1);
+            entry.next = newTable[index];
+            newTable[index] = entry;
+          }
+          entry = next;
+        }
+      }
+      table = newTable;
+    }
+
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Entry<T>[] newTable(int length) {
+      return new Entry[length];
+    }
+  }
+
+  private static final class Entry<T> extends WeakReference<T> {
+
+    private final int hash;
+    @Nullable
+    private Entry<T> next;
+
+    Entry(@NotNull T referent, int hash, @Nullable Entry<T> next, @NotNull ReferenceQueue<T> queue) {
+      super(referent, queue);
+      this.hash = hash;
+      this.next = next;
+    }
+  }
+}
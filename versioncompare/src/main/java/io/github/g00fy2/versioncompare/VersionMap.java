@@ -0,0 +1,442 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A hash map keyed by versions, using the same equality as {@link Version#equals(Object)}, e.g. {@code 1.0} and
+ * {@code 1.0.0} are the same key.
+ * <p>
+ * Keys, values and the cached hash codes are stored in flat arrays using open addressing with linear probing, so there
+ * is no entry object per mapping and most lookups only compare the cached hash codes. Keys are compared by their
+ * parsed values without a full {@link Version#compareTo(Version)}. This map is not thread-safe.
+ *
+ * @param <V> the type of mapped values.
+ */
+public final class VersionMap<V> extends AbstractMap<Version, V> {
+
+  private static final int MINIMUM_CAPACITY = 8;
+
+  // hashes[i] caches the spread hash code of keys[i], which is never 0 as 0 marks a free slot
+  @NotNull
+  private Version[] keys;
+  @NotNull
+  private Object[] values;
+  @NotNull
+  private int[] hashes;
+  private int mask;
+  private int size;
+  private int modCount;
+  @Nullable
+  private Set<Entry<Version, V>> entrySet;
+
+  /**
+   * Initializes a newly created, empty map.
+   */
+  public VersionMap() {
+    this(0);
+  }
+
+  /**
+   * Initializes a newly created, empty map which holds {@code expectedSize} mappings without resizing.
+   *
+   * @param expectedSize the expected number of mappings.
+   * @throws IllegalArgumentException if {@code expectedSize} is negative.
+   */
+  public VersionMap(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Argument expectedSize is negative: " + expectedSize);
+    }
+    allocate(capacityFor(expectedSize));
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return key instanceof Version && indexOf((Version) key) >= 0;
+  }
+
+  @Nullable
+  @Override
+  public V get(@Nullable Object key) {
+    return getOrDefault(key, null);
+  }
+
+  @Nullable
+  @Override
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(@Nullable Object key, @Nullable V defaultValue) {
+    if (!(key instanceof Version)) return defaultValue;
+    final int index = indexOf((Version) key);
+    return index >= 0 ? (V) values[index] : defaultValue;
+  }
+
+  /**
+   * Associates {@code value} with {@code key}. If the map already contains an equal key, the value is replaced but
+   * the key instance is kept.
+   *
+   * @param key   the version key.
+   * @param value the value to associate with {@code key}.
+   * @return the previous value or {@code null} if there was none.
+   */
+  @Nullable
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(@NotNull Version key, @Nullable V value) {
+    final int hash = hash(key);
+    final int index = indexOf(key, hash);
+    if (index >= 0) {
+      final V previousValue = (V) values[index];
+      values[index] = value;
+      return previousValue;
+    }
+    insert(~index, key, value, hash);
+    return null;
+  }
+
+  @Nullable
+  @Override
+  @SuppressWarnings("unchecked")
+  public V computeIfAbsent(@NotNull Version key, @NotNull Function<? super Version, ? extends V> mappingFunction) {
+    final int hash = hash(key);
+    final int index = indexOf(key, hash);
+    if (index >= 0 && values[index] != null) {
+      return (V) values[index];
+    }
+    final int expectedModCount = modCount;
+    final V value = mappingFunction.apply(key);
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+    if (value != null) {
+      if (index >= 0) values[index] = value;
+      else insert(~index, key, value, hash);
+    }
+    return value;
+  }
+
+  @Nullable
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(@Nullable Object key) {
+    if (!(key instanceof Version)) return null;
+    final int index = indexOf((Version) key);
+    if (index < 0) return null;
+    final V value = (V) values[index];
+    removeAt(index);
+    return value;
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      Arrays.fill(keys, null);
+      Arrays.fill(values, null);
+      Arrays.fill(hashes, 0);
+      size = 0;
+      modCount++;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(@NotNull BiConsumer<? super Version, ? super V> action) {
+    final int expectedModCount = modCount;
+    final Version[] keys = this.keys;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        action.accept(keys[i], (V) values[i]);
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+    }
+  }
+
+  @NotNull
+  @Override
+  public Set<Entry<Version, V>> entrySet() {
+    Set<Entry<Version, V>> result = entrySet;
+    if (result == null) {
+      entrySet = result = new EntrySet();
+    }
+    return result;
+  }
+
+  // iterates over the keys without creating entries
+  @NotNull
+  Iterator<Version> keyIterator() {
+    return new SlotIterator<Version>() {
+      @NotNull
+      @Override
+      Version element(@NotNull Version key, @Nullable Object value) {
+        return key;
+      }
+    };
+  }
+
+  private int indexOf(@NotNull Version key) {
+    return indexOf(key, hash(key));
+  }
+
+  // index of the slot containing key or the complement of the free slot where key would be inserted
+  private int indexOf(@NotNull Version key, int hash) {
+    int index = hash & mask;
+    while (true) {
+      final int candidateHash = hashes[index];
+      if (candidateHash == 0) {
+        return ~index;
+      }
+      if (candidateHash == hash) {
+        final Version candidate = keys[index];
+        if (candidate == key || candidate.hasEqualValues(key)) return index;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private void insert(int index, @NotNull Version key, @Nullable V value, int hash) {
+    if (needsResize(size + 1, keys.length)) {
+      resize(keys.length * 2);
+      index = ~indexOf(key, hash);
+    }
+    keys[index] = key;
+    values[index] = value;
+    hashes[index] = hash;
+    size++;
+    modCount++;
+  }
+
+  // backward shift deletion keeps the probe sequences of the following keys intact without tombstones
+  private void removeAt(int index) {
+    int hole = index;
+    int next = index;
+    while (true) {
+      next = (next + 1) & mask;
+      final int hash = hashes[next];
+      if (hash == 0) break;
+      // the key may fill the hole if the hole is not before its preferred slot in probe order
+      if (((next - (hash & mask)) & mask) >= ((next - hole) & mask)) {
+        keys[hole] = keys[next];
+        values[hole] = values[next];
+        hashes[hole] = hash;
+        hole = next;
+      }
+    }
+    keys[hole] = null;
+    values[hole] = null;
+    hashes[hole] = 0;
+    size--;
+    modCount++;
+  }
+
+  private void resize(int capacity) {
+    final Version[] oldKeys = keys;
+    final Object[] oldValues = values;
+    final int[] oldHashes = hashes;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldHashes[i] != 0) {
+        int index = oldHashes[i] & mask;
+        while (hashes[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+        hashes[index] = oldHashes[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new Version[capacity];
+    values = new Object[capacity];
+    hashes = new int[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = MINIMUM_CAPACITY;
+    while (needsResize(expectedSize, capacity)) {
+      capacity *= 2;
+    }
+    return capacity;
+  }
+
+  // keeps the load factor at or below 1/2, so probe sequences of linear probing stay short
+  private static boolean needsResize(int size, int capacity) {
+    return size > capacity / 2;
+  }
+
+  private static int hash(@NotNull Version key) {
+    int hash = key.hashCode() * 0x9E3779B9;
+    hash ^= hash >>> 16;
+    return hash != 0 ? hash : 1;
+  }
+
+  private abstract class SlotIterator<T> implements Iterator<T> {
+
+    private int expectedModCount = modCount;
+    // the arrays of the map, or copies once a removal could move visited keys behind the cursor
+    @NotNull
+    private Version[] traversalKeys = keys;
+    @NotNull
+    private Object[] traversalValues = values;
+    private int index = nextIndex(0);
+    private int lastIndex = -1;
+
+    @Override
+    public boolean hasNext() {
+      return index < traversalKeys.length;
+    }
+
+    @NotNull
+    @Override
+    public T next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (index >= traversalKeys.length) {
+        throw new NoSuchElementException();
+      }
+      lastIndex = index;
+      index = nextIndex(index + 1);
+      return element(traversalKeys[lastIndex], traversalValues[lastIndex]);
+    }
+
+    @Override
+    public void remove() {
+      if (lastIndex < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      // like IdentityHashMap, the iteration continues on copies if keys from the start of the table, which were
+      // already returned, could be shifted back into the slots ahead of the cursor
+      if (traversalKeys == keys && probeSequenceWraps(lastIndex)) {
+        traversalKeys = keys.clone();
+        traversalValues = values.clone();
+      }
+      if (traversalKeys == keys) {
+        removeAt(lastIndex);
+        // keys following in the probe sequence may have been shifted into the removed slot
+        index = nextIndex(lastIndex);
+      } else {
+        VersionMap.this.remove(traversalKeys[lastIndex]);
+      }
+      lastIndex = -1;
+      expectedModCount = modCount;
+    }
+
+    private int nextIndex(int index) {
+      while (index < traversalKeys.length && traversalKeys[index] == null) {
+        index++;
+      }
+      return index;
+    }
+
+    // whether the occupied slots following index continue at the start of the table
+    private boolean probeSequenceWraps(int index) {
+      for (int next = index + 1; next < hashes.length; next++) {
+        if (hashes[next] == 0) return false;
+      }
+      return hashes[0] != 0;
+    }
+
+    @NotNull
+    abstract T element(@NotNull Version key, @Nullable Object value);
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<Version, V>> {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Entry<Version, V>> iterator() {
+      return new SlotIterator<Entry<Version, V>>() {
+        @NotNull
+        @Override
+        @SuppressWarnings("unchecked")
+        Entry<Version, V> element(@NotNull Version key, @Nullable Object value) {
+          return new MapEntry(key, (V) value);
+        }
+      };
+    }
+  }
+
+  // writes values through to the map by key, so it stays valid if the map is resized
+  private final class MapEntry implements Entry<Version, V> {
+
+    @NotNull
+    private final Version key;
+    @Nullable
+    private V value;
+
+    MapEntry(@NotNull Version key, @Nullable V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @NotNull
+    @Override
+    public Version getKey() {
+      return key;
+    }
+
+    @Nullable
+    @Override
+    public V getValue() {
+      return value;
+    }
+
+    @Nullable
+    @Override
+    public V setValue(@Nullable V value) {
+      put(key, value);
+      final V previous = this.value;
+      this.value = value;
+      return previous;
+    }
+
+    // as specified by Map.Entry
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) return false;
+      final Entry<?, ?> entry = (Entry<?, ?>) o;
+      return key.equals(entry.getKey()) && (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives measurements of the version handling, e.g. to export them to a monitoring system. All methods do nothing
+ * by default, so implementations only override what they need.
+ * <p>
+ * Metrics are disabled by default. While disabled, every parse and comparison still reads the volatile field holding
+ * the metrics and checks it for null. On x86 that read is a plain load, on ARM it is a load-acquire, and on every
+ * platform it keeps the JIT compiler from hoisting the check out of loops like a sort.
+ * <p>
+ * Once enabled with {@link Version#setMetrics(VersionMetrics)}, the methods are called synchronously on the calling
+ * thread and have to be thread-safe and fast. On Java 17 and later enabled metrics also emit a JDK Flight Recorder
+ * event {@code io.github.g00fy2.versioncompare.Parse} for every parse exceeding the event's threshold, which is 1 ms
+ * unless configured otherwise in the recording settings.
+ *
+ * @see VersionCounters
+ */
+public interface VersionMetrics {
+
+  /**
+   * Called after a version string was parsed, including invalid and lazy versions.
+   *
+   * @param durationNanos the time the parsing took in nanoseconds.
+   */
+  default void onParse(long durationNanos) {
+  }
+
+  /**
+   * Called when a parsed version string is {@code null} or does not start with a numeric character.
+   */
+  default void onInvalidVersion() {
+  }
+
+  /**
+   * Called for every comparison of two versions, including {@link Version#compare(CharSequence, CharSequence)} and
+   * the predicates like {@link Version#isAtLeast(Version)}.
+   */
+  default void onCompare() {
+  }
+
+  /**
+   * Called when a {@link VersionCache} returns an already parsed version.
+   */
+  default void onCacheHit() {
+  }
+
+  /**
+   * Called when a {@link VersionCache} has to parse a version.
+   */
+  default void onCacheMiss() {
+  }
+
+  /**
+   * Called when the differential check of the parser engines found different results for a sampled version string,
+   * see {@link Version#setDifferentialSampling(int)}.
+   *
+   * @param versionString the version string parsed with both engines.
+   * @param mismatch      a description of the first difference, starting with the name of the differing value, e.g.
+   *                      {@code suffix: FAST=-rc1 LEGACY=rc1}.
+   */
+  default void onParserMismatch(@Nullable String versionString, @NotNull String mismatch) {
+  }
+}
@@ -0,0 +1,265 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams versions from ASCII text containing one version per line, e.g. a dump of all versions of a mirror.
+ * <p>
+ * Versions are parsed directly from the bytes. The text of a line is only turned into a String when
+ * {@link Version#getOriginalString()} is called, until then the Version object keeps a view on the bytes it was
+ * read from. Lines are separated by {@code \n} or {@code \r\n}, empty lines are skipped.
+ * <p>
+ * A version keeps the bytes it was read from reachable: a whole 64 KB chunk of a stream or the whole buffer, e.g. a
+ * file mapping. Call {@link Version#getOriginalString()} before retaining a few versions of a large input, or let the
+ * reader copy every line into a String by passing {@code copyLines}, which also lets a stream reuse its chunk.
+ * <pre>{@code
+ * try (VersionReader reader = VersionReader.open(file)) {
+ *   reader.forEachRemaining(version -> ...);
+ * }
+ * }</pre>
+ */
+public final class VersionReader implements Iterator<Version>, Closeable {
+
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  // buffer mode: the whole input is available in buffer
+  @Nullable
+  private final ByteBuffer buffer;
+  // stream mode: the input is read in chunks, read bytes are only overwritten if versions keep no view on them
+  @Nullable
+  private final InputStream inputStream;
+  @Nullable
+  private final Closeable resource;
+  private final boolean copyLines;
+  private byte[] chunk;
+  private int chunkLimit;
+  private boolean endOfStream;
+
+  private int position;
+  private int limit;
+  @Nullable
+  private Version next;
+
+  /**
+   * Initializes a newly created reader for the remaining bytes of {@code buffer}. The buffer's position is not
+   * changed, but its content must not be modified as long as versions read from it are in use.
+   *
+   * @param buffer the buffer containing one version per line, e.g. a {@link java.nio.MappedByteBuffer}.
+   */
+  public VersionReader(@NotNull ByteBuffer buffer) {
+    this(buffer, false);
+  }
+
+  /**
+   * Initializes a newly created reader for the remaining bytes of {@code buffer}. The buffer's position is not
+   * changed. Unless {@code copyLines} is {@code true}, its content must not be modified as long as versions read from
+   * it are in use.
+   *
+   * @param buffer    the buffer containing one version per line, e.g. a {@link java.nio.MappedByteBuffer}.
+   * @param copyLines controls whether every line is copied into the original string of its version, so versions do
+   *                  not keep the buffer reachable.
+   */
+  public VersionReader(@NotNull ByteBuffer buffer, boolean copyLines) {
+    this(buffer, null, copyLines);
+  }
+
+  /**
+   * Initializes a newly created reader for {@code inputStream}. Closing the reader closes the stream.
+   *
+   * @param inputStream the stream containing one version per line.
+   */
+  public VersionReader(@NotNull InputStream inputStream) {
+    this(inputStream, false);
+  }
+
+  /**
+   * Initializes a newly created reader for {@code inputStream}. Closing the reader closes the stream.
+   *
+   * @param inputStream the stream containing one version per line.
+   * @param copyLines   controls whether every line is copied into the original string of its version, so versions do
+   *                    not keep the chunk they were read from reachable and the reader reuses its chunk.
+   */
+  public VersionReader(@NotNull InputStream inputStream, boolean copyLines) {
+    this.buffer = null;
+    this.inputStream = inputStream;
+    this.resource = inputStream;
+    this.copyLines = copyLines;
+    this.chunk = new byte[CHUNK_SIZE];
+  }
+
+  private VersionReader(@NotNull ByteBuffer buffer, @Nullable Closeable resource, boolean copyLines) {
+    this.buffer = buffer.duplicate();
+    this.inputStream = null;
+    this.resource = resource;
+    this.copyLines = copyLines;
+    this.position = buffer.position();
+    this.limit = buffer.limit();
+  }
+
+  /**
+   * Opens a reader for {@code file}. Files up to 2 GB are memory mapped, larger files are streamed.
+   *
+   * @param file the file containing one version per line.
+   * @return a reader that has to be closed after use.
+   * @throws IOException if the file could not be opened or mapped.
+   */
+  @NotNull
+  public static VersionReader open(@NotNull File file) throws IOException {
+    return open(file, false);
+  }
+
+  /**
+   * Opens a reader for {@code file}. Files up to 2 GB are memory mapped, larger files are streamed.
+   *
+   * @param file      the file containing one version per line.
+   * @param copyLines controls whether every line is copied into the original string of its version, so versions do
+   *                  not keep the file mapping or the chunk they were read from reachable.
+   * @return a reader that has to be closed after use.
+   * @throws IOException if the file could not be opened or mapped.
+   */
+  @NotNull
+  public static VersionReader open(@NotNull File file, boolean copyLines) throws IOException {
+    final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+    try {
+      final FileChannel channel = randomAccessFile.getChannel();
+      final long size = channel.size();
+      if (size <= Integer.MAX_VALUE) {
+        return new VersionReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), randomAccessFile, copyLines);
+      }
+      return new VersionReader(Channels.newInputStream(channel), copyLines);
+    } catch (IOException | RuntimeException e) {
+      randomAccessFile.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns whether there is another version to read.
+   *
+   * @return {@code true} if there is another line to read.
+   * @throws UncheckedIOException if reading the underlying stream fails.
+   */
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = buffer != null ? readFromBuffer() : readFromStream();
+    }
+    return next != null;
+  }
+
+  /**
+   * Returns the next version.
+   *
+   * @return the Version object parsed from the next line.
+   * @throws NoSuchElementException if there are no more lines.
+   * @throws UncheckedIOException   if reading the underlying stream fails.
+   */
+  @NotNull
+  @Override
+  public Version next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final Version version = next;
+    next = null;
+    return version;
+  }
+
+  /**
+   * Closes the underlying stream or file.
+   *
+   * @throws IOException if closing fails.
+   */
+  @Override
+  public void close() throws IOException {
+    if (resource != null) {
+      resource.close();
+    }
+  }
+
+  @Nullable
+  private Version readFromBuffer() {
+    while (position < limit) {
+      final int lineStart = position;
+      int lineEnd = lineStart;
+      while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      position = lineEnd + 1;
+      if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+        lineEnd--;
+      }
+      if (lineEnd > lineStart) {
+        return newVersion(new AsciiCharSequence(buffer, lineStart, lineEnd - lineStart));
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private Version readFromStream() {
+    while (true) {
+      int lineEnd = position;
+      while (lineEnd < chunkLimit && chunk[lineEnd] != '\n') {
+        lineEnd++;
+      }
+      if (lineEnd == chunkLimit && !endOfStream) {
+        fillChunk();
+        continue;
+      }
+      if (position >= chunkLimit) {
+        return null;
+      }
+      final int lineStart = position;
+      position = lineEnd + 1;
+      if (lineEnd > lineStart && chunk[lineEnd - 1] == '\r') {
+        lineEnd--;
+      }
+      if (lineEnd > lineStart) {
+        return newVersion(new AsciiCharSequence(chunk, lineStart, lineEnd - lineStart));
+      }
+    }
+  }
+
+  @NotNull
+  private Version newVersion(@NotNull AsciiCharSequence line) {
+    return copyLines ? new Version(line.toString(), false) : new Version(line, false);
+  }
+
+  // appends the next bytes of the stream, a full chunk is replaced by a new one starting with the incomplete line
+  private void fillChunk() {
+    if (chunkLimit == chunk.length) {
+      final int remaining = chunkLimit - position;
+      // without views on the chunk, the incomplete line is moved to its start unless it fills the whole chunk
+      final byte[] newChunk = copyLines && remaining < chunk.length
+        ? chunk
+        : new byte[Math.max(CHUNK_SIZE, remaining * 2)];
+      System.arraycopy(chunk, position, newChunk, 0, remaining);
+      chunk = newChunk;
+      chunkLimit = remaining;
+      position = 0;
+    }
+    try {
+      final int read = inputStream.read(chunk, chunkLimit, chunk.length - chunkLimit);
+      if (read < 0) {
+        endOfStream = true;
+      } else {
+        chunkLimit += read;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
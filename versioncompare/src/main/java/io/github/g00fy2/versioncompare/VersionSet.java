@@ -0,0 +1,89 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A hash set of versions, using the same equality as {@link Version#equals(Object)}, e.g. {@code 1.0} and
+ * {@code 1.0.0} are the same element. It is backed by a {@link VersionMap}, so it shares its open addressing layout
+ * and is not thread-safe either.
+ */
+public final class VersionSet extends AbstractSet<Version> {
+
+  private static final Object PRESENT = new Object();
+
+  @NotNull
+  private final VersionMap<Object> map;
+
+  /**
+   * Initializes a newly created, empty set.
+   */
+  public VersionSet() {
+    map = new VersionMap<>();
+  }
+
+  /**
+   * Initializes a newly created, empty set which holds {@code expectedSize} versions without resizing.
+   *
+   * @param expectedSize the expected number of versions.
+   * @throws IllegalArgumentException if {@code expectedSize} is negative.
+   */
+  public VersionSet(int expectedSize) {
+    map = new VersionMap<>(expectedSize);
+  }
+
+  /**
+   * Initializes a newly created set containing the distinct {@code versions}.
+   *
+   * @param versions the versions to add.
+   */
+  public VersionSet(@NotNull Collection<? extends Version> versions) {
+    this(versions.size());
+    addAll(versions);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    return map.containsKey(o);
+  }
+
+  /**
+   * Adds {@code version} unless the set already contains an equal version.
+   *
+   * @param version the version to add.
+   * @return {@code true} if the set did not already contain an equal version.
+   */
+  @Override
+  public boolean add(@NotNull Version version) {
+    return map.put(version, PRESENT) == null;
+  }
+
+  @Override
+  public boolean remove(@Nullable Object o) {
+    return map.remove(o) != null;
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+  }
+
+  @NotNull
+  @Override
+  public Iterator<Version> iterator() {
+    return map.keyIterator();
+  }
+}
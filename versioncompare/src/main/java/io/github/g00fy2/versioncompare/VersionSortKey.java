@@ -0,0 +1,89 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of a version whose unsigned lexicographic byte order is the order of {@link Version#compareTo}.
+ * <p>
+ * Layout: every trimmed subversion number as encoded number, a {@code 0x00} terminator, the qualifier rank as 4 byte
+ * big-endian integer with flipped sign bit and the pre-release version as encoded number. An encoded number is a
+ * header byte {@code 1 + n} followed by the {@code n} significant big-endian bytes of the number, so longer encodings
+ * always belong to higher numbers and the terminator sorts below every number.
+ */
+final class VersionSortKey {
+
+  private VersionSortKey() {
+    // utility class should not be instantiated
+  }
+
+  private static final byte TERMINATOR = 0;
+
+  static int length(@NotNull long[] trimmedSubversionNumbers, long preReleaseVersion) {
+    int length = 5; // terminator + qualifier rank
+    for (long number : trimmedSubversionNumbers) {
+      length += 1 + significantBytes(number);
+    }
+    return length + 1 + significantBytes(preReleaseVersion);
+  }
+
+  static void write(@NotNull ByteBuffer buffer, @NotNull long[] trimmedSubversionNumbers,
+                    int qualifierRank, long preReleaseVersion) {
+    for (long number : trimmedSubversionNumbers) {
+      writeNumber(buffer, number);
+    }
+    buffer.put(TERMINATOR);
+    buffer.putInt(qualifierRank ^ Integer.MIN_VALUE);
+    writeNumber(buffer, preReleaseVersion);
+  }
+
+  @NotNull
+  static Version read(@NotNull ByteBuffer buffer, @NotNull QualifierScheme qualifierScheme) {
+    final StringBuilder versionString = new StringBuilder();
+    byte header;
+    while ((header = buffer.get()) != TERMINATOR) {
+      if (versionString.length() > 0) versionString.append('.');
+      versionString.append(readNumber(buffer, header));
+    }
+    if (versionString.length() == 0) versionString.append('0');
+
+    final int qualifierRank = buffer.getInt() ^ Integer.MIN_VALUE;
+    final long preReleaseVersion = readNumber(buffer, buffer.get());
+    final String qualifier = qualifierScheme.canonicalQualifier(qualifierRank, preReleaseVersion);
+    if (qualifier.length() > 0) {
+      versionString.append('-').append(qualifier);
+    }
+    return new Version(versionString.toString(), false, qualifierScheme);
+  }
+
+  static int compare(@NotNull byte[] sortKeyA, @NotNull byte[] sortKeyB) {
+    return VersionArrays.compareUnsigned(sortKeyA, sortKeyB);
+  }
+
+  private static int significantBytes(long number) {
+    return (Long.SIZE - Long.numberOfLeadingZeros(number) + 7) / 8;
+  }
+
+  private static void writeNumber(@NotNull ByteBuffer buffer, long number) {
+    final int byteCount = significantBytes(number);
+    buffer.put((byte) (1 + byteCount));
+    for (int shift = (byteCount - 1) * 8; shift >= 0; shift -= 8) {
+      buffer.put((byte) (number >>> shift));
+    }
+  }
+
+  private static long readNumber(@NotNull ByteBuffer buffer, byte header) {
+    final int byteCount = header - 1;
+    if (byteCount < 0 || byteCount > 8) {
+      throw new IllegalArgumentException("Sort key contains invalid number header " + header);
+    }
+    long number = 0;
+    for (int i = 0; i < byteCount; i++) {
+      number = (number << 8) | (buffer.get() & 0xFF);
+    }
+    if (number < 0) {
+      throw new IllegalArgumentException("Sort key contains negative number " + number);
+    }
+    return number;
+  }
+}
@@ -0,0 +1,324 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A trie of versions keyed by their subversion numbers, e.g. to query the release history of one artifact by version
+ * lines like "all 2.3.x versions" or "the latest patch of each minor line".
+ * <p>
+ * A prefix matches every version whose leading subversion numbers equal it, missing numbers count as 0 like in
+ * {@link Version#compareTo(Version)}: the prefix {@code 2.0} matches {@code 2}, {@code 2.0.1} and {@code 2.0-rc1} but
+ * not {@code 2.1}. The children of every node are kept in sorted primitive arrays, so queries only visit the nodes of
+ * the prefix and the matching versions or lines. Counting and finding the latest version of a prefix do not visit the
+ * matching versions at all. Versions with equal subversion numbers are kept in ascending order of
+ * {@link Version#compareTo(Version)}, logically equal versions are all kept in insertion order. This trie is not
+ * thread-safe.
+ */
+public final class VersionTrie {
+
+  private static final long[] EMPTY_KEYS = new long[0];
+  private static final Node[] EMPTY_CHILDREN = new Node[0];
+  private static final Version[] EMPTY_VERSIONS = new Version[0];
+
+  @NotNull
+  private final Node root = new Node();
+
+  /**
+   * Initializes a newly created, empty trie.
+   */
+  public VersionTrie() {
+  }
+
+  /**
+   * Initializes a newly created trie containing {@code versions}.
+   *
+   * @param versions the versions to add.
+   */
+  public VersionTrie(@NotNull Collection<? extends Version> versions) {
+    for (Version version : versions) {
+      add(version);
+    }
+  }
+
+  /**
+   * Adds {@code version}, even if the trie already contains an equal version.
+   *
+   * @param version the version to add.
+   */
+  public void add(@NotNull Version version) {
+    final long[] numbers = version.trimmedSubversionNumbers();
+    final int releaseType = 1 << version.getReleaseType().ordinal();
+    Node node = root;
+    for (long number : numbers) {
+      node.size++;
+      node.releaseTypes |= releaseType;
+      node = node.childOrCreate(number);
+    }
+    node.size++;
+    node.releaseTypes |= releaseType;
+    node.addVersion(version);
+  }
+
+  /**
+   * Returns the number of versions in the trie.
+   *
+   * @return the number of versions.
+   */
+  public int size() {
+    return root.size;
+  }
+
+  /**
+   * Counts the versions starting with the subversion numbers {@code prefix}.
+   *
+   * @param prefix the leading subversion numbers, none for all versions.
+   * @return the number of matching versions.
+   * @throws IllegalArgumentException if a number of {@code prefix} is negative.
+   */
+  public int count(@NotNull long... prefix) {
+    final Node owner = terminalOwner(prefix);
+    final Node node = find(prefix);
+    return (owner != null && owner != node ? owner.versionCount : 0) + (node != null ? node.size : 0);
+  }
+
+  /**
+   * Returns the versions starting with the subversion numbers {@code prefix}, e.g. all 2.3.x versions for
+   * {@code withPrefix(2, 3)}.
+   *
+   * @param prefix the leading subversion numbers, none for all versions.
+   * @return the matching versions in ascending order.
+   * @throws IllegalArgumentException if a number of {@code prefix} is negative.
+   */
+  @NotNull
+  public List<Version> withPrefix(@NotNull long... prefix) {
+    final Node owner = terminalOwner(prefix);
+    final Node node = find(prefix);
+    final List<Version> result = new ArrayList<>(count(prefix));
+    // versions without the trailing zeros of the prefix are lower than all versions below the prefix node
+    if (owner != null && owner != node) result.addAll(Arrays.asList(owner.versions).subList(0, owner.versionCount));
+    if (node != null) node.collect(result);
+    return result;
+  }
+
+  /**
+   * Returns the highest version starting with the subversion numbers {@code prefix}.
+   *
+   * @param prefix the leading subversion numbers, none for all versions.
+   * @return the highest matching version or {@code null} if there is none.
+   * @throws IllegalArgumentException if a number of {@code prefix} is negative.
+   */
+  @Nullable
+  public Version latest(@NotNull long... prefix) {
+    return latest(ReleaseType.SNAPSHOT, prefix);
+  }
+
+  /**
+   * Returns the highest version starting with the subversion numbers {@code prefix} with at least the release type
+   * {@code minimum}, e.g. the latest stable 2.x version for {@code latest(ReleaseType.STABLE, 2)}.
+   *
+   * @param minimum the lowest accepted release type.
+   * @param prefix  the leading subversion numbers, none for all versions.
+   * @return the highest matching version or {@code null} if there is none.
+   * @throws IllegalArgumentException if a number of {@code prefix} is negative.
+   */
+  @Nullable
+  public Version latest(@NotNull ReleaseType minimum, @NotNull long... prefix) {
+    final int releaseTypes = releaseTypesOf(minimum);
+    final Node owner = terminalOwner(prefix);
+    final Node node = find(prefix);
+    return latest(node, owner != node ? owner : null, releaseTypes);
+  }
+
+  /**
+   * Returns the highest version of every version line starting with the subversion numbers {@code prefix}. Versions
+   * are in the same line if their first {@code lineLength} subversion numbers are equal, e.g. the latest patch of
+   * every minor 5.x line for {@code latestPerLine(2, 5)}.
+   *
+   * @param lineLength the number of leading subversion numbers of a line.
+   * @param prefix     the leading subversion numbers of all lines, none for all lines.
+   * @return the highest version of every line in ascending order.
+   * @throws IllegalArgumentException if {@code lineLength} is lower than the length of {@code prefix} or a number of
+   *                                  {@code prefix} is negative.
+   */
+  @NotNull
+  public List<Version> latestPerLine(int lineLength, @NotNull long... prefix) {
+    return latestPerLine(ReleaseType.SNAPSHOT, lineLength, prefix);
+  }
+
+  /**
+   * Returns the highest version with at least the release type {@code minimum} of every version line starting with
+   * the subversion numbers {@code prefix}, lines without such a version are left out.
+   *
+   * @param minimum    the lowest accepted release type.
+   * @param lineLength the number of leading subversion numbers of a line.
+   * @param prefix     the leading subversion numbers of all lines, none for all lines.
+   * @return the highest matching version of every line in ascending order.
+   * @throws IllegalArgumentException if {@code lineLength} is lower than the length of {@code prefix} or a number of
+   *                                  {@code prefix} is negative.
+   * @see #latestPerLine(int, long...)
+   */
+  @NotNull
+  public List<Version> latestPerLine(@NotNull ReleaseType minimum, int lineLength, @NotNull long... prefix) {
+    if (lineLength < prefix.length) {
+      throw new IllegalArgumentException("Argument lineLength is lower than the prefix length: " + lineLength);
+    }
+    final Node owner = terminalOwner(prefix);
+    final Node node = find(prefix);
+    final List<Version> result = new ArrayList<>();
+    collectLatestPerLine(node, owner != node ? owner : null, lineLength - prefix.length, releaseTypesOf(minimum),
+      result);
+    return result;
+  }
+
+  // the node of prefix without its trailing zeros, its versions match prefix even if the node of prefix is missing
+  @Nullable
+  private Node terminalOwner(@NotNull long[] prefix) {
+    int length = prefix.length;
+    while (length > 0 && prefix[length - 1] == 0) length--;
+    return find(prefix, length);
+  }
+
+  @Nullable
+  private Node find(@NotNull long[] prefix) {
+    return find(prefix, prefix.length);
+  }
+
+  @Nullable
+  private Node find(@NotNull long[] prefix, int length) {
+    Node node = root;
+    for (int i = 0; i < prefix.length; i++) {
+      if (prefix[i] < 0) {
+        throw new IllegalArgumentException("Argument prefix contains a negative number: " + prefix[i]);
+      }
+      if (i < length && node != null) node = node.child(prefix[i]);
+    }
+    return node;
+  }
+
+  // node is the line's node if there is one, owner the node of the line without its trailing zeros otherwise
+  private static void collectLatestPerLine(@Nullable Node node, @Nullable Node owner, int remaining,
+    int releaseTypes, @NotNull List<Version> result) {
+    if (remaining == 0) {
+      final Version latest = latest(node, owner, releaseTypes);
+      if (latest != null) result.add(latest);
+      return;
+    }
+    // trimmed subversion numbers never end with 0, so only the first node of a zero line can hold versions
+    final Node zeroOwner = owner != null ? owner : node != null && node.versionCount > 0 ? node : null;
+    final Node zeroChild = node != null ? node.child(0) : null;
+    if (zeroChild != null || zeroOwner != null) {
+      collectLatestPerLine(zeroChild, zeroOwner, remaining - 1, releaseTypes, result);
+    }
+    if (node != null) {
+      for (int i = 0; i < node.childCount; i++) {
+        if (node.keys[i] != 0 && (node.children[i].releaseTypes & releaseTypes) != 0) {
+          collectLatestPerLine(node.children[i], null, remaining - 1, releaseTypes, result);
+        }
+      }
+    }
+  }
+
+  // all versions below node are higher than the versions of owner
+  @Nullable
+  private static Version latest(@Nullable Node node, @Nullable Node owner, int releaseTypes) {
+    final Version latest = node != null ? node.latest(releaseTypes) : null;
+    return latest != null || owner == null ? latest : owner.latestVersion(releaseTypes);
+  }
+
+  // bit set of minimum and all higher release types
+  private static int releaseTypesOf(@NotNull ReleaseType minimum) {
+    return -1 << minimum.ordinal();
+  }
+
+  private static final class Node {
+
+    // children[i] is the child for the subversion number keys[i], sorted by keys
+    @NotNull
+    private long[] keys = EMPTY_KEYS;
+    @NotNull
+    private Node[] children = EMPTY_CHILDREN;
+    private int childCount;
+    // the versions ending at this node in ascending order
+    @NotNull
+    private Version[] versions = EMPTY_VERSIONS;
+    private int versionCount;
+    // number of versions in the subtree and bit set of their release type ordinals
+    private int size;
+    private int releaseTypes;
+
+    @Nullable
+    Node child(long key) {
+      final int index = Arrays.binarySearch(keys, 0, childCount, key);
+      return index >= 0 ? children[index] : null;
+    }
+
+    @NotNull
+    Node childOrCreate(long key) {
+      int index = Arrays.binarySearch(keys, 0, childCount, key);
+      if (index >= 0) return children[index];
+      index = ~index;
+      if (childCount == keys.length) {
+        final int capacity = Math.max(4, childCount * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        children = Arrays.copyOf(children, capacity);
+      }
+      System.arraycopy(keys, index, keys, index + 1, childCount - index);
+      System.arraycopy(children, index, children, index + 1, childCount - index);
+      final Node child = new Node();
+      keys[index] = key;
+      children[index] = child;
+      childCount++;
+      return child;
+    }
+
+    // inserts after all equal versions
+    void addVersion(@NotNull Version version) {
+      int low = 0;
+      int high = versionCount;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (versions[mid].compareTo(version) <= 0) low = mid + 1;
+        else high = mid;
+      }
+      if (versionCount == versions.length) versions = Arrays.copyOf(versions, Math.max(2, versionCount * 2));
+      System.arraycopy(versions, low, versions, low + 1, versionCount - low);
+      versions[low] = version;
+      versionCount++;
+    }
+
+    // the versions of this node are lower than all versions of its children, which are in the order of their keys
+    void collect(@NotNull List<Version> result) {
+      for (int i = 0; i < versionCount; i++) {
+        result.add(versions[i]);
+      }
+      for (int i = 0; i < childCount; i++) {
+        children[i].collect(result);
+      }
+    }
+
+    @Nullable
+    Version latest(int releaseTypes) {
+      Node node = this;
+      while ((node.releaseTypes & releaseTypes) != 0) {
+        int i = node.childCount - 1;
+        while (i >= 0 && (node.children[i].releaseTypes & releaseTypes) == 0) i--;
+        if (i < 0) return node.latestVersion(releaseTypes);
+        node = node.children[i];
+      }
+      return null;
+    }
+
+    @Nullable
+    Version latestVersion(int releaseTypes) {
+      for (int i = versionCount - 1; i >= 0; i--) {
+        if ((1 << versions[i].getReleaseType().ordinal() & releaseTypes) != 0) return versions[i];
+      }
+      return null;
+    }
+  }
+}
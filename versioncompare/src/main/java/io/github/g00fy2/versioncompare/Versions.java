@@ -0,0 +1,223 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bulk operations on version strings.
+ * <p>
+ * Parsing and sorting run in parallel on the common {@link java.util.concurrent.ForkJoinPool}, which requires Java 8
+ * or Android API level 24.
+ */
+public final class Versions {
+
+  private Versions() {
+    // utility class should not be instantiated
+  }
+
+  /**
+   * Sorts version strings in ascending order of their parsed versions. Logically equal versions keep their relative
+   * order, so the result is the same as sorting the parsed Version objects with {@link Version#compareTo(Version)}.
+   *
+   * @param versionStrings the strings representing the versions.
+   * @return a new array containing {@code versionStrings} in ascending order.
+   * @see #sortDistinct(String[] versionStrings)
+   */
+  @NotNull
+  public static String[] sort(@NotNull String[] versionStrings) {
+    final Version[] versions = sortedVersions(versionStrings);
+    return toArray(versions, versions.length);
+  }
+
+  /**
+   * Sorts version strings in ascending order of their parsed versions. Logically equal versions keep their relative
+   * order, so the result is the same as sorting the parsed Version objects with {@link Version#compareTo(Version)}.
+   *
+   * @param versionStrings the strings representing the versions.
+   * @return a new list containing {@code versionStrings} in ascending order.
+   * @see #sortDistinct(List versionStrings)
+   */
+  @NotNull
+  public static List<String> sort(@NotNull List<String> versionStrings) {
+    final Version[] versions = sortedVersions(versionStrings.toArray(new String[0]));
+    return toList(versions, versions.length);
+  }
+
+  /**
+   * Sorts version strings in ascending order of their parsed versions and removes logically equal versions, e.g.
+   * {@code 1.0} and {@code 1.0.0}. Of multiple equal versions the first one in {@code versionStrings} is kept.
+   *
+   * @param versionStrings the strings representing the versions.
+   * @return a new array containing the distinct {@code versionStrings} in ascending order.
+   * @see #sort(String[] versionStrings)
+   */
+  @NotNull
+  public static String[] sortDistinct(@NotNull String[] versionStrings) {
+    final Version[] versions = sortedVersions(versionStrings);
+    return toArray(versions, removeDuplicates(versions));
+  }
+
+  /**
+   * Sorts version strings in ascending order of their parsed versions and removes logically equal versions, e.g.
+   * {@code 1.0} and {@code 1.0.0}. Of multiple equal versions the first one in {@code versionStrings} is kept.
+   *
+   * @param versionStrings the strings representing the versions.
+   * @return a new list containing the distinct {@code versionStrings} in ascending order.
+   * @see #sort(List versionStrings)
+   */
+  @NotNull
+  public static List<String> sortDistinct(@NotNull List<String> versionStrings) {
+    final Version[] versions = sortedVersions(versionStrings.toArray(new String[0]));
+    return toList(versions, removeDuplicates(versions));
+  }
+
+  /**
+   * Returns the highest version of {@code versionStrings}, e.g. of a stream with
+   * {@code Versions.max(stream::iterator)}. Only the current highest version is kept parsed. The numbers of every other
+   * version string are compared with it directly, so lower versions are neither parsed nor allocated. Of multiple
+   * equal highest versions the first one is returned.
+   *
+   * @param versionStrings the strings representing the versions, which are iterated once.
+   * @param <T>            the type of the version strings.
+   * @return the version string with the highest version or {@code null} if {@code versionStrings} is empty.
+   * @throws NumberFormatException if a subversion number which has to be compared exceeds {@link Long#MAX_VALUE}.
+   * @see #topK(Iterable versionStrings, int k)
+   */
+  @Nullable
+  public static <T extends CharSequence> T max(@NotNull Iterable<T> versionStrings) {
+    boolean found = false;
+    T max = null;
+    Version maxVersion = null;
+    for (T versionString : versionStrings) {
+      if (!found) {
+        found = true;
+        max = versionString;
+        maxVersion = new Version(versionString, false);
+        continue;
+      }
+      final Version version = parseIfHigher(versionString, maxVersion);
+      if (version != null) {
+        max = versionString;
+        maxVersion = version;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Returns the {@code k} highest versions of {@code versionStrings} in descending order, e.g. of a stream with
+   * {@code Versions.topK(stream::iterator, 10)}. Only the current {@code k} highest versions are kept parsed. The
+   * numbers of every other version string are compared with the lowest of them directly, so lower versions are
+   * neither parsed nor allocated. Equal versions keep their relative order.
+   *
+   * @param versionStrings the strings representing the versions, which are iterated once.
+   * @param k              the maximum number of returned versions.
+   * @param <T>            the type of the version strings.
+   * @return a new list containing the {@code k} highest version strings, fewer if {@code versionStrings} has less.
+   * @throws IllegalArgumentException if {@code k} is negative.
+   * @throws NumberFormatException    if a subversion number which has to be compared exceeds {@link Long#MAX_VALUE}.
+   * @see #max(Iterable versionStrings)
+   */
+  @NotNull
+  public static <T extends CharSequence> List<T> topK(@NotNull Iterable<T> versionStrings, int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("Argument k must not be negative");
+    }
+    // the lowest version at the head, of equal versions the last one
+    final PriorityQueue<Candidate<T>> candidates = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)));
+    long index = 0;
+    for (T versionString : versionStrings) {
+      if (candidates.size() < k) {
+        candidates.add(new Candidate<>(versionString, new Version(versionString, false), index));
+      } else if (k > 0) {
+        final Version version = parseIfHigher(versionString, candidates.peek().version);
+        if (version != null) {
+          candidates.poll();
+          candidates.add(new Candidate<>(versionString, version, index));
+        }
+      }
+      index++;
+    }
+    final List<T> result = new ArrayList<>(candidates.size());
+    while (!candidates.isEmpty()) {
+      result.add(candidates.poll().versionString);
+    }
+    Collections.reverse(result);
+    return result;
+  }
+
+  // the parsed version if it is higher than other, null without parsing it if its numbers are lower
+  @Nullable
+  private static Version parseIfHigher(@Nullable CharSequence versionString, @NotNull Version other) {
+    final int numberResult =
+      VersionComparator.compareSubversionNumbers(versionString, other.trimmedSubversionNumbers());
+    if (numberResult < 0) return null;
+    final Version version = new Version(versionString, false);
+    return numberResult > 0 || version.compareTo(other) > 0 ? version : null;
+  }
+
+  // parses in parallel and sorts the versions by their primitive numbers with a stable parallel merge sort
+  @NotNull
+  private static Version[] sortedVersions(@NotNull String[] versionStrings) {
+    final Version[] versions = new Version[versionStrings.length];
+    Arrays.parallelSetAll(versions, i -> new Version(versionStrings[i]));
+    Arrays.parallelSort(versions);
+    return versions;
+  }
+
+  // moves the first version of each run of equal versions to the front and returns the number of distinct versions
+  private static int removeDuplicates(@NotNull Version[] versions) {
+    int distinctCount = 0;
+    for (Version version : versions) {
+      if (distinctCount == 0 || !versions[distinctCount - 1].isEqual(version)) {
+        versions[distinctCount++] = version;
+      }
+    }
+    return distinctCount;
+  }
+
+  @NotNull
+  private static String[] toArray(@NotNull Version[] versions, int count) {
+    final String[] versionStrings = new String[count];
+    for (int i = 0; i < count; i++) {
+      versionStrings[i] = versions[i].getOriginalString();
+    }
+    return versionStrings;
+  }
+
+  @NotNull
+  private static List<String> toList(@NotNull Version[] versions, int count) {
+    final List<String> versionStrings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      versionStrings.add(versions[i].getOriginalString());
+    }
+    return versionStrings;
+  }
+
+  // a version of topK, ordered by version and of equal versions the later one first
+  private static final class Candidate<T> implements Comparable<Candidate<T>> {
+
+    @Nullable
+    private final T versionString;
+    @NotNull
+    private final Version version;
+    private final long index;
+
+    Candidate(@Nullable T versionString, @NotNull Version version, long index) {
+      this.versionString = versionString;
+      this.version = version;
+      this.index = index;
+    }
+
+    @Override
+    public int compareTo(@NotNull Candidate<T> other) {
+      final int result = version.compareTo(other.version);
+      return result != 0 ? result : Long.compare(other.index, index);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Arrays;
+
+/**
+ * Array comparisons of the hot paths, e.g. comparing the subversion numbers of two versions.
+ * <p>
+ * This is the Java 17 variant of the multi-release JAR. {@link Arrays#mismatch(long[], int, int, long[], int, int)}
+ * and {@link Arrays#compareUnsigned(byte[], byte[])} are intrinsics which compare several elements per instruction.
+ * Both variants must have the same methods and return the same results.
+ */
+final class VersionArrays {
+
+  private VersionArrays() {
+    // utility class should not be instantiated
+  }
+
+  // the Java version this variant of the class was written for, not a constant so that it is not inlined by javac
+  static int featureVersion() {
+    return 17;
+  }
+
+  /**
+   * Compares the range {@code fromA} until {@code toA} of {@code numbersA} with {@code numbersB}, missing numbers
+   * count as zero.
+   *
+   * @return -1, 0 or 1.
+   */
+  static int compareNumbers(@NotNull long[] numbersA, int fromA, int toA, @NotNull long[] numbersB) {
+    final int minSize = Math.min(toA - fromA, numbersB.length);
+    final int mismatch = Arrays.mismatch(numbersA, fromA, fromA + minSize, numbersB, 0, minSize);
+    if (mismatch >= 0) {
+      return numbersA[fromA + mismatch] > numbersB[mismatch] ? 1 : -1;
+    }
+    return compareRemainingNumbers(numbersA, fromA + minSize, toA, numbersB, minSize);
+  }
+
+  /**
+   * Compares two byte arrays lexicographically as unsigned values, a proper prefix is lower.
+   *
+   * @return the difference of the first mismatching bytes or of the lengths.
+   */
+  static int compareUnsigned(@NotNull byte[] a, @NotNull byte[] b) {
+    return Arrays.compareUnsigned(a, b);
+  }
+
+  // only one of both ranges may contain further numbers
+  private static int compareRemainingNumbers(@NotNull long[] numbersA, int fromA, int toA, @NotNull long[] numbersB,
+                                             int fromB) {
+    for (int i = fromA; i < toA; i++) {
+      if (numbersA[i] != 0) return numbersA[i] > 0 ? 1 : -1;
+    }
+    for (int i = fromB; i < numbersB.length; i++) {
+      if (numbersB[i] != 0) return numbersB[i] > 0 ? -1 : 1;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,64 @@
+package io.github.g00fy2.versioncompare;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JDK Flight Recorder events of the instrumented hot paths.
+ * <p>
+ * This is the Java 17 variant of the multi-release JAR. Both variants must have the same methods.
+ */
+final class VersionEvents {
+
+  private VersionEvents() {
+    // utility class should not be instantiated
+  }
+
+  /**
+   * Starts timing a parse event.
+   *
+   * @return the started event or {@code null} if the event is disabled.
+   */
+  @Nullable
+  static Object beginParse() {
+    final ParseEvent event = new ParseEvent();
+    if (!event.isEnabled()) return null;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends and commits an event started with {@link #beginParse()} if it exceeds the threshold.
+   */
+  static void endParse(@NotNull Object event, @Nullable CharSequence versionText, boolean validVersion) {
+    final ParseEvent parseEvent = (ParseEvent) event;
+    parseEvent.end();
+    if (parseEvent.shouldCommit()) {
+      parseEvent.versionString = versionText != null ? versionText.toString() : null;
+      parseEvent.validVersion = validVersion;
+      parseEvent.commit();
+    }
+  }
+
+  @Name("io.github.g00fy2.versioncompare.Parse")
+  @Label("Version Parse")
+  @Category("Version Compare")
+  @Description("Parsing of a version string that exceeded the threshold")
+  @Threshold("1 ms")
+  @StackTrace(true)
+  static final class ParseEvent extends Event {
+
+    @Label("Version String")
+    String versionString;
+
+    @Label("Valid Version")
+    boolean validVersion;
+  }
+}
@@ -0,0 +1,105 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LazyVersionTest {
+
+  private static final List<String> VERSIONS =
+    Arrays.asList("1.2.3", "1.0.2-rc2", " 2.0 . 1 beta 3 ", "1.0.0.0", "2.1..3-alpha.1", "x1.2", "", null);
+
+  @Test
+  public void lazyIsEqualToParsed() {
+    for (String versionString : VERSIONS) {
+      Version version = new Version(versionString);
+      Version lazyVersion = Version.lazy(versionString);
+      assertEquals(version, lazyVersion);
+      assertEquals(lazyVersion, version);
+      assertEquals(version.hashCode(), lazyVersion.hashCode());
+      assertEquals(0, lazyVersion.compareTo(version));
+      assertEquals(version.getSubversionNumbers(), lazyVersion.getSubversionNumbers());
+      assertEquals(version.getMajor(), lazyVersion.getMajor());
+      assertEquals(version.getMinor(), lazyVersion.getMinor());
+      assertEquals(version.getPatch(), lazyVersion.getPatch());
+      assertEquals(version.getSuffix(), lazyVersion.getSuffix());
+      assertEquals(version.getReleaseType(), lazyVersion.getReleaseType());
+      assertEquals(version.getPreReleaseVersion(), lazyVersion.getPreReleaseVersion());
+      assertEquals(versionString, lazyVersion.getOriginalString());
+      assertEquals(String.valueOf(versionString), lazyVersion.toString());
+      assertTrue(Arrays.equals(version.toSortKey(), lazyVersion.toSortKey()));
+    }
+  }
+
+  @Test
+  public void lazyOrderIsCorrect() {
+    List<String> expected = Arrays.asList("1.0-SNAPSHOT", "1.0-alpha", "1.0-rc1", "1.0", "1.0.1", "1.10");
+    List<Version> versions = new ArrayList<>();
+    for (String versionString : expected) {
+      versions.add(Version.lazy(versionString));
+    }
+    Collections.reverse(versions);
+    Collections.sort(versions);
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), versions.get(i).getOriginalString());
+    }
+    assertTrue(Version.lazy("1.1").isHigherThan(Version.lazy("1.0.9")));
+  }
+
+  @Test
+  public void equalOriginalsAreNotParsed() {
+    // parsing fails as the first 19 digits exceed the range of long, so comparing must not parse
+    String versionString = "9999999999999999999";
+    assertEquals(0, Version.lazy(versionString).compareTo(Version.lazy(versionString)));
+    assertEquals(Version.lazy(versionString), Version.lazy(versionString));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void differentOriginalsAreParsed() {
+    Version.lazy("9999999999999999999").compareTo(Version.lazy("1.0"));
+  }
+
+  @Test
+  public void differentSchemesAreParsed() {
+    QualifierScheme scheme = QualifierScheme.builder().add("M", ReleaseType.BETA.getRank() - 5, true).build();
+    assertNotEquals(Version.lazy("1.0-M1", scheme), Version.lazy("1.0-M1"));
+    assertEquals(Version.lazy("1.0-M1", scheme), Version.lazy("1.0-M1", scheme));
+    assertTrue(Version.lazy("1.0-M1", scheme).isLowerThan(Version.lazy("1.0-M1")));
+  }
+
+  @Test
+  public void concurrentParsingIsCorrect() throws InterruptedException {
+    final Version lazyVersion = Version.lazy("3.14.15-beta9");
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicInteger correct = new AtomicInteger();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        if (lazyVersion.getMinor() == 14 && lazyVersion.getPreReleaseVersion() == 9
+          && lazyVersion.equals(new Version("3.14.15-beta9"))) {
+          correct.incrementAndGet();
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(8, correct.get());
+  }
+}
@@ -0,0 +1,144 @@
+package io.github.g00fy2.versioncompare;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class MavenVersionTest {
+
+  // differential corpus, every pair is compared with Maven's ComparableVersion
+  private static final String[] CORPUS = {
+    "", "0", "1", "1.0", "1.0.0", "1.0.0.0", "1-0", "1.0-0.0", "01", "1.01", "1.1", "1.2", "1.10", "2", "2.0.1",
+    "1-1", "1.0.0-1", "1-1.1", "1-2", "1.0-rc1", "1.0-RC1", "1.0-cr1", "1.0-CR-1", "1.0rc1", "1.0.rc1", "1.0-rc.1",
+    "1.0-rc-1", "1.0-alpha", "1.0-alpha1", "1.0-alpha-1", "1.0-a1", "1.0-a", "1.0a1", "1.0-A1", "1.0-beta", "1.0-b2",
+    "1.0-beta-2", "1.0-milestone-1", "1.0-m1", "1.0-M1", "1.0-m", "1.0-snapshot", "1.0-SNAPSHOT", "1.0-alpha-SNAPSHOT",
+    "1.0-ga", "1.0-GA", "1.0.ga", "1.0-final", "1.0.Final", "1.0-release", "1.0.RELEASE", "1.0-sp", "1.0-sp1",
+    "1.0-SP2", "1.0.sp.1", "1.0-xyz", "1.0-abc", "1.0-abc1", "1.0-1-abc", "1.0-jre", "1.0-android", "1.0-jdk8",
+    "1.0.0.Alpha1", "1.0.0.Beta1", "1.0.0.CR1", "1.0.0.Final", "1.0.0.SP1", "2.0.0-M1", "2.0.0-M2", "2.0.0-RC1",
+    "1.0.0-1.0.0", "1..1", "1--1", "1.-1", "-1", ".1", "1.", "1-", "a", "a1", "abc", "1a", "1a1", "1a1b", "1a-1",
+    "1.0.0.X1", "1.0.0-X2", "1-1.foo-bar1baz-.1", "1-1.foo-bar-1-baz-0.1", "1.0-20150115.130000-1",
+    "1.0.0-jre", "31.1-jre", "31.1-android", "2.12.7.1", "5.3.20", "5.3.20.RELEASE", "3.0.0-beta-1",
+    "123456789", "1234567890", "123456789012345678", "1234567890123456789", "12345678901234567890123",
+    "0000000000", "0000000000000000000000", "0000000000.1", "1.0000000000", "1.00000000000000000000001",
+    "1.9223372036854775807", "1.9223372036854775808", "١.٢.٣", "1.٠٠٠٠٠٠٠٠٠٠١", "1-İ", "1-i", "1_0",
+    "1+build", "1.0-SNAPSHOT-1", "1.0-1-SNAPSHOT", "1.0-sp-SNAPSHOT", "1.0.0-ga-1", "1.0-final-0", "1.0-rc1-SNAPSHOT"
+  };
+
+  @Test
+  public void corpusMatchesComparableVersion() {
+    for (String versionA : CORPUS) {
+      for (String versionB : CORPUS) {
+        assertSameOrder(versionA, versionB);
+      }
+    }
+  }
+
+  @Test
+  public void randomMatchesComparableVersion() {
+    Random random = new Random(42);
+    String chars = "0000123456789...---abcmrspgfinlxABRC_é";
+    String[] words = {"alpha", "beta", "milestone", "rc", "cr", "snapshot", "ga", "final", "release", "sp", "a", "b",
+      "m", "SNAPSHOT", "Final", "12345678901234567890", "0000000000"};
+    String previous = "";
+    for (int i = 0; i < 50000; i++) {
+      StringBuilder sb = new StringBuilder();
+      int length = random.nextInt(12);
+      for (int c = 0; c < length; c++) {
+        if (random.nextInt(8) == 0) sb.append(words[random.nextInt(words.length)]);
+        else sb.append(chars.charAt(random.nextInt(chars.length())));
+      }
+      String versionString = sb.toString();
+      assertSameOrder(previous, versionString);
+      previous = versionString;
+    }
+  }
+
+  @Test
+  public void sortMatchesComparableVersion() {
+    List<String> versionStrings = new ArrayList<>(Arrays.asList(CORPUS));
+    Collections.shuffle(versionStrings, new Random(1));
+    List<ComparableVersion> expected = new ArrayList<>();
+    List<MavenVersion> actual = new ArrayList<>();
+    for (String versionString : versionStrings) {
+      expected.add(new ComparableVersion(versionString));
+      actual.add(MavenVersion.parse(versionString));
+    }
+    Collections.sort(expected);
+    Collections.sort(actual);
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getCanonical(), actual.get(i).getCanonical());
+    }
+  }
+
+  @Test
+  public void qualifiersAreOrderedLikeMaven() {
+    List<String> expected = Arrays.asList("1-alpha-1", "1-beta-1", "1-milestone-1", "1-rc-1", "1-SNAPSHOT", "1",
+      "1-sp-1", "1-abc", "1-xyz");
+    List<String> actual = new ArrayList<>(expected);
+    Collections.shuffle(actual, new Random(1));
+    actual.sort(MavenVersion.STRING_ORDER);
+    assertEquals(expected, actual);
+
+    assertEquals(MavenVersion.parse("1.0-alpha1"), MavenVersion.parse("1.0-a1"));
+    assertEquals(MavenVersion.parse("1.0-rc1"), MavenVersion.parse("1.0-CR1"));
+    assertEquals(MavenVersion.parse("1"), MavenVersion.parse("1.0.0-ga"));
+    assertEquals(MavenVersion.parse("1.0-final"), MavenVersion.parse("1.0.0.RELEASE"));
+    assertNotEquals(MavenVersion.parse("1.0-a"), MavenVersion.parse("1.0-alpha"));
+    assertEquals("1-rc-1", MavenVersion.parse("1.0.0-CR1").getCanonical());
+  }
+
+  @Test
+  public void versionMavenOrderIsApplied() {
+    List<Version> versions = new ArrayList<>(Arrays.asList(new Version("1.0-sp1"), new Version("1.0"),
+      new Version("1.0-rc1"), new Version("1.0.Final")));
+    versions.sort(Version.MAVEN_ORDER);
+    assertEquals("1.0-rc1", versions.get(0).getOriginalString());
+    assertEquals("1.0-sp1", versions.get(3).getOriginalString());
+    assertEquals(0, Version.MAVEN_ORDER.compare(versions.get(1), versions.get(2)));
+    // unlike their Version order, which does not know sp
+    assertEquals(1, Version.MAVEN_ORDER.compare(new Version("1.0-sp1"), new Version("1.0")));
+    assertEquals(0, new Version("1.0-sp1").compareTo(new Version("1.0")));
+  }
+
+  @Test
+  public void versionMavenOrderPutsNullFirst() {
+    List<Version> versions = new ArrayList<>(Arrays.asList(new Version("1"), new Version(null), new Version("0-alpha"),
+      Version.lazy(null), new Version("")));
+    versions.sort(Version.MAVEN_ORDER);
+    assertEquals(null, versions.get(0).getOriginalString());
+    assertEquals(null, versions.get(1).getOriginalString());
+    assertEquals("0-alpha", versions.get(2).getOriginalString());
+    assertEquals("", versions.get(3).getOriginalString());
+    assertEquals(0, Version.MAVEN_ORDER.compare(new Version(null), Version.lazy(null)));
+    assertEquals(1, Version.MAVEN_ORDER.compare(new Version("0-alpha"), new Version(null)));
+  }
+
+  @Test
+  public void nullIsHandledAsEmpty() {
+    assertEquals(0, MavenVersion.compare(null, ""));
+    assertEquals(0, MavenVersion.compare(null, "0.0"));
+    assertEquals(-1, MavenVersion.compare(null, "1"));
+    assertEquals(1, MavenVersion.compare("1", null));
+  }
+
+  private static void assertSameOrder(String versionA, String versionB) {
+    ComparableVersion expectedA = new ComparableVersion(versionA);
+    ComparableVersion expectedB = new ComparableVersion(versionB);
+    MavenVersion actualA = MavenVersion.parse(versionA);
+    MavenVersion actualB = MavenVersion.parse(versionB);
+    String message = versionA + " vs " + versionB;
+    int expected = Integer.signum(expectedA.compareTo(expectedB));
+    assertEquals(message, expected, actualA.compareTo(actualB));
+    assertEquals(message, expected, MavenVersion.compare(versionA, versionB));
+    assertEquals(message, expectedA.getCanonical(), actualA.getCanonical());
+    assertEquals(message, expected == 0, actualA.equals(actualB));
+    if (expected == 0) assertEquals(message, actualA.hashCode(), actualB.hashCode());
+  }
+}
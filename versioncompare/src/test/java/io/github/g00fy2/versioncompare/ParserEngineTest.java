@@ -0,0 +1,179 @@
+package io.github.g00fy2.versioncompare;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.After;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParserEngineTest {
+
+  private static final String CHARS = "0123456789....---  \t\u000Brcbetalphsnopre+xAYRCzü\u0001٣\n_";
+  private static final String[] WORDS = {"rc", "beta", "alpha", "pre", "snapshot", "SNAPSHOT", "RC", "Alpha",
+    "pre-alpha", "99999999999999999999", "0000000000000000000001", "9223372036854775807", "9223372036854775808"};
+
+  @After
+  public void resetEngine() {
+    Version.setParserEngine(ParserEngine.FAST);
+    Version.setDifferentialSampling(0);
+    Version.setMetrics(null);
+  }
+
+  @Test
+  public void engineIsSelectable() {
+    assertSame(ParserEngine.FAST, Version.getParserEngine());
+    Version.setParserEngine(ParserEngine.LEGACY);
+    assertSame(ParserEngine.LEGACY, Version.getParserEngine());
+    Version version = new Version(" 1.2.0 - rc 3.4");
+    assertEquals(3, version.getSubversionNumbers().size());
+    assertEquals("-rc3.4", version.getSuffix());
+    assertEquals(ReleaseType.RC, version.getReleaseType());
+    assertEquals(3, version.getPreReleaseVersion());
+    assertTrue(Version.lazy("1.10").isHigherThan("1.9"));
+  }
+
+  @Test
+  public void enginesMatchRandom() {
+    Random random = new Random(42);
+    QualifierScheme scheme = QualifierScheme.builder().add("preview", -15).build();
+    Parsed previous = parse("1.0", QualifierScheme.DEFAULT);
+    for (int i = 0; i < 200000; i++) {
+      String versionString = random.nextInt(50) == 0 ? null : randomVersionString(random);
+      Parsed parsed = parse(versionString, random.nextInt(10) == 0 ? scheme : QualifierScheme.DEFAULT);
+      if (parsed.exception != null) continue;
+      assertNull(versionString, ParserDifferential.findMismatch(parsed.fast, parsed.legacy, ParserEngine.LEGACY));
+      assertEquals(versionString, parsed.fast.getSubversionNumbers(), parsed.legacy.getSubversionNumbers());
+      assertEquals(versionString, parsed.fast.getOriginalString(), parsed.legacy.getOriginalString());
+      assertEquals(versionString + " vs " + previous.fast, Integer.signum(parsed.fast.compareTo(previous.fast)),
+        Integer.signum(parsed.legacy.compareTo(previous.legacy)));
+      previous = parsed;
+    }
+  }
+
+  @Test
+  public void parsedValuesHaveProperties() {
+    Random random = new Random(7);
+    List<Version> versions = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      Parsed parsed = parse(randomVersionString(random), QualifierScheme.DEFAULT);
+      if (parsed.exception != null) continue;
+      for (Version version : new Version[]{parsed.fast, parsed.legacy}) {
+        List<Long> numbers = version.getSubversionNumbers();
+        long[] trimmed = version.trimmedSubversionNumbers();
+        assertTrue(trimmed.length <= numbers.size());
+        assertFalse(trimmed.length > 0 && trimmed[trimmed.length - 1] == 0);
+        for (int n = 0; n < numbers.size(); n++) {
+          assertTrue(numbers.get(n) >= 0);
+          assertEquals(n < trimmed.length ? trimmed[n] : 0L, (long) numbers.get(n));
+        }
+        assertEquals(version.getMajor(), trimmed.length > 0 ? trimmed[0] : 0L);
+        assertTrue(version.getPreReleaseVersion() >= 0);
+        if (version.getSuffix().isEmpty()) assertSame(ReleaseType.STABLE, version.getReleaseType());
+        versions.add(version);
+      }
+    }
+    // compareTo is a total order consistent with equals and hashCode
+    for (int i = 0; i + 2 < versions.size(); i++) {
+      Version a = versions.get(i);
+      Version b = versions.get(i + 1);
+      Version c = versions.get(i + 2);
+      assertEquals(Integer.signum(a.compareTo(b)), -Integer.signum(b.compareTo(a)));
+      assertEquals(a.compareTo(b) == 0, a.equals(b));
+      if (a.equals(b)) assertEquals(a.hashCode(), b.hashCode());
+      if (a.compareTo(b) <= 0 && b.compareTo(c) <= 0) assertTrue(a.compareTo(c) <= 0);
+    }
+  }
+
+  @Test
+  public void differentialCheckFindsNoMismatch() {
+    VersionCounters counters = new VersionCounters();
+    Version.setMetrics(counters);
+    Version.setDifferentialSampling(1);
+    Random random = new Random(3);
+    for (int i = 0; i < 10000; i++) {
+      try {
+        new Version(randomVersionString(random));
+      } catch (NumberFormatException e) {
+        // both engines reject numbers exceeding Long.MAX_VALUE
+      }
+    }
+    assertEquals(0, counters.getParserMismatchCount());
+    assertTrue(counters.getParseCount() > 19000);
+  }
+
+  @Test
+  public void differentialCheckReportsMismatch() {
+    List<String> mismatches = new ArrayList<>();
+    Version.setMetrics(new VersionMetrics() {
+      @Override
+      public void onParserMismatch(@Nullable String versionString, @NotNull String mismatch) {
+        mismatches.add(versionString + " " + mismatch);
+      }
+    });
+    Version fast = new Version("1.2-rc1");
+    Version different = new Version("1.2-rc1", VersionComparator.EMPTY_NUMBERS, 0, "-rc1", -10, 1,
+      QualifierScheme.DEFAULT);
+    assertEquals("subversionNumbers: FAST=[1, 2] LEGACY=[]",
+      ParserDifferential.findMismatch(fast, different, ParserEngine.LEGACY));
+    different = new Version("1.2-rc1", fast.trimmedSubversionNumbers(), 2, "-rc1", -10, 2, QualifierScheme.DEFAULT);
+    assertEquals("preReleaseVersion: LEGACY=1 FAST=2",
+      ParserDifferential.findMismatch(new Version("1.2-rc1", false, QualifierScheme.DEFAULT, ParserEngine.LEGACY),
+        different, ParserEngine.FAST));
+
+    Version.setDifferentialSampling(1);
+    new Version("1.2-rc1");
+    assertTrue(mismatches.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeSamplingIsArgumentIllegal() {
+    Version.setDifferentialSampling(-1);
+  }
+
+  @NotNull
+  private static Parsed parse(@Nullable String versionString, @NotNull QualifierScheme scheme) {
+    Parsed parsed = new Parsed();
+    try {
+      parsed.fast = new Version(versionString, false, scheme, ParserEngine.FAST);
+    } catch (RuntimeException e) {
+      parsed.exception = e.getClass();
+    }
+    try {
+      parsed.legacy = new Version(versionString, false, scheme, ParserEngine.LEGACY);
+      assertEquals(versionString, null, parsed.exception);
+    } catch (RuntimeException e) {
+      assertEquals(versionString, e.getClass(), parsed.exception);
+    }
+    return parsed;
+  }
+
+  @NotNull
+  private static String randomVersionString(@NotNull Random random) {
+    int length = random.nextInt(random.nextInt(10) == 0 ? 40 : 14);
+    StringBuilder sb = new StringBuilder();
+    if (random.nextBoolean()) sb.append((char) ('0' + random.nextInt(10)));
+    for (int i = 0; i < length; i++) {
+      if (random.nextInt(6) == 0) sb.append(WORDS[random.nextInt(WORDS.length)]);
+      else sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+    }
+    return sb.toString();
+  }
+
+  private static final class Parsed {
+
+    @Nullable
+    private Version fast;
+    @Nullable
+    private Version legacy;
+    @Nullable
+    private Class<?> exception;
+  }
+}
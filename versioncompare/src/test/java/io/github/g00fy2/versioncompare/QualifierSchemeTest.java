@@ -0,0 +1,228 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class QualifierSchemeTest {
+
+  private static final QualifierScheme SCHEME = QualifierScheme.builder()
+    .add("dev", ReleaseType.SNAPSHOT.getRank() + 5)
+    .add("milestone", ReleaseType.BETA.getRank() - 5)
+    .add("M", ReleaseType.BETA.getRank() - 5, true)
+    .add("preview", ReleaseType.RC.getRank() - 5)
+    .add("cr", ReleaseType.RC.getRank())
+    .add("sp", 10, true)
+    .build();
+
+  @Test
+  public void defaultSchemeIsCorrect() {
+    for (String versionString : Arrays.asList("1.0", "1.0-SNAPSHOT", "1.0-pre-alpha2", "1.0-alpha.3", "1.0-Beta4",
+      "1.0-rc-5", "1.0-src", "1.0-M1", "1.0-dev")) {
+      Version version = new Version(versionString);
+      Version schemeVersion = QualifierScheme.DEFAULT.parse(versionString);
+      assertEquals(version, schemeVersion);
+      assertEquals(version.getReleaseType(), schemeVersion.getReleaseType());
+      assertEquals(version.getReleaseType().getRank(), schemeVersion.getQualifierRank());
+      assertEquals(version.getPreReleaseVersion(), schemeVersion.getPreReleaseVersion());
+    }
+  }
+
+  @Test
+  public void customQualifierOrderIsCorrect() {
+    List<String> expected = Arrays.asList("1.0-SNAPSHOT", "1.0-dev2", "1.0-alpha", "1.0-M1", "1.0-milestone-2",
+      "1.0-beta", "1.0-preview.1", "1.0-cr1", "1.0-RC2", "1.0-CR3", "1.0", "1.0-macos", "1.0-sp1", "1.0-SP.2");
+    List<Version> versions = new ArrayList<>();
+    for (String versionString : expected) {
+      versions.add(SCHEME.parse(versionString));
+    }
+    Collections.shuffle(versions, new Random(1));
+    Collections.sort(versions);
+
+    List<String> actual = new ArrayList<>();
+    for (Version version : versions) {
+      actual.add(version.getOriginalString());
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void releaseTypeOfCustomQualifierIsCorrect() {
+    assertEquals(ReleaseType.SNAPSHOT, SCHEME.parse("1.0-dev").getReleaseType());
+    assertEquals(ReleaseType.ALPHA, SCHEME.parse("1.0-M3").getReleaseType());
+    assertEquals(ReleaseType.BETA, SCHEME.parse("1.0-preview").getReleaseType());
+    assertEquals(ReleaseType.RC, SCHEME.parse("1.0-cr").getReleaseType());
+    assertEquals(ReleaseType.STABLE, SCHEME.parse("1.0-sp1").getReleaseType());
+    assertEquals(10, SCHEME.parse("1.0-sp1").getQualifierRank());
+  }
+
+  @Test
+  public void highestRankIsUsed() {
+    Version version = SCHEME.parse("1.0-milestone3-rc4");
+    assertEquals(ReleaseType.RC, version.getReleaseType());
+    assertEquals(4L, version.getPreReleaseVersion());
+
+    version = SCHEME.parse("1.0-dev7-preview8");
+    assertEquals(ReleaseType.RC.getRank() - 5, version.getQualifierRank());
+    assertEquals(8L, version.getPreReleaseVersion());
+  }
+
+  @Test
+  public void wholeWordQualifierIsCorrect() {
+    assertEquals(0, SCHEME.parse("1.0-macos").getQualifierRank());
+    assertEquals(0, SCHEME.parse("1.0-ms").getQualifierRank());
+    assertEquals(ReleaseType.BETA.getRank() - 5, SCHEME.parse("1.0.m2").getQualifierRank());
+    assertEquals(ReleaseType.BETA.getRank() - 5, SCHEME.parse("1.0-M_2").getQualifierRank());
+    assertEquals(2L, SCHEME.parse("1.0-M_2").getPreReleaseVersion());
+  }
+
+  @Test
+  public void withoutDefaultsIsCorrect() {
+    QualifierScheme scheme = QualifierScheme.builder().includeDefaults(false).add("ea", -10).build();
+    assertEquals(0, scheme.parse("1.0-beta1").getQualifierRank());
+    assertEquals(0L, scheme.parse("1.0-beta1").getPreReleaseVersion());
+    assertEquals(-10, scheme.parse("1.0-EA7").getQualifierRank());
+    assertEquals(7L, scheme.parse("1.0-EA7").getPreReleaseVersion());
+  }
+
+  @Test
+  public void sortKeyIsCorrect() {
+    for (String versionString : Arrays.asList("1.0-dev3", "1.0-M1", "2.1-preview", "3-sp4", "1.0-rc2", "1.0")) {
+      Version version = SCHEME.parse(versionString);
+      Version sortKeyVersion = Version.fromSortKey(version.toSortKey(), SCHEME);
+      assertEquals(version, sortKeyVersion);
+      assertEquals(version.getQualifierRank(), sortKeyVersion.getQualifierRank());
+    }
+  }
+
+  @Test
+  public void stringArgumentsUseScheme() {
+    Version version = SCHEME.parse("1.0");
+    assertSame(SCHEME, version.getQualifierScheme());
+    assertTrue(version.isHigherThan("1.0-M1"));
+    assertFalse(version.isLowerThan("1.0-milestone-2"));
+    assertFalse(version.isEqual("1.0-M1"));
+    assertTrue(version.isAtLeast("1.0-dev"));
+    assertTrue(Version.lazy("1.0", SCHEME).isHigherThan("1.0-M1"));
+    assertTrue(SCHEME.parse("1.0-cr1").isLowerThan("1.0-sp1"));
+    assertTrue(new Version("1.0").isEqual("1.0-M1"));
+
+    try {
+      Version.setSharedCache(new VersionCache(16));
+      assertTrue(version.isHigherThan("1.0-M1"));
+      assertEquals(0, Version.getSharedCache().size());
+      Version.setSharedCache(new VersionCache(16, SCHEME));
+      assertTrue(version.isHigherThan("1.0-M1"));
+      assertTrue(version.isHigherThan("1.0-M1"));
+      assertEquals(1, Version.getSharedCache().getHitCount());
+      assertSame(SCHEME, Version.parseCached("1.0-M1", SCHEME).getQualifierScheme());
+      assertSame(QualifierScheme.DEFAULT, Version.parseCached("1.0-M1").getQualifierScheme());
+    } finally {
+      Version.setSharedCache(null);
+    }
+  }
+
+  @Test
+  public void compareWithSchemeIsCorrect() {
+    Random random = new Random(5);
+    String[] suffixes = {"", "-M1", "-m 2", "-milestone-2", "-dev", "-rc1", "-cr 1", "-preview.1", "-sp1", "-SP .2",
+      "-macos", "-beta", ".", "- rc2 ."};
+    for (int i = 0; i < 5000; i++) {
+      String a = random.nextInt(3) + "." + random.nextInt(2) + suffixes[random.nextInt(suffixes.length)];
+      String b = random.nextInt(3) + "." + random.nextInt(2) + suffixes[random.nextInt(suffixes.length)];
+      assertEquals(a + " vs " + b, Integer.signum(SCHEME.parse(a).compareTo(SCHEME.parse(b))),
+        Version.compare(a, b, SCHEME));
+      assertEquals(a + " vs " + b, Integer.signum(new Version(a).compareTo(new Version(b))), Version.compare(a, b));
+    }
+    assertEquals(1, Version.compare("1.0", "1.0-M1", SCHEME));
+    assertEquals(0, Version.compare("1.0", "1.0-M1"));
+  }
+
+  @Test
+  public void constraintUsesScheme() {
+    assertFalse(VersionConstraint.compile(">=1.0", SCHEME).matches("1.0-M1"));
+    assertTrue(VersionConstraint.compile(">=1.0").matches("1.0-M1"));
+    VersionConstraint range = VersionConstraint.compile("[1.0-M1,1.0-cr1]", SCHEME);
+    assertTrue(range.matches("1.0-milestone-2"));
+    assertTrue(range.matches("1.0-preview"));
+    assertFalse(range.matches("1.0"));
+    assertFalse(range.matches("1.0-dev"));
+  }
+
+  @Test
+  public void cacheUsesScheme() {
+    VersionCache cache = new VersionCache(16, SCHEME);
+    assertSame(SCHEME, cache.getQualifierScheme());
+    assertEquals(ReleaseType.BETA.getRank() - 5, cache.get("1.0-M1").getQualifierRank());
+    assertSame(SCHEME, cache.get(null).getQualifierScheme());
+    assertSame(QualifierScheme.DEFAULT, new VersionCache(16).getQualifierScheme());
+  }
+
+  @Test
+  public void manyQualifiersAreCorrect() {
+    Random random = new Random(42);
+    QualifierScheme.Builder builder = QualifierScheme.builder().includeDefaults(false);
+    List<String> qualifiers = new ArrayList<>();
+    List<Integer> ranks = new ArrayList<>();
+    while (qualifiers.size() < 500) {
+      String qualifier = randomWord(random, 1 + random.nextInt(6)).toLowerCase(Locale.ROOT);
+      if (qualifiers.contains(qualifier)) continue;
+      int rank = random.nextInt(1000) - 500;
+      builder.add(qualifier, rank);
+      qualifiers.add(qualifier);
+      ranks.add(rank);
+    }
+    QualifierScheme scheme = builder.build();
+
+    for (int i = 0; i < 2000; i++) {
+      String suffix = randomWord(random, random.nextInt(16));
+      Version version = scheme.parse("1.0-" + suffix);
+
+      // reference: highest rank of all qualifiers contained in the suffix
+      String lowerCaseSuffix = version.getSuffix().toLowerCase(Locale.ROOT);
+      int expectedRank = 0;
+      boolean found = false;
+      for (int q = 0; q < qualifiers.size(); q++) {
+        if (lowerCaseSuffix.contains(qualifiers.get(q)) && (!found || ranks.get(q) > expectedRank)) {
+          found = true;
+          expectedRank = ranks.get(q);
+        }
+      }
+      assertEquals(suffix, expectedRank, version.getQualifierRank());
+    }
+  }
+
+  @Test
+  public void builderIsArgumentIllegal() {
+    for (String qualifier : Arrays.asList("", "m 1", "ü")) {
+      try {
+        QualifierScheme.builder().add(qualifier, -1);
+        throw new AssertionError("Expected exception for " + qualifier);
+      } catch (IllegalArgumentException e) {
+        assertTrue(e.getMessage().length() > 0);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builderIsDuplicate() {
+    QualifierScheme.builder().add("ea", -1).add("EA", -2);
+  }
+
+  private static String randomWord(Random random, int length) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      sb.append("abcdeABC-.".charAt(random.nextInt(10)));
+    }
+    return sb.toString();
+  }
+}
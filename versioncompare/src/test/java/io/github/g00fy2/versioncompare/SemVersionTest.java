@@ -0,0 +1,164 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SemVersionTest {
+
+  // the regular expression suggested by semver.org
+  private static final Pattern SEMVER_PATTERN = Pattern.compile("^(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)" +
+    "(?:-((?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?" +
+    "(?:\\+([0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$");
+
+  @Test
+  public void precedenceMatchesSpecification() {
+    List<String> expected = Arrays.asList("1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta",
+      "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "1.0.1-0", "1.0.1-1", "1.0.1-10", "1.0.1--", "1.0.1-A",
+      "1.0.1-a", "1.0.1", "1.2.0", "1.10.0", "2.0.0");
+    List<SemVersion> versions = new ArrayList<>();
+    for (String versionString : expected) {
+      versions.add(SemVersion.parse(versionString));
+    }
+    Collections.shuffle(versions, new Random(1));
+    Collections.sort(versions);
+
+    List<String> actual = new ArrayList<>();
+    for (SemVersion version : versions) {
+      actual.add(version.getOriginalString());
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void buildMetadataIsIgnored() {
+    SemVersion version = SemVersion.parse("1.0.0-alpha.1+build.5");
+    SemVersion otherBuild = SemVersion.parse("1.0.0-alpha.1+001");
+    assertEquals(0, version.compareTo(otherBuild));
+    assertEquals(version, otherBuild);
+    assertEquals(version.hashCode(), otherBuild.hashCode());
+    assertNotEquals(version, SemVersion.parse("1.0.0-alpha.2+build.5"));
+    assertEquals(-1, version.compareTo(SemVersion.parse("1.0.0+build.5")));
+  }
+
+  @Test
+  public void partsAreCorrect() {
+    SemVersion version = SemVersion.parse("1.22.333-alpha.1-x+build.5");
+    assertEquals(1L, version.getMajor());
+    assertEquals(22L, version.getMinor());
+    assertEquals(333L, version.getPatch());
+    assertTrue(version.isPreRelease());
+    assertEquals("alpha.1-x", version.getPreRelease());
+    assertEquals("build.5", version.getBuildMetadata());
+
+    version = SemVersion.parse(new StringBuilder("9223372036854775807.0.0+-"));
+    assertEquals(Long.MAX_VALUE, version.getMajor());
+    assertFalse(version.isPreRelease());
+    assertEquals("", version.getPreRelease());
+    assertEquals("-", version.getBuildMetadata());
+    assertEquals("9223372036854775807.0.0+-", version.toString());
+  }
+
+  @Test
+  public void validationMatchesSpecification() {
+    for (String valid : Arrays.asList("0.0.4", "1.2.3", "10.20.30", "1.1.2-prerelease+meta", "1.1.2+meta",
+      "1.1.2+meta-valid", "1.0.0-alpha", "1.0.0-alpha.beta.1", "1.0.0-alpha0.valid", "1.0.0-alpha.0valid",
+      "1.0.0-alpha-a.b-c-somethinglong+build.1-aef.1-its-okay", "1.0.0-rc.1+build.1",
+      "1.2.3----RC-SNAPSHOT.12.9.1--.12+788", "1.0.0+0.build.1-rc.10000aaa-kk-0.1", "1.0.0-0A.is.legal")) {
+      assertTrue(valid, SemVersion.isValid(valid));
+    }
+    for (String invalid : Arrays.asList("1", "1.2", "1.2.3-0123", "1.2.3-0123.0123", "1.1.2+.123", "+invalid",
+      "-invalid", "alpha", "1.2.3.DEV", "1.2-SNAPSHOT", "1.2.31.2.3----RC-SNAPSHOT.12.09.1--..12+788",
+      "-1.0.3-gamma+b7718", "+justmeta", "9.8.7+meta+meta", "9.8.7-whatever+meta+meta", "01.1.1", "1.01.1", "1.1.01",
+      "1.2.3-", "1.2.3+", "1.2.3-a..b", " 1.2.3", "1.2.3 ", "v1.2.3", "1.2.3-ä", "9223372036854775808.0.0", "",
+      null)) {
+      assertFalse(invalid, SemVersion.isValid(invalid));
+    }
+  }
+
+  @Test
+  public void validationMatchesRegexRandom() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      StringBuilder sb = new StringBuilder();
+      sb.append(random.nextInt(3)).append('.').append(random.nextInt(12)).append('.').append(random.nextInt(3));
+      int length = random.nextInt(10);
+      for (int c = 0; c < length; c++) {
+        sb.append("0123.-+aZ.".charAt(random.nextInt(10)));
+      }
+      if (random.nextInt(8) == 0) sb.insert(random.nextInt(sb.length()), '0');
+      String versionString = sb.toString();
+      assertEquals(versionString, SEMVER_PATTERN.matcher(versionString).matches(), SemVersion.isValid(versionString));
+    }
+  }
+
+  @Test
+  public void compareToMatchesReferenceRandom() {
+    Random random = new Random(42);
+    for (int i = 0; i < 20000; i++) {
+      SemVersion versionA = SemVersion.parse(randomVersion(random));
+      SemVersion versionB = SemVersion.parse(randomVersion(random));
+      assertEquals(versionA + " vs " + versionB, referenceCompare(versionA, versionB), versionA.compareTo(versionB));
+      assertEquals(versionA.compareTo(versionB) == 0, versionA.equals(versionB));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parseIsArgumentIllegal() {
+    SemVersion.parse("1.2.3-01");
+  }
+
+  private static String randomVersion(Random random) {
+    StringBuilder sb = new StringBuilder("1.0.").append(random.nextInt(2));
+    int identifiers = random.nextInt(4);
+    for (int i = 0; i < identifiers; i++) {
+      sb.append(i == 0 ? '-' : '.');
+      switch (random.nextInt(3)) {
+        case 0:
+          sb.append(random.nextInt(3) == 0 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(3));
+          break;
+        case 1:
+          sb.append("ab".charAt(random.nextInt(2)));
+          break;
+        default:
+          sb.append(random.nextInt(3)).append("-Aa".charAt(random.nextInt(3)));
+          break;
+      }
+    }
+    if (random.nextBoolean()) sb.append("+build.").append(random.nextInt(3));
+    return sb.toString();
+  }
+
+  // precedence with split identifiers as described by the specification
+  private static int referenceCompare(SemVersion a, SemVersion b) {
+    if (a.getMajor() != b.getMajor()) return Long.compare(a.getMajor(), b.getMajor()) > 0 ? 1 : -1;
+    if (a.getMinor() != b.getMinor()) return Long.compare(a.getMinor(), b.getMinor()) > 0 ? 1 : -1;
+    if (a.getPatch() != b.getPatch()) return Long.compare(a.getPatch(), b.getPatch()) > 0 ? 1 : -1;
+    if (!a.isPreRelease() || !b.isPreRelease()) {
+      return a.isPreRelease() == b.isPreRelease() ? 0 : a.isPreRelease() ? -1 : 1;
+    }
+    String[] identifiersA = a.getPreRelease().split("\\.");
+    String[] identifiersB = b.getPreRelease().split("\\.");
+    for (int i = 0; i < Math.min(identifiersA.length, identifiersB.length); i++) {
+      String identifierA = identifiersA[i];
+      String identifierB = identifiersB[i];
+      boolean numericA = identifierA.matches("\\d+");
+      boolean numericB = identifierB.matches("\\d+");
+      int result;
+      if (numericA && numericB) result = Long.compare(Long.parseLong(identifierA), Long.parseLong(identifierB));
+      else if (numericA || numericB) result = numericA ? -1 : 1;
+      else result = identifierA.compareTo(identifierB);
+      if (result != 0) return result > 0 ? 1 : -1;
+    }
+    return Integer.signum(identifiersA.length - identifiersB.length);
+  }
+}
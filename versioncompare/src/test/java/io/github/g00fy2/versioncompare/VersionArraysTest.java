@@ -0,0 +1,75 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs against the Java 8 baseline with the test task and against the Java 17 variant with the java17Test task.
+ */
+public class VersionArraysTest {
+
+  @Test
+  public void variantMatchesClasspath() {
+    assertEquals(Integer.parseInt(System.getProperty("versioncompare.featureVersion", "8")),
+      VersionArrays.featureVersion());
+  }
+
+  @Test
+  public void compareNumbersIsCorrect() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      long[] numbersA = randomNumbers(random);
+      long[] numbersB = randomNumbers(random);
+      int fromA = random.nextInt(numbersA.length + 1);
+      int toA = fromA + random.nextInt(numbersA.length - fromA + 1);
+      assertEquals(referenceCompare(numbersA, fromA, toA, numbersB),
+        VersionArrays.compareNumbers(numbersA, fromA, toA, numbersB));
+    }
+  }
+
+  @Test
+  public void compareUnsignedIsCorrect() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      byte[] a = randomBytes(random);
+      byte[] b = random.nextInt(4) == 0 ? a.clone() : randomBytes(random);
+      if (random.nextBoolean() && b.length > 0) b[random.nextInt(b.length)] ^= (byte) 0x80;
+      assertEquals(referenceCompareUnsigned(a, b), VersionArrays.compareUnsigned(a, b));
+    }
+  }
+
+  private static long[] randomNumbers(Random random) {
+    long[] numbers = new long[random.nextInt(12)];
+    for (int i = 0; i < numbers.length; i++) {
+      // mostly zeros and small numbers, so that many ranges are equal
+      numbers[i] = random.nextInt(4) == 0 ? random.nextLong() & Long.MAX_VALUE : random.nextInt(2);
+    }
+    return numbers;
+  }
+
+  private static byte[] randomBytes(Random random) {
+    byte[] bytes = new byte[random.nextInt(40)];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (random.nextInt(3) == 0 ? random.nextInt(256) : 1);
+    }
+    return bytes;
+  }
+
+  private static int referenceCompare(long[] numbersA, int fromA, int toA, long[] numbersB) {
+    for (int i = 0; i < Math.max(toA - fromA, numbersB.length); i++) {
+      long a = i < toA - fromA ? numbersA[fromA + i] : 0;
+      long b = i < numbersB.length ? numbersB[i] : 0;
+      if (a != b) return a > b ? 1 : -1;
+    }
+    return 0;
+  }
+
+  private static int referenceCompareUnsigned(byte[] a, byte[] b) {
+    for (int i = 0; i < Math.min(a.length, b.length); i++) {
+      if (a[i] != b[i]) return (a[i] & 0xFF) - (b[i] & 0xFF);
+    }
+    return a.length - b.length;
+  }
+}
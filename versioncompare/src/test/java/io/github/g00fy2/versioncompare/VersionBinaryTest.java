@@ -0,0 +1,142 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VersionBinaryTest {
+
+  private static final String[] VERSIONS = {
+    "0", "0.0.1", "1", "1.0.0", "1.2.3", "1.2-rc2", "1.2.0-RC3.x", "1.2-beta", "1.2-alpha3", "1.2-pre-alpha4",
+    "1.2-SNAPSHOT", "12.4.5-rc11asd", "1.0.38384848844443838484884444", "9223372036854775807.1", "x1.2", "", null,
+    " 1 . 2 - rc 3 . ", "1..2.", "1.2a", "1.2-äöü-😀", "2.0.0.Final", "3-0-rc"
+  };
+
+  @Test
+  public void byteBufferRoundTripIsEqual() throws IOException {
+    for (String versionString : VERSIONS) {
+      assertRoundTrip(new Version(versionString), true);
+      assertRoundTrip(new Version(versionString), false);
+      assertRoundTrip(Version.lazy(versionString), true);
+    }
+  }
+
+  @Test
+  public void byteBufferRoundTripIsEqualRandom() throws IOException {
+    Random random = new Random(42);
+    QualifierScheme scheme = QualifierScheme.builder().add("sp", 100000).add("dev", -1000).build();
+    for (int i = 0; i < 20000; i++) {
+      StringBuilder sb = new StringBuilder();
+      int length = random.nextInt(20);
+      for (int c = 0; c < length; c++) {
+        sb.append("0123456789...- abcdeprsvRCé".charAt(random.nextInt(27)));
+      }
+      assertRoundTrip(new Version(sb.toString(), false, scheme), random.nextBoolean());
+    }
+  }
+
+  @Test
+  public void dataOutputRoundTripIsEqual() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    for (String versionString : VERSIONS) {
+      new Version(versionString).writeTo(output, true);
+      new Version(versionString).writeTo(output, false);
+    }
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    for (String versionString : VERSIONS) {
+      Version version = new Version(versionString);
+      assertSameValues(version, Version.readFrom(input), true);
+      assertSameValues(version, Version.readFrom(input), false);
+    }
+    assertEquals(-1, input.read());
+  }
+
+  @Test
+  public void encodingIsCompact() {
+    assertEquals(8, new Version("1.2.3").getBinaryLength(false));
+    assertEquals(14, new Version("1.2.3").getBinaryLength(true));
+    assertEquals(12, new Version("10.4.1-rc2").getBinaryLength(false));
+    // the suffix is encoded as its start within the original string
+    assertEquals(19, new Version("10.4.1-rc2").getBinaryLength(true));
+  }
+
+  @Test
+  public void canonicalOriginalStringIsParsedEqual() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    new Version(" 1 . 0 - RC 3 .").writeTo(buffer, false);
+    buffer.flip();
+    Version decoded = Version.readFrom(buffer);
+    assertEquals("1.0-RC3", decoded.getOriginalString());
+    assertEquals("-RC3", decoded.getSuffix());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void readFromIsTrailingZero() {
+    Version.readFrom(ByteBuffer.wrap(new byte[]{1 << 2, 0, 0, 0, 0, 0}));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void readFromIsVarintTooLong() {
+    Version.readFrom(ByteBuffer.wrap(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1}));
+  }
+
+  @Test(expected = EOFException.class)
+  public void readFromIsIncomplete() throws IOException {
+    Version.readFrom(new DataInputStream(new ByteArrayInputStream(new byte[]{2 << 2, 0, 1})));
+  }
+
+  private static void assertRoundTrip(Version version, boolean includeOriginalString) throws IOException {
+    int length = version.getBinaryLength(includeOriginalString);
+    ByteBuffer buffer = ByteBuffer.allocate(length + 2);
+    buffer.put((byte) 42);
+    version.writeTo(buffer, includeOriginalString);
+    assertEquals(version.getOriginalString(), length + 1, buffer.position());
+    buffer.put((byte) 42);
+
+    buffer.flip();
+    buffer.get();
+    assertSameValues(version, Version.readFrom(buffer), includeOriginalString);
+    assertEquals(42, buffer.get());
+
+    // heap buffers take a shortcut for ASCII strings
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(length);
+    version.writeTo(directBuffer, includeOriginalString);
+    directBuffer.flip();
+    assertSameValues(version, Version.readFrom(directBuffer), includeOriginalString);
+
+    // both outputs write the same encoding
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    version.writeTo(new DataOutputStream(bytes), includeOriginalString);
+    assertEquals(version.getOriginalString(), ByteBuffer.wrap(buffer.array(), 1, length),
+      ByteBuffer.wrap(bytes.toByteArray()));
+  }
+
+  private static void assertSameValues(Version expected, Version actual, boolean includeOriginalString) {
+    String message = expected.getOriginalString();
+    assertEquals(message, expected, actual);
+    assertEquals(message, 0, expected.compareTo(actual));
+    assertEquals(message, expected.getSubversionNumbers(), actual.getSubversionNumbers());
+    assertEquals(message, expected.getSuffix(), actual.getSuffix());
+    assertEquals(message, expected.getQualifierRank(), actual.getQualifierRank());
+    assertEquals(message, expected.getPreReleaseVersion(), actual.getPreReleaseVersion());
+    if (includeOriginalString) {
+      assertEquals(message, expected.getOriginalString(), actual.getOriginalString());
+    } else if (actual.getOriginalString() != null) {
+      Version reparsed = new Version(actual.getOriginalString());
+      assertEquals(message, actual.getSuffix(), reparsed.getSuffix());
+      assertEquals(message, actual.getSubversionNumbers(), reparsed.getSubversionNumbers());
+    } else {
+      assertTrue(message, expected.getSubversionNumbers().isEmpty());
+    }
+  }
+}
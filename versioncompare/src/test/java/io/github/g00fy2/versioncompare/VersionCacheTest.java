@@ -0,0 +1,104 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VersionCacheTest {
+
+  @After
+  public void resetSharedCache() {
+    Version.setSharedCache(null);
+  }
+
+  @Test
+  public void getCountsHitsAndMisses() {
+    VersionCache cache = new VersionCache(100);
+    Version version = cache.get("1.2.3");
+    assertSame(version, cache.get("1.2.3"));
+    assertEquals(new Version("1.2.3"), version);
+    cache.get("1.2.4");
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void getDoesNotCacheNull() {
+    VersionCache cache = new VersionCache(100);
+    assertNotSame(cache.get(null), cache.get(null));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void sizeIsBounded() {
+    VersionCache cache = new VersionCache(32);
+    for (int i = 0; i < 1000; i++) {
+      cache.get("1." + i);
+    }
+    assertTrue(cache.size() <= 32);
+    assertEquals(1000, cache.getMissCount());
+  }
+
+  @Test
+  public void sizeIsBoundedByMaximumSize() {
+    for (int maximumSize : new int[]{1, 5, 20, 100}) {
+      VersionCache cache = new VersionCache(maximumSize);
+      for (int i = 0; i < maximumSize; i++) {
+        cache.get("2." + i);
+      }
+      // no segment evicts before the whole cache is full
+      assertEquals(maximumSize, cache.size());
+      for (int i = 0; i < 1000; i++) {
+        cache.get("1." + i);
+        assertTrue(cache.size() <= cache.getMaximumSize());
+      }
+      assertEquals(maximumSize, cache.size());
+      assertSame(cache.get("1.999"), cache.get("1.999"));
+    }
+  }
+
+  @Test
+  public void clearResetsCache() {
+    VersionCache cache = new VersionCache(100);
+    cache.get("1.0");
+    cache.get("1.0");
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorIsArgumentIllegal() {
+    new VersionCache(0);
+  }
+
+  @Test
+  public void stringOverloadsUseSharedCache() {
+    VersionCache cache = new VersionCache(100);
+    Version.setSharedCache(cache);
+    Version version = new Version("3.2.1");
+
+    assertTrue(version.isAtLeast("3.2.0"));
+    assertTrue(version.isAtLeast("3.2.0", true));
+    assertTrue(version.isHigherThan("3.2.0"));
+    assertTrue(version.isLowerThan("3.2.2"));
+    assertTrue(version.isEqual("3.2.1"));
+    assertSame(Version.parseCached("3.2.0"), Version.parseCached("3.2.0"));
+
+    assertEquals(4, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+  }
+
+  @Test
+  public void parseCachedWithoutSharedCache() {
+    assertNotSame(Version.parseCached("1.0"), Version.parseCached("1.0"));
+  }
+}
@@ -0,0 +1,97 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+
+public class VersionColumnTest {
+
+  private static final String[] QUALIFIERS = {"", "", "", "-rc", "-beta", "-alpha", "-pre-alpha", "-SNAPSHOT", "-x"};
+
+  @Test
+  public void queriesMatchVersionPredicates() {
+    Random random = new Random(42);
+    List<Version> versions = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      versions.add(randomVersion(random));
+    }
+    VersionColumn column = new VersionColumn();
+    column.addAll(versions);
+    assertEquals(versions.size(), column.size());
+
+    for (int q = 0; q < 200; q++) {
+      Version bound = q % 2 == 0 ? versions.get(random.nextInt(versions.size())) : randomVersion(random);
+      BitSet atLeast = new BitSet();
+      BitSet atLeastIgnoringSuffix = new BitSet();
+      int below = 0;
+      for (int i = 0; i < versions.size(); i++) {
+        if (versions.get(i).isAtLeast(bound)) atLeast.set(i);
+        if (versions.get(i).isAtLeast(bound, true)) atLeastIgnoringSuffix.set(i);
+        if (versions.get(i).isLowerThan(bound)) below++;
+      }
+      assertEquals(bound.toString(), atLeast, column.filterAtLeast(bound));
+      assertEquals(bound.toString(), atLeastIgnoringSuffix, column.filterAtLeast(bound, true));
+      assertEquals(bound.toString(), below, column.countBelow(bound));
+    }
+  }
+
+  @Test
+  public void filterPreReleaseIsCorrect() {
+    VersionColumn column = new VersionColumn(2);
+    for (String versionString : Arrays.asList("1.0", "1.0-rc1", "2-SNAPSHOT", "2.1.Final", "3-alpha", "x")) {
+      column.add(new Version(versionString));
+    }
+    assertEquals(BitSet.valueOf(new long[]{0b10110}), column.filterPreRelease());
+    assertEquals(ReleaseType.ALPHA, column.getReleaseType(4));
+
+    column.add(QualifierScheme.builder().add("sp", 10).build().parse("3-sp1"));
+    assertEquals(BitSet.valueOf(new long[]{0b10110}), column.filterPreRelease());
+  }
+
+  @Test
+  public void histogramByMajorIsCorrect() {
+    VersionColumn column = new VersionColumn();
+    for (String versionString : Arrays.asList("1.0", "1.2", "4", "2024.1", "2024.2-beta", "9223372036854775807", "")) {
+      column.add(new Version(versionString));
+    }
+    SortedMap<Long, Integer> expected = new TreeMap<>();
+    expected.put(0L, 1);
+    expected.put(1L, 2);
+    expected.put(4L, 1);
+    expected.put(2024L, 2);
+    expected.put(Long.MAX_VALUE, 1);
+    assertEquals(expected, column.histogramByMajor());
+    assertEquals(2024L, column.getMajor(3));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void getMajorIsOutOfBounds() {
+    VersionColumn column = new VersionColumn();
+    column.add(new Version("1.0"));
+    column.getMajor(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorIsArgumentIllegal() {
+    new VersionColumn(-1);
+  }
+
+  private static Version randomVersion(Random random) {
+    StringBuilder sb = new StringBuilder();
+    int parts = 1 + random.nextInt(6);
+    for (int i = 0; i < parts; i++) {
+      if (i > 0) sb.append('.');
+      sb.append(random.nextInt(8) == 0 ? random.nextInt(2000) : random.nextInt(3));
+    }
+    sb.append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]);
+    if (random.nextBoolean()) sb.append(random.nextInt(3));
+    return new Version(sb.toString());
+  }
+}
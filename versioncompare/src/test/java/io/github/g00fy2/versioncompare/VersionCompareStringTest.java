@@ -0,0 +1,75 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class VersionCompareStringTest {
+
+  private static final String[] VERSIONS = {
+    "0", "0.0.1", "0.1", "1", "1.0", "1.0.0.0.1", "1.0.1", "1.2", "1.2.0-rc1", "1.2-rc2", "1.2-beta", "1.2-alpha3",
+    "1.2-pre-alpha", "1.2-pre-alpha4", "1.2-snapshot", "1.2-SNAPSHOT2", "1.2.255", "12.4.5-rc12", "12.4.5-rc11asd",
+    "1.0.3838484884444", "1.0.38384848844443838484884444", "9223372036854775807", "2.1-alpha", "jgfa9-beta", "x1.2",
+    "", " ", null, " 1.2", "1 .2", "1. 2-rc 3", "1.2 - beta 2 ", "1.2-rc3.", "1.2-RC3 . ", "1..2", "1.2..", "1.2-",
+    "1.2.-beta", "1.2a", "1.2.3-final", "1.2-alpha-beta7", "1.0-rc12345678901234567890"
+  };
+
+  @Test
+  public void compareMatchesCompareTo() {
+    for (String versionA : VERSIONS) {
+      for (String versionB : VERSIONS) {
+        assertSameOrder(versionA, versionB);
+      }
+    }
+  }
+
+  @Test
+  public void compareMatchesCompareToRandom() {
+    Random random = new Random(42L);
+    for (int i = 0; i < 20000; i++) {
+      assertSameOrder(randomVersion(random), randomVersion(random));
+    }
+  }
+
+  @Test
+  public void stringOrderSortsLikeVersions() {
+    List<String> expected = Arrays.asList("1.0-SNAPSHOT", "1.0-alpha", "1.0-beta2", "1.0-rc1", "1.0", "1.0.1", "1.2",
+      "1.10", "2.0-rc3", "2");
+    List<String> actual = new ArrayList<>(expected);
+    Collections.shuffle(actual, new Random(1));
+    actual.sort(Version.STRING_ORDER);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void compareAcceptsCharSequences() {
+    assertEquals(0, Version.compare(new StringBuilder("1.2.0-rc1"), "1.2-RC1"));
+    assertEquals(1, Version.compare(new CharSequenceSlice("x1.3-beta".toCharArray(), 1, 8), "1.3-alpha"));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void compareIsNumberOverflow() {
+    Version.compare("1.99999999999999999999", "1.0");
+  }
+
+  private static String randomVersion(Random random) {
+    StringBuilder sb = new StringBuilder();
+    int length = random.nextInt(16);
+    for (int i = 0; i < length; i++) {
+      sb.append("0123456789...-  abcelprABCELPR_".charAt(random.nextInt(31)));
+    }
+    if (random.nextInt(4) == 0) sb.append("-rc").append(random.nextInt(10));
+    return sb.toString();
+  }
+
+  private static void assertSameOrder(String versionA, String versionB) {
+    assertEquals(versionA + " vs " + versionB,
+      new Version(versionA).compareTo(new Version(versionB)),
+      Version.compare(versionA, versionB));
+  }
+}
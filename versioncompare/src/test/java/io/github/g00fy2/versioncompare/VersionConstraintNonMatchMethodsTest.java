@@ -0,0 +1,100 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class VersionConstraintNonMatchMethodsTest {
+
+  @Test
+  public void compileIgnoreSuffixIsCorrect() {
+    assertFalse(VersionConstraint.compile(">=2.0").matches("2.0-beta"));
+    assertTrue(VersionConstraint.compile(">=2.0", true).matches("2.0-beta"));
+  }
+
+  @Test
+  public void builderIsCorrect() {
+    VersionConstraint constraint = VersionConstraint.builder()
+      .atLeast(new Version("1.2"), true)
+      .lowerThan(new Version("2.0"), false)
+      .or()
+      .equalTo(new Version("3.0"), false)
+      .build();
+
+    assertTrue(constraint.matches("1.2-rc1"));
+    assertTrue(constraint.matches("2.0-rc1"));
+    assertFalse(constraint.matches("2.0"));
+    assertTrue(constraint.matches("3.0.0"));
+    assertEquals(">=1.2 <2.0 || =3.0", constraint.toString());
+  }
+
+  @Test
+  public void toStringIsExpression() {
+    assertEquals("~1.4 || [2.0,3.0)", VersionConstraint.compile("~1.4 || [2.0,3.0)").toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileIsOperatorIllegal() {
+    VersionConstraint.compile("!=1.0");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileIsVersionIllegal() {
+    VersionConstraint.compile(">=x1.0");
+  }
+
+  @Test
+  public void compileIsVersionIllegalMessage() {
+    try {
+      VersionConstraint.compile(">=1.0 || <*");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("Constraint contains an invalid version *: >=1.0 || <*", e.getMessage());
+    }
+  }
+
+  @Test
+  public void compileIsWildcardIllegal() {
+    for (String expression : new String[]{"1.x", "1.*", ">=1.X", "~1.2.x", "[1.*,2.0)"}) {
+      try {
+        VersionConstraint.compile(expression);
+        fail(expression);
+      } catch (IllegalArgumentException e) {
+        assertTrue(e.getMessage(), e.getMessage().startsWith("Constraint contains an invalid version "));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileIsRangeInverted() {
+    VersionConstraint.compile("[2.0,1.0]");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileIsRangeEmpty() {
+    VersionConstraint.compile("[1.0,1.0)");
+  }
+
+  @Test
+  public void compileIsRangeSingleVersion() {
+    assertTrue(VersionConstraint.compile("[1.0,1.0]").matches("1.0"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileIsAlternativeEmpty() {
+    VersionConstraint.compile(">=1.0 ||");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void compileIsRangeUnclosed() {
+    VersionConstraint.compile("[1.0,2.0");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void buildIsEmpty() {
+    VersionConstraint.builder().build();
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class VersionConstraintTest {
+
+  @Parameters
+  public static Collection<Object[]> data() {
+    return Arrays.asList(new Object[][]{
+      {">=1.2 <2.0", "1.2", true},
+      {">=1.2 <2.0", "1.9.9", true},
+      {">=1.2 <2.0", "2.0", false},
+      {">=1.2 <2.0", "1.2-rc1", false},
+      {">= 1.2, < 2.0", "1.5", true},
+      {">1.2", "1.2.0", false},
+      {"<=1.2", "1.2.0", true},
+      {"1.2", "1.2.0.0", true},
+      {"==1.2-beta2", "1.2.0-beta2", true},
+      {"~1.4", "1.4.7", true},
+      {"~1.4", "1.5", false},
+      {"~1.4", "1.5-rc1", false},
+      {"~1.4.2", "1.4.1", false},
+      {"~1", "1.9", true},
+      {"~1", "2.0", false},
+      {"~ 1.4", "1.4.7", true},
+      {"~ 1.4", "1.5", false},
+      {"^2", "2.99.1", true},
+      {"^ 2", "2.99.1", true},
+      {"^ 2", "3.0", false},
+      {"^2", "3.0-alpha", false},
+      {"^0.2.3", "0.2.9", true},
+      {"^0.2.3", "0.3.0", false},
+      {"^0.0.3", "0.0.4", false},
+      {"[1.0,2.0)", "1.0", true},
+      {"[1.0,2.0)", "2.0", false},
+      {"(1.0,2.0]", "1.0", false},
+      {"(1.0,2.0]", "2.0", true},
+      {"(,1.0]", "0.1", true},
+      {"[1.5,)", "100", true},
+      {"[1.0]", "1.0.0", true},
+      {"[1.0]", "1.0.1", false},
+      {"[1.0,2.0),[3.0,)", "2.5", false},
+      {"[1.0,2.0),[3.0,)", "3.1", true},
+      {"<1.0 || >=2.0", "1.5", false},
+      {"<1.0 || >=2.0", "2.5", true},
+      {"^1.2 || [3.0]", "3.0", true},
+    });
+  }
+
+  private final String expression;
+  private final String version;
+  private final boolean matches;
+
+  public VersionConstraintTest(String expression, String version, boolean matches) {
+    this.expression = expression;
+    this.version = version;
+    this.matches = matches;
+  }
+
+  @Test
+  public void matchesIsCorrect() {
+    assertEquals(expression + " matching " + version, matches, VersionConstraint.compile(expression).matches(version));
+  }
+}
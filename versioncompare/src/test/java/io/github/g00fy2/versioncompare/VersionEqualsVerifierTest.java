@@ -8,8 +8,11 @@ public class VersionEqualsVerifierTest {
   @Test
   public void equalsContract() {
     EqualsVerifier.forClass(Version.class)
-      .withIgnoredFields("originalString", "subversionNumbers", "suffix")
-      .withNonnullFields("trimmedSubversionNumbers", "releaseType", "preReleaseVersion")
+      .withIgnoredFields("originalText", "originalString", "subversionNumbersSize", "suffix",
+        "qualifierScheme")
+      .withNonnullFields("trimmedSubversionNumbers")
+      .withPrefabValues(VersionCache.class, new VersionCache(1), new VersionCache(2))
+      .withCachedHashCode("hashCode", "calculateHashCode", new Version("1.2.3-rc1"))
       .verify();
   }
-}
\ No newline at end of file
+}
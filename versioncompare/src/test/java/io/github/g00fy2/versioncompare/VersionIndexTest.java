@@ -0,0 +1,104 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class VersionIndexTest {
+
+  private final VersionIndex index = new VersionIndex(Arrays.asList(
+    new Version("2.0-rc1"), new Version("1.0"), new Version("1.5.2"), new Version("2.0"),
+    new Version("2.1-beta"), new Version("1.5"), new Version("2.2-SNAPSHOT"), new Version("1.0.0")
+  ));
+
+  @Test
+  public void getIsSorted() {
+    List<String> versions = new ArrayList<>();
+    for (int i = 0; i < index.size(); i++) {
+      versions.add(index.get(i).getOriginalString());
+    }
+    assertEquals(Arrays.asList("1.0", "1.0.0", "1.5", "1.5.2", "2.0-rc1", "2.0", "2.1-beta", "2.2-SNAPSHOT"), versions);
+  }
+
+  @Test
+  public void floorAndLowerAreCorrect() {
+    assertEquals("1.5.2", index.floor(new Version("1.9")).getOriginalString());
+    assertEquals("2.0", index.floor(new Version("2.0.0")).getOriginalString());
+    assertEquals("2.0-rc1", index.lower(new Version("2.0")).getOriginalString());
+    assertEquals("1.0.0", index.lower(new Version("1.5")).getOriginalString());
+    assertNull(index.floor(new Version("0.9")));
+    assertNull(index.lower(new Version("1")));
+  }
+
+  @Test
+  public void ceilingAndHigherAreCorrect() {
+    assertEquals("2.0-rc1", index.ceiling(new Version("1.6")).getOriginalString());
+    assertEquals("1.0", index.ceiling(new Version("1")).getOriginalString());
+    assertEquals("1.5", index.higher(new Version("1")).getOriginalString());
+    assertNull(index.ceiling(new Version("3")));
+    assertNull(index.higher(new Version("2.2-SNAPSHOT")));
+  }
+
+  @Test
+  public void latestIsCorrect() {
+    assertEquals("2.2-SNAPSHOT", index.latest().getOriginalString());
+    assertEquals("2.2-SNAPSHOT", index.latest(ReleaseType.SNAPSHOT).getOriginalString());
+    assertEquals("2.1-beta", index.latest(ReleaseType.ALPHA).getOriginalString());
+    assertEquals("2.1-beta", index.latest(ReleaseType.BETA).getOriginalString());
+    assertEquals("2.0", index.latest(ReleaseType.RC).getOriginalString());
+    assertEquals("2.0", index.latest(ReleaseType.STABLE).getOriginalString());
+  }
+
+  @Test
+  public void countIsCorrect() {
+    assertEquals(4, index.count(new Version("1.0"), true, new Version("1.5.2"), true));
+    assertEquals(2, index.count(new Version("1.0"), false, new Version("1.5.2"), true));
+    assertEquals(1, index.count(new Version("1.0"), false, new Version("1.5.2"), false));
+    assertEquals(0, index.count(new Version("2.0"), true, new Version("1.0"), true));
+  }
+
+  @Test
+  public void emptyIndex() {
+    VersionIndex emptyIndex = new VersionIndex(Collections.<Version>emptyList());
+    assertEquals(0, emptyIndex.size());
+    assertNull(emptyIndex.latest());
+    assertNull(emptyIndex.latest(ReleaseType.STABLE));
+    assertNull(emptyIndex.floor(new Version("1.0")));
+  }
+
+  @Test
+  public void queriesMatchLinearScan() {
+    Random random = new Random(42L);
+    String[] qualifiers = {"", "", "-rc1", "-beta", "-alpha2", "-SNAPSHOT"};
+    List<Version> versions = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      versions.add(randomVersion(random, qualifiers));
+    }
+    VersionIndex randomIndex = new VersionIndex(versions);
+
+    for (int i = 0; i < 500; i++) {
+      Version key = randomVersion(random, qualifiers);
+      Version floor = null;
+      Version ceiling = null;
+      for (Version version : versions) {
+        if (version.compareTo(key) <= 0 && (floor == null || version.compareTo(floor) > 0)) floor = version;
+        if (version.compareTo(key) >= 0 && (ceiling == null || version.compareTo(ceiling) < 0)) ceiling = version;
+      }
+      assertEquals(floor, randomIndex.floor(key));
+      assertEquals(ceiling, randomIndex.ceiling(key));
+    }
+    assertSame(randomIndex.get(randomIndex.size() - 1), randomIndex.latest());
+  }
+
+  private static Version randomVersion(Random random, String[] qualifiers) {
+    return new Version(random.nextInt(4) + "." + random.nextInt(10) + "." + random.nextInt(3) +
+      qualifiers[random.nextInt(qualifiers.length)]);
+  }
+}
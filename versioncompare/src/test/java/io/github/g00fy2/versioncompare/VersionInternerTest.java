@@ -0,0 +1,106 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VersionInternerTest {
+
+  @Test
+  public void internReturnsCanonicalVersion() {
+    VersionInterner interner = new VersionInterner();
+    Version version = interner.intern(new Version("1.2.3-rc1"));
+    assertSame(version, interner.intern(new Version("1.2.3-rc1")));
+    assertSame(version, interner.intern("1.2.3-rc1"));
+    assertSame(version, interner.intern(Version.lazy("1.2.3-rc1")));
+    assertSame(version, interner.intern(Version.parse("[1.2.3-rc1]", 1, 10)));
+
+    assertEquals(1, interner.size());
+    assertEquals(1, interner.getMissCount());
+    assertEquals(4, interner.getHitCount());
+    assertTrue(interner.getEstimatedBytesSaved() > 4 * 48);
+  }
+
+  @Test
+  public void internKeepsValues() {
+    VersionInterner interner = new VersionInterner();
+    for (String versionString : new String[]{"1.2.3-rc1", "1.2.3-RC1", "1.2.3.0-rc1", "1.2-beta", "", null,
+      " 1 . 2 - rc 3", "x1.2", "1.0.38384848844443838484884444"}) {
+      Version version = new Version(versionString);
+      Version canonical = interner.intern(version);
+      assertEquals(versionString, canonical.getOriginalString());
+      assertEquals(version, canonical);
+      assertEquals(version.getSubversionNumbers(), canonical.getSubversionNumbers());
+      assertEquals(version.getSuffix(), canonical.getSuffix());
+      assertEquals(version.getQualifierRank(), canonical.getQualifierRank());
+      assertEquals(version.getPreReleaseVersion(), canonical.getPreReleaseVersion());
+    }
+    // equal versions with different original strings stay distinct
+    assertNotSame(interner.intern("1.2.3-rc1"), interner.intern("1.2.3-RC1"));
+    assertNotSame(interner.intern("1.2.3-rc1"), interner.intern("1.2.3.0-rc1"));
+    assertNull(interner.intern((String) null).getOriginalString());
+  }
+
+  @Test
+  public void internSharesComponents() {
+    VersionInterner interner = new VersionInterner();
+    Version version = interner.intern("1.2.3-rc1");
+    Version otherVersion = interner.intern(new Version(new String("1.2.3.0-rc1")));
+    assertSame(version.trimmedSubversionNumbers(), otherVersion.trimmedSubversionNumbers());
+    assertSame(version.getSuffix(), otherVersion.getSuffix());
+    assertEquals(2, interner.size());
+  }
+
+  @Test
+  public void internIsWeak() throws InterruptedException {
+    VersionInterner interner = new VersionInterner();
+    Version retained = interner.intern("0.1");
+    for (int i = 0; i < 10000; i++) {
+      interner.intern("1." + i + "-rc" + i);
+    }
+    for (int attempt = 0; attempt < 50 && interner.size() > 1; attempt++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(1, interner.size());
+    assertSame(retained, interner.intern("0.1"));
+  }
+
+  @Test
+  public void internIsThreadSafe() throws Exception {
+    VersionInterner interner = new VersionInterner();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Version[]>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        futures.add(executor.submit(() -> {
+          Version[] versions = new Version[1000];
+          for (int i = 0; i < versions.length; i++) {
+            versions[i] = interner.intern("2." + i + ".1-beta");
+          }
+          return versions;
+        }));
+      }
+      Version[] expected = futures.get(0).get();
+      for (Future<Version[]> future : futures) {
+        Version[] versions = future.get();
+        for (int i = 0; i < versions.length; i++) {
+          assertSame(expected[i], versions[i]);
+        }
+      }
+      assertEquals(1000, interner.size());
+      assertEquals(4000, interner.getHitCount() + interner.getMissCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
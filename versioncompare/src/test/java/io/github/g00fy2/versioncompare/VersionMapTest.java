@@ -0,0 +1,207 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VersionMapTest {
+
+  @Test
+  public void logicallyEqualKeysAreSame() {
+    VersionMap<String> map = new VersionMap<>();
+    Version key = new Version("1.0");
+    assertNull(map.put(key, "a"));
+    assertEquals("a", map.put(new Version("1.0.0"), "b"));
+    assertEquals("b", map.get(Version.lazy("1")));
+    assertEquals(1, map.size());
+    assertSame(key, map.keySet().iterator().next());
+
+    assertNull(map.get(new Version("1.0-rc1")));
+    assertNull(map.get("1.0"));
+    assertFalse(map.containsKey(null));
+  }
+
+  @Test
+  public void randomOperationsMatchHashMap() {
+    Random random = new Random(42);
+    VersionMap<Integer> map = new VersionMap<>();
+    Map<Version, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 100000; i++) {
+      Version version = randomVersion(random);
+      switch (random.nextInt(5)) {
+        case 0:
+        case 1:
+          assertEquals(expected.put(version, i), map.put(version, i));
+          break;
+        case 2:
+          assertEquals(expected.remove(version), map.remove(version));
+          break;
+        case 3:
+          final int value = i;
+          assertEquals(expected.computeIfAbsent(version, v -> value), map.computeIfAbsent(version, v -> value));
+          break;
+        default:
+          assertEquals(expected.get(version), map.get(version));
+          assertEquals(expected.containsKey(version), map.containsKey(version));
+          break;
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected.entrySet(), map.entrySet());
+    assertEquals(map.entrySet(), expected.entrySet());
+
+    Map<Version, Integer> iterated = new HashMap<>();
+    map.forEach(iterated::put);
+    assertEquals(expected, iterated);
+    assertEquals(new HashSet<>(expected.keySet()), new HashSet<>(map.keySet()));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(randomVersion(random)));
+  }
+
+  @Test
+  public void entrySetValueIsWrittenThrough() {
+    VersionMap<Integer> map = new VersionMap<>(1);
+    List<Version> versions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      versions.add(new Version("1." + i));
+      map.put(versions.get(i), i);
+    }
+    for (Map.Entry<Version, Integer> entry : map.entrySet()) {
+      Map.Entry<Version, Integer> simpleEntry = new AbstractMap.SimpleEntry<>(entry);
+      assertEquals(simpleEntry, entry);
+      assertEquals(simpleEntry.hashCode(), entry.hashCode());
+      assertEquals(simpleEntry.toString(), entry.toString());
+      assertEquals(simpleEntry.getValue(), entry.setValue(entry.getValue() * 2));
+      assertEquals(Integer.valueOf(simpleEntry.getValue() * 2), entry.getValue());
+    }
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Integer.valueOf(i * 2), map.get(versions.get(i)));
+    }
+  }
+
+  @Test
+  public void iteratorRemoveMatchesHashMap() {
+    Random random = new Random(3);
+    for (int round = 0; round < 200; round++) {
+      VersionMap<Integer> map = new VersionMap<>();
+      Map<Version, Integer> expected = new HashMap<>();
+      for (int i = random.nextInt(200); i >= 0; i--) {
+        Version version = randomVersion(random);
+        map.put(version, i);
+        expected.put(version, i);
+      }
+      // every key is returned exactly once, even if removals shift keys of wrapped probe sequences
+      Map<Version, Integer> original = new HashMap<>(expected);
+      Map<Version, Integer> returned = new HashMap<>();
+      Iterator<Map.Entry<Version, Integer>> iterator = map.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<Version, Integer> entry = iterator.next();
+        assertNull(returned.put(entry.getKey(), entry.getValue()));
+        if (random.nextBoolean()) {
+          iterator.remove();
+          expected.remove(entry.getKey());
+        }
+      }
+      assertEquals(original, returned);
+      assertEquals(expected, map);
+    }
+  }
+
+  @Test
+  public void bulkRemovalsAreSupported() {
+    VersionMap<Integer> map = new VersionMap<>();
+    VersionSet set = new VersionSet();
+    List<Version> versions = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Version version = new Version("1." + i);
+      versions.add(version);
+      map.put(version, i);
+      set.add(version);
+    }
+    List<Version> even = new ArrayList<>();
+    for (int i = 0; i < 1000; i += 2) {
+      even.add(new Version("1." + i + ".0"));
+    }
+
+    assertTrue(set.retainAll(even));
+    assertEquals(new HashSet<>(even), set);
+    assertTrue(set.removeIf(version -> version.getMinor() % 4 == 0));
+    assertEquals(250, set.size());
+
+    assertTrue(map.values().removeIf(value -> value % 2 == 1));
+    assertEquals(500, map.size());
+    assertTrue(map.keySet().retainAll(versions.subList(0, 100)));
+    assertEquals(50, map.size());
+    assertTrue(map.entrySet().removeIf(entry -> entry.getValue() >= 10));
+    assertEquals(5, map.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(i % 2 == 0 ? Integer.valueOf(i) : null, map.get(versions.get(i)));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void iteratorRemoveTwiceIsStateIllegal() {
+    VersionMap<Integer> map = new VersionMap<>();
+    map.put(new Version("1.0"), 1);
+    map.put(new Version("2.0"), 2);
+    Iterator<Version> iterator = map.keySet().iterator();
+    iterator.next();
+    iterator.remove();
+    iterator.remove();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void expectedSizeIsArgumentIllegal() {
+    new VersionMap<>(-1);
+  }
+
+  @Test
+  public void versionSetIsCorrect() {
+    VersionSet set = new VersionSet();
+    assertTrue(set.add(new Version("2.0")));
+    assertFalse(set.add(new Version("2.0.0.0")));
+    assertTrue(set.add(new Version("2.0-beta")));
+    assertTrue(set.contains(Version.lazy("2")));
+    assertFalse(set.contains("2.0"));
+    assertEquals(2, set.size());
+    assertTrue(set.remove(new Version("2.0-BETA")));
+    assertFalse(set.remove(new Version("2.0-beta")));
+    assertEquals(1, set.size());
+
+    Random random = new Random(7);
+    List<Version> versions = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      versions.add(randomVersion(random));
+    }
+    assertEquals(new HashSet<>(versions), new VersionSet(versions));
+  }
+
+  private static Version randomVersion(Random random) {
+    StringBuilder sb = new StringBuilder().append(random.nextInt(4));
+    int parts = random.nextInt(4);
+    for (int i = 0; i < parts; i++) {
+      sb.append('.').append(random.nextInt(3));
+    }
+    if (random.nextBoolean()) {
+      sb.append(new String[]{"-rc", "-beta", "-SNAPSHOT", ".Final"}[random.nextInt(4)]).append(random.nextInt(3));
+    }
+    return random.nextBoolean() ? new Version(sb.toString()) : Version.lazy(sb.toString());
+  }
+}
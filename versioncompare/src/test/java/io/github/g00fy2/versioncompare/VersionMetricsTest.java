@@ -0,0 +1,85 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VersionMetricsTest {
+
+  private final VersionCounters counters = new VersionCounters();
+
+  @Before
+  public void setUp() {
+    Version.setMetrics(counters);
+  }
+
+  @After
+  public void tearDown() {
+    Version.setMetrics(null);
+  }
+
+  @Test
+  public void parsesAreCounted() {
+    new Version("1.2.3");
+    new Version("x1.2");
+    new Version(null);
+    Version lazy = Version.lazy("4.5");
+    assertEquals(3, counters.getParseCount());
+    assertEquals(2, counters.getInvalidVersionCount());
+
+    lazy.getMajor();
+    assertEquals(4, counters.getParseCount());
+    assertTrue(counters.getParseNanos() >= 0);
+  }
+
+  @Test
+  public void invalidVersionIsCountedBeforeException() {
+    try {
+      new Version("x", true);
+    } catch (IllegalArgumentException e) {
+      assertEquals(1, counters.getInvalidVersionCount());
+      assertEquals(0, counters.getParseCount());
+      return;
+    }
+    throw new AssertionError("Expected exception");
+  }
+
+  @Test
+  public void comparesAreCounted() {
+    Version version = new Version("1.2.3");
+    version.compareTo(new Version("1.2"));
+    version.isAtLeast(new Version("1.2"), true);
+    Version.compare("1.0", "2.0");
+    assertEquals(3, counters.getCompareCount());
+  }
+
+  @Test
+  public void cacheAccessesAreCounted() {
+    VersionCache cache = new VersionCache(10);
+    cache.get("1.0");
+    cache.get("1.0");
+    cache.get("2.0");
+    assertEquals(1, counters.getCacheHitCount());
+    assertEquals(2, counters.getCacheMissCount());
+    assertEquals(2, counters.getParseCount());
+
+    counters.reset();
+    assertEquals(0, counters.getCacheHitCount());
+    assertEquals(0, counters.getParseCount());
+  }
+
+  @Test
+  public void disabledMetricsAreNotInformed() {
+    assertSame(counters, Version.getMetrics());
+    Version.setMetrics(null);
+    assertNull(Version.getMetrics());
+    new Version("1.0").compareTo(new Version("2.0"));
+    assertEquals(0, counters.getParseCount());
+    assertEquals(0, counters.getCompareCount());
+  }
+}
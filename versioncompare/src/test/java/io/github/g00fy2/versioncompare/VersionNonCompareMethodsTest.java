@@ -47,12 +47,22 @@ public class VersionNonCompareMethodsTest {
     assertEquals(new ArrayList<>(Arrays.asList(144L, 22L, 3L, 44L)),
       new Version("144.22.3.44.alpha").getSubversionNumbers());
     assertEquals(new ArrayList<>(Arrays.asList(1L, 2L, 0L, 0L)), new Version("1.2.0.0").getSubversionNumbers());
+    assertEquals(new ArrayList<>(Arrays.asList(1L, 2L, 3L)), new Version(" 1 .2..3 ").getSubversionNumbers());
+    assertEquals(new ArrayList<>(Arrays.asList(0L, 1L)),
+      new Version("0000000000000000000001.1").getSubversionNumbers());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void getSubversionNumbersIsUnmodifiable() {
+    new Version("1.2.3").getSubversionNumbers().add(4L);
   }
 
   @Test
   public void getSuffixIsCorrect() {
     assertEquals("", new Version("1.65.5").getSuffix());
     assertEquals("-beta.23-4", new Version("1.65.5-beta.23-4").getSuffix());
+    assertEquals("-beta3", new Version("1.65.5 -beta 3.").getSuffix());
+    assertEquals("rc..1", new Version("1.65.rc..1..").getSuffix());
   }
 
   @Test
@@ -61,4 +71,28 @@ public class VersionNonCompareMethodsTest {
     assertEquals("1.65.5-beta.23-4", new Version("1.65.5-beta.23-4").getOriginalString());
     assertNull(new Version(null).getOriginalString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void getReleaseTypeIsCorrect() {
+    assertEquals(ReleaseType.STABLE, new Version("1.2.3").getReleaseType());
+    assertEquals(ReleaseType.STABLE, new Version("1.2.3.Final").getReleaseType());
+    assertEquals(ReleaseType.SNAPSHOT, new Version("1.2.3-SnapShot").getReleaseType());
+    assertEquals(ReleaseType.PRE_ALPHA, new Version("1.2.3-PRE.ALPHA").getReleaseType());
+    assertEquals(ReleaseType.ALPHA, new Version("1.2.3-alpha-pre").getReleaseType());
+    assertEquals(ReleaseType.BETA, new Version("1.2.3-alpha.Beta").getReleaseType());
+    assertEquals(ReleaseType.RC, new Version("1.2.3-beta-rC").getReleaseType());
+    assertEquals(ReleaseType.RC, new Version("1.2.3-SNAPSHOT-rc").getReleaseType());
+  }
+
+  @Test
+  public void getPreReleaseVersionIsCorrect() {
+    assertEquals(0L, new Version("1.2.3").getPreReleaseVersion());
+    assertEquals(0L, new Version("1.2.3-SNAPSHOT2").getPreReleaseVersion());
+    assertEquals(2L, new Version("1.2.3-RC2").getPreReleaseVersion());
+    assertEquals(0L, new Version("1.2.3-beta.3-rc").getPreReleaseVersion());
+    assertEquals(4L, new Version("1.2.3-ALPHA-4.5").getPreReleaseVersion());
+    assertEquals(0L, new Version("1.2.3-alpha--4").getPreReleaseVersion());
+    assertEquals(12L, new Version("1.2.3-rc12rc3").getPreReleaseVersion());
+    assertEquals(1234567890123456789L, new Version("1.0-rc12345678901234567890").getPreReleaseVersion());
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class VersionParseSliceTest {
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(new Object[][]{
+      {"1.2.3"}, {"1.0.2-rc2"}, {" 2.0 . 1 beta 3 "}, {"1.0.0.0"}, {"2.1..3-alpha.1"}, {"x1.2"}, {""}, {"   "},
+      {"12345678901234567890123.1"}
+    });
+  }
+
+  @Parameterized.Parameter
+  public String versionString;
+
+  @Test
+  public void parseCharSequenceIsCorrect() {
+    String text = "{\"version\":\"" + versionString + "\"}";
+    int start = 12;
+    assertVersion(Version.parse(text, start, start + versionString.length()));
+    assertVersion(Version.parse(new StringBuilder(text), start, start + versionString.length()));
+    assertVersion(Version.parse(versionString, 0, versionString.length()));
+  }
+
+  @Test
+  public void parseCharArrayIsCorrect() {
+    char[] chars = ("version: " + versionString + "\n").toCharArray();
+    assertVersion(Version.parse(chars, 9, versionString.length()));
+  }
+
+  @Test
+  public void parseAsciiIsCorrect() {
+    byte[] bytes = ("User-Agent: app/" + versionString + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    assertVersion(Version.parseAscii(bytes, 16, versionString.length()));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void parseRangeIsIllegal() {
+    Version.parse("1.2.3", 2, 6);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void parseAsciiRangeIsIllegal() {
+    Version.parseAscii(new byte[4], -1, 2);
+  }
+
+  private void assertVersion(Version version) {
+    Version expected = new Version(versionString);
+    assertEquals(expected, version);
+    assertEquals(expected.getSubversionNumbers(), version.getSubversionNumbers());
+    assertEquals(expected.getSuffix(), version.getSuffix());
+    assertEquals(versionString, version.getOriginalString());
+    assertEquals(versionString, version.toString());
+  }
+}
@@ -0,0 +1,128 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class VersionReaderTest {
+
+  private static final String TEXT = "1.2.3\n1.0.2-rc2\r\n\n  \nx1.2\n2.0-beta.3 ";
+  private static final List<String> LINES = Arrays.asList("1.2.3", "1.0.2-rc2", "  ", "x1.2", "2.0-beta.3 ");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void readFromBufferIsCorrect() {
+    ByteBuffer buffer = ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.US_ASCII));
+    assertVersions(LINES, new VersionReader(buffer));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  public void readFromDirectBufferIsCorrect() {
+    byte[] bytes = TEXT.getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 4);
+    buffer.put(new byte[]{'9', '.', '9', '\n'});
+    buffer.put(bytes);
+    buffer.position(4);
+    assertVersions(LINES, new VersionReader(buffer));
+  }
+
+  @Test
+  public void readFromStreamIsCorrect() {
+    assertVersions(LINES, new VersionReader(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.US_ASCII))));
+  }
+
+  @Test
+  public void readFromSlowStreamAcrossChunks() {
+    List<String> lines = new ArrayList<>();
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 50000; i++) {
+      String line = i + "." + (i % 7) + (i % 3 == 0 ? "-rc" + i : "");
+      lines.add(line);
+      text.append(line).append('\n');
+    }
+    // a single line exceeding the chunk size
+    StringBuilder longLine = new StringBuilder("1");
+    for (int i = 0; i < 100000; i++) {
+      longLine.append(".1");
+    }
+    lines.add(longLine.toString());
+    text.append(longLine);
+
+    final byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+    for (boolean copyLines : new boolean[]{false, true}) {
+      InputStream slowStream = new ByteArrayInputStream(bytes) {
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+          return super.read(b, off, Math.min(len, 1000));
+        }
+      };
+      assertVersions(lines, new VersionReader(slowStream, copyLines));
+    }
+  }
+
+  @Test
+  public void copiedLinesAreIndependentOfBuffer() {
+    byte[] bytes = TEXT.getBytes(StandardCharsets.US_ASCII);
+    List<Version> versions = new ArrayList<>();
+    new VersionReader(ByteBuffer.wrap(bytes), true).forEachRemaining(versions::add);
+    Arrays.fill(bytes, (byte) '9');
+    for (int i = 0; i < LINES.size(); i++) {
+      assertEquals(LINES.get(i), versions.get(i).getOriginalString());
+    }
+  }
+
+  @Test
+  public void openFileIsCorrect() throws IOException {
+    File file = temporaryFolder.newFile("versions.txt");
+    try (OutputStream outputStream = new FileOutputStream(file)) {
+      outputStream.write(TEXT.getBytes(StandardCharsets.US_ASCII));
+    }
+    try (VersionReader reader = VersionReader.open(file)) {
+      assertVersions(LINES, reader);
+    }
+    try (VersionReader reader = VersionReader.open(file, true)) {
+      assertVersions(LINES, reader);
+    }
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void nextIsEmpty() {
+    VersionReader reader = new VersionReader(ByteBuffer.allocate(0));
+    assertFalse(reader.hasNext());
+    reader.next();
+  }
+
+  private static void assertVersions(List<String> expected, Iterator<Version> reader) {
+    List<Version> versions = new ArrayList<>();
+    reader.forEachRemaining(versions::add);
+
+    assertEquals(expected.size(), versions.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Version expectedVersion = new Version(expected.get(i));
+      Version version = versions.get(i);
+      assertEquals(expectedVersion, version);
+      assertEquals(expectedVersion.getSubversionNumbers(), version.getSubversionNumbers());
+      assertEquals(expectedVersion.getSuffix(), version.getSuffix());
+      assertEquals(expected.get(i), version.getOriginalString());
+    }
+  }
+}
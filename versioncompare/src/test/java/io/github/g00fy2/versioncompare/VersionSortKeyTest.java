@@ -0,0 +1,86 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class VersionSortKeyTest {
+
+  private static final String[] VERSIONS = {
+    "0", "0.0.1", "0.1", "1", "1.0.0.0.1", "1.0.1", "1.2", "1.2.0-rc1", "1.2-rc2", "1.2-beta", "1.2-alpha3",
+    "1.2-pre-alpha", "1.2-pre-alpha4", "1.2-snapshot", "1.2-SNAPSHOT", "1.2.255", "1.2.256", "1.2.65535",
+    "12.4.5-rc12", "12.4.5-rc11asd", "1.0.3838484884444", "1.0.38384848844443838484884444", "9223372036854775807",
+    "9223372036854775807.1", "2.1-alpha", "jgfa9-beta", "x1.2", "", null
+  };
+
+  @Test
+  public void sortKeyOrderMatchesCompareTo() {
+    for (String versionA : VERSIONS) {
+      for (String versionB : VERSIONS) {
+        assertSameOrder(new Version(versionA), new Version(versionB));
+      }
+    }
+  }
+
+  @Test
+  public void sortKeyOrderMatchesCompareToRandom() {
+    Random random = new Random(42L);
+    String[] qualifiers = {"", "", "-rc", "-beta", "-alpha", "-pre-alpha", "-snapshot", "-xyz"};
+    for (int i = 0; i < 10000; i++) {
+      assertSameOrder(randomVersion(random, qualifiers), randomVersion(random, qualifiers));
+    }
+  }
+
+  @Test
+  public void fromSortKeyIsEqual() {
+    for (String versionString : VERSIONS) {
+      Version version = new Version(versionString);
+      Version decoded = Version.fromSortKey(version.toSortKey());
+      assertEquals(version, decoded);
+      assertArrayEquals(version.toSortKey(), decoded.toSortKey());
+    }
+    assertEquals("1.2-rc3", Version.fromSortKey(new Version("1.2.0.0-RC3.x").toSortKey()).getOriginalString());
+  }
+
+  @Test
+  public void writeSortKeyIsReadable() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    Version versionA = new Version("1.2.3-beta2");
+    Version versionB = new Version("4.5");
+    versionA.writeSortKey(buffer);
+    versionB.writeSortKey(buffer);
+    assertEquals(versionA.getSortKeyLength() + versionB.getSortKeyLength(), buffer.position());
+
+    buffer.flip();
+    assertEquals(versionA, Version.readSortKey(buffer));
+    assertEquals(versionB, Version.readSortKey(buffer));
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromSortKeyIsArgumentIllegal() {
+    // qualifier rank 42 is unknown to the default scheme
+    Version.fromSortKey(new byte[]{0, (byte) 0x80, 0, 0, 42, 1});
+  }
+
+  private static Version randomVersion(Random random, String[] qualifiers) {
+    StringBuilder sb = new StringBuilder();
+    int parts = 1 + random.nextInt(4);
+    for (int i = 0; i < parts; i++) {
+      if (i > 0) sb.append('.');
+      sb.append(random.nextInt(4) == 0 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(3));
+    }
+    sb.append(qualifiers[random.nextInt(qualifiers.length)]);
+    if (random.nextBoolean()) sb.append(random.nextInt(300));
+    return new Version(sb.toString());
+  }
+
+  private static void assertSameOrder(Version versionA, Version versionB) {
+    assertEquals(versionA + " vs " + versionB,
+      Integer.signum(versionA.compareTo(versionB)),
+      Integer.signum(Version.compareSortKeys(versionA.toSortKey(), versionB.toSortKey())));
+  }
+}
@@ -0,0 +1,182 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class VersionTrieTest {
+
+  @Test
+  public void prefixQueriesAreCorrect() {
+    VersionTrie trie = trieOf("2", "2.0.1", "2.0-rc1", "2.1", "2.3.0", "2.3.1-beta", "2.3.1", "2.3.10", "2.3.2",
+      "3.0-alpha", "10.0");
+    assertEquals(11, trie.size());
+    assertEquals(versionsOf("2.3.0", "2.3.1-beta", "2.3.1", "2.3.2", "2.3.10"), originalStrings(trie.withPrefix(2, 3)));
+    assertEquals(versionsOf("2.0-rc1", "2", "2.0.1"), originalStrings(trie.withPrefix(2, 0)));
+    assertEquals(versionsOf("2.0-rc1", "2"), originalStrings(trie.withPrefix(2, 0, 0)));
+    assertEquals(versionsOf("3.0-alpha"), originalStrings(trie.withPrefix(3)));
+    assertEquals(Collections.emptyList(), trie.withPrefix(4));
+    assertEquals(11, trie.withPrefix().size());
+
+    assertEquals(9, trie.count(2));
+    assertEquals(3, trie.count(2, 0));
+    assertEquals(2, trie.count(2, 0, 0, 0));
+    assertEquals(0, trie.count(2, 2));
+
+    assertEquals("2.3.10", trie.latest(2, 3).getOriginalString());
+    assertEquals("2.0.1", trie.latest(2, 0).getOriginalString());
+    assertEquals("2", trie.latest(2, 0, 0).getOriginalString());
+    assertEquals("10.0", trie.latest().getOriginalString());
+    assertNull(trie.latest(ReleaseType.STABLE, 3));
+    assertEquals("3.0-alpha", trie.latest(ReleaseType.ALPHA, 3).getOriginalString());
+    assertNull(trie.latest(5));
+  }
+
+  @Test
+  public void latestPerLineIsCorrect() {
+    VersionTrie trie = trieOf("2", "2.0.1", "2.0-rc1", "2.1", "2.3.0", "2.3.1-beta", "2.3.1", "2.3.10", "2.3.2",
+      "3.0-alpha", "3.1-rc1", "10.0");
+    assertEquals(versionsOf("2.0.1", "2.1", "2.3.10"), originalStrings(trie.latestPerLine(2, 2)));
+    assertEquals(versionsOf("2.3.10", "3.1-rc1", "10.0"), originalStrings(trie.latestPerLine(1)));
+    assertEquals(versionsOf("2.3.10", "10.0"), originalStrings(trie.latestPerLine(ReleaseType.STABLE, 1)));
+    assertEquals(versionsOf("2.0.1", "2.1", "2.3.10", "3.0-alpha", "3.1-rc1", "10.0"),
+      originalStrings(trie.latestPerLine(2)));
+    assertEquals(versionsOf("3.1-rc1"), originalStrings(trie.latestPerLine(ReleaseType.RC, 2, 3)));
+    assertEquals(versionsOf("2", "2.0.1"), originalStrings(trie.latestPerLine(3, 2, 0)));
+    assertEquals(versionsOf("2"), originalStrings(trie.latestPerLine(ReleaseType.STABLE, 4, 2, 0, 0)));
+    assertEquals(versionsOf("10.0"), originalStrings(trie.latestPerLine(0)));
+  }
+
+  @Test
+  public void equalVersionsAreKeptInOrder() {
+    Version version = new Version("1.0-RC1");
+    Version equalVersion = new Version("1.0.0-rc1");
+    VersionTrie trie = new VersionTrie(Arrays.asList(new Version("1.0"), version, equalVersion, new Version("1")));
+    List<Version> versions = trie.withPrefix(1);
+    assertEquals(4, versions.size());
+    assertSame(version, versions.get(0));
+    assertSame(equalVersion, versions.get(1));
+    assertEquals("1.0", versions.get(2).getOriginalString());
+    assertEquals("1", versions.get(3).getOriginalString());
+    assertEquals("1", trie.latest(1).getOriginalString());
+  }
+
+  @Test
+  public void queriesMatchSortedVersionsRandom() {
+    Random random = new Random(42);
+    String[] suffixes = {"", "", "", "-rc1", "-rc2", "-beta", "-alpha2", "-SNAPSHOT", "-RC1"};
+    List<Version> versions = new ArrayList<>();
+    VersionTrie trie = new VersionTrie();
+    for (int i = 0; i < 5000; i++) {
+      StringBuilder sb = new StringBuilder().append(random.nextInt(4));
+      int length = random.nextInt(4);
+      for (int n = 0; n < length; n++) {
+        sb.append('.').append(random.nextInt(3));
+      }
+      Version version = new Version(sb.append(suffixes[random.nextInt(suffixes.length)]).toString());
+      versions.add(version);
+      trie.add(version);
+    }
+    List<Version> sorted = new ArrayList<>(versions);
+    Collections.sort(sorted);
+    assertEquals(sorted.size(), trie.size());
+
+    for (int i = 0; i < 500; i++) {
+      long[] prefix = new long[random.nextInt(5)];
+      for (int n = 0; n < prefix.length; n++) {
+        prefix[n] = random.nextInt(3);
+      }
+      ReleaseType minimum = ReleaseType.values()[random.nextInt(ReleaseType.values().length)];
+      List<Version> expected = new ArrayList<>();
+      for (Version version : sorted) {
+        if (startsWith(version, prefix)) expected.add(version);
+      }
+      String message = Arrays.toString(prefix);
+      assertIdentical(message, expected, trie.withPrefix(prefix));
+      assertEquals(message, expected.size(), trie.count(prefix));
+      assertSame(message, latest(expected, minimum), trie.latest(minimum, prefix));
+
+      int lineLength = prefix.length + random.nextInt(3);
+      List<Version> expectedLatestPerLine = new ArrayList<>();
+      for (int start = 0; start < expected.size(); ) {
+        int end = start + 1;
+        while (end < expected.size() && sameLine(expected.get(start), expected.get(end), lineLength)) end++;
+        Version latest = latest(expected.subList(start, end), minimum);
+        if (latest != null) expectedLatestPerLine.add(latest);
+        start = end;
+      }
+      assertIdentical(message + " " + lineLength, expectedLatestPerLine,
+        trie.latestPerLine(minimum, lineLength, prefix));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativePrefixIsArgumentIllegal() {
+    new VersionTrie().count(1, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shortLineLengthIsArgumentIllegal() {
+    new VersionTrie().latestPerLine(1, 2, 3);
+  }
+
+  private static VersionTrie trieOf(String... versionStrings) {
+    VersionTrie trie = new VersionTrie();
+    for (String versionString : versionStrings) {
+      trie.add(new Version(versionString));
+    }
+    return trie;
+  }
+
+  private static List<String> versionsOf(String... versionStrings) {
+    return Arrays.asList(versionStrings);
+  }
+
+  private static List<String> originalStrings(List<Version> versions) {
+    List<String> result = new ArrayList<>();
+    for (Version version : versions) {
+      result.add(version.getOriginalString());
+    }
+    return result;
+  }
+
+  private static long number(Version version, int index) {
+    List<Long> numbers = version.getSubversionNumbers();
+    return index < numbers.size() ? numbers.get(index) : 0;
+  }
+
+  private static boolean startsWith(Version version, long[] prefix) {
+    for (int i = 0; i < prefix.length; i++) {
+      if (number(version, i) != prefix[i]) return false;
+    }
+    return true;
+  }
+
+  private static boolean sameLine(Version a, Version b, int lineLength) {
+    for (int i = 0; i < lineLength; i++) {
+      if (number(a, i) != number(b, i)) return false;
+    }
+    return true;
+  }
+
+  private static Version latest(List<Version> ascending, ReleaseType minimum) {
+    for (int i = ascending.size() - 1; i >= 0; i--) {
+      if (ascending.get(i).getReleaseType().compareTo(minimum) >= 0) return ascending.get(i);
+    }
+    return null;
+  }
+
+  private static void assertIdentical(String message, List<Version> expected, List<Version> actual) {
+    assertEquals(message, expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(message, expected.get(i), actual.get(i));
+    }
+  }
+}
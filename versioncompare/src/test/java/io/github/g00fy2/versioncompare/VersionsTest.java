@@ -0,0 +1,136 @@
+package io.github.g00fy2.versioncompare;
+
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class VersionsTest {
+
+  @Test
+  public void sortIsCorrect() {
+    String[] versions = {"1.2", "1.10", "1.2.0", "1.2-rc1", null, "1.2-beta", "x", "1.1.9", "1.2.0.0"};
+    assertArrayEquals(new String[]{null, "x", "1.1.9", "1.2-beta", "1.2-rc1", "1.2", "1.2.0", "1.2.0.0", "1.10"},
+      Versions.sort(versions));
+    assertEquals(Arrays.asList("1.1.9", "1.2-beta", "1.2-rc1", "1.2", "1.10"),
+      Versions.sortDistinct(Arrays.asList("1.2", "1.10", "1.2.0", "1.2-rc1", "1.2-beta", "1.1.9", "1.2.0.0")));
+  }
+
+  @Test
+  public void sortMatchesCompareTo() {
+    List<String> versionStrings = randomVersionStrings(100000);
+
+    List<Version> versions = new ArrayList<>();
+    for (String versionString : versionStrings) {
+      versions.add(new Version(versionString));
+    }
+    Collections.sort(versions);
+    List<String> expected = new ArrayList<>();
+    for (Version version : versions) {
+      expected.add(version.getOriginalString());
+    }
+
+    assertEquals(expected, Versions.sort(versionStrings));
+    assertArrayEquals(expected.toArray(new String[0]), Versions.sort(versionStrings.toArray(new String[0])));
+  }
+
+  @Test
+  public void sortDistinctKeepsFirstOfEqualVersions() {
+    List<String> versionStrings = randomVersionStrings(100000);
+    List<String> sorted = Versions.sort(versionStrings);
+
+    List<String> expected = new ArrayList<>();
+    for (String versionString : sorted) {
+      if (expected.isEmpty() || !new Version(expected.get(expected.size() - 1)).isEqual(versionString)) {
+        expected.add(versionString);
+      }
+    }
+
+    assertEquals(expected, Versions.sortDistinct(versionStrings));
+  }
+
+  @Test
+  public void maxIsCorrect() {
+    assertEquals("1.10", Versions.max(Arrays.asList("1.2", "1.10", "1.2.0", null, "1.10.0", "x", "1.10-rc1")));
+    assertEquals("1.10-rc1", Versions.max(Arrays.asList("1.2", "1.10-rc1", "1.10-beta")));
+    StringBuilder highest = new StringBuilder("2");
+    assertSame(highest, Versions.max(Arrays.asList(new StringBuilder("1"), highest)));
+    assertNull(Versions.max(Arrays.asList(null, "x")));
+    assertNull(Versions.max(Collections.<String>emptyList()));
+    assertEquals("3.0", Versions.max(Stream.of("1.0", "3.0", "2.0")::iterator));
+  }
+
+  @Test
+  public void maxMatchesSort() {
+    List<String> versionStrings = randomVersionStrings(100000);
+    List<String> sorted = Versions.sort(versionStrings);
+    int first = sorted.size() - 1;
+    while (first > 0 && new Version(sorted.get(first - 1)).isEqual(sorted.get(first))) first--;
+    assertSame(sorted.get(first), Versions.max(versionStrings));
+  }
+
+  @Test
+  public void topKMatchesSort() {
+    List<String> versionStrings = randomVersionStrings(10000);
+    List<Version> versions = new ArrayList<>();
+    for (String versionString : versionStrings) {
+      versions.add(new Version(versionString));
+    }
+    versions.sort(Collections.reverseOrder());
+    for (int k : new int[]{0, 1, 7, 100, 20000}) {
+      List<String> expected = new ArrayList<>();
+      for (Version version : versions.subList(0, Math.min(k, versions.size()))) {
+        expected.add(version.getOriginalString());
+      }
+      List<String> actual = Versions.topK(versionStrings, k);
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertSame(expected.get(i), actual.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void maxDoesNotParseLowerVersions() {
+    List<String> versionStrings = new ArrayList<>();
+    versionStrings.add("2.0");
+    for (int i = 0; i < 1000; i++) {
+      versionStrings.add("1." + (999 - i) + "-rc1");
+    }
+    versionStrings.add("2.0.0.1");
+    VersionCounters counters = new VersionCounters();
+    Version.setMetrics(counters);
+    try {
+      assertEquals("2.0.0.1", Versions.max(versionStrings));
+      assertEquals(2, counters.getParseCount());
+      counters.reset();
+      assertEquals(Arrays.asList("2.0.0.1", "2.0", "1.999-rc1"), Versions.topK(versionStrings, 3));
+      assertEquals(4, counters.getParseCount());
+    } finally {
+      Version.setMetrics(null);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void topKIsArgumentIllegal() {
+    Versions.topK(Collections.singletonList("1.0"), -1);
+  }
+
+  private static List<String> randomVersionStrings(int count) {
+    Random random = new Random(42L);
+    String[] qualifiers = {"", "", "-rc1", "-rc2", "-beta", "-alpha", "-SNAPSHOT", ".0", "-xyz"};
+    List<String> versionStrings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      versionStrings.add(random.nextInt(5) + "." + random.nextInt(5) + qualifiers[random.nextInt(qualifiers.length)]);
+    }
+    return versionStrings;
+  }
+}